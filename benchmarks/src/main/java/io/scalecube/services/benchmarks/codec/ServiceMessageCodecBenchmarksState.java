@@ -6,16 +6,24 @@ import io.rsocket.Payload;
 import io.rsocket.util.ByteBufPayload;
 import io.scalecube.benchmarks.BenchmarksSettings;
 import io.scalecube.benchmarks.BenchmarksState;
+import io.scalecube.services.annotations.Service;
+import io.scalecube.services.annotations.ServiceMethod;
 import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.BinaryHeadersCodec;
 import io.scalecube.services.codec.DataCodec;
 import io.scalecube.services.codec.HeadersCodec;
 import io.scalecube.services.codec.ServiceMessageCodec;
+import io.scalecube.services.codec.generated.GeneratedCodec;
+import io.scalecube.services.codec.jackson.CborCodec;
 import io.scalecube.services.codec.jackson.JacksonCodec;
+import io.scalecube.services.codec.jackson.SmileCodec;
 import io.scalecube.services.codec.protostuff.ProtostuffCodec;
 import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import reactor.core.publisher.Mono;
 
 public class ServiceMessageCodecBenchmarksState
     extends BenchmarksState<ServiceMessageCodecBenchmarksState> {
@@ -25,6 +33,8 @@ public class ServiceMessageCodecBenchmarksState
   private DataCodec dataCodec;
   private ServiceMessage serviceMessage;
   private Payload payloadMessage;
+  private com.sun.management.ThreadMXBean threadMxBean;
+  private long allocatedBytesOverhead;
 
   /**
    * State for benchmarking {@link ServiceMessageCodec}.
@@ -42,9 +52,14 @@ public class ServiceMessageCodecBenchmarksState
 
   @Override
   protected void beforeAll() {
-    this.serviceMessageCodec = new ServiceMessageCodec(headersCodec);
+    boolean singleBuffer = Boolean.parseBoolean(settings.find("singleBuffer", "false"));
+    int dataCacheSize = Integer.parseInt(settings.find("dataCacheSize", "0"));
+    this.serviceMessageCodec =
+        new ServiceMessageCodec(headersCodec, singleBuffer, -1, dataCacheSize);
     this.serviceMessage = generateServiceMessage(generateData());
     this.payloadMessage = generatePayload(serviceMessage);
+    this.threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    this.allocatedBytesOverhead = measureAllocatedBytesOverhead();
   }
 
   public ServiceMessageCodec jacksonMessageCodec() {
@@ -71,6 +86,36 @@ public class ServiceMessageCodecBenchmarksState
     return ServiceMessage.from(serviceMessage).data(payloadMessage.sliceData()).build();
   }
 
+  /**
+   * Returns number of bytes allocated on heap by the current thread so far.
+   *
+   * @return allocated bytes
+   */
+  public long allocatedBytes() {
+    return threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Returns number of bytes allocated on heap by the current thread since the given {@link
+   * #allocatedBytes()} result, excluding cost of the measurement itself.
+   *
+   * @param allocatedBytes previous result of {@link #allocatedBytes()}
+   * @return allocated bytes
+   */
+  public long allocatedBytesSince(long allocatedBytes) {
+    return allocatedBytes() - allocatedBytes - allocatedBytesOverhead;
+  }
+
+  private long measureAllocatedBytesOverhead() {
+    long threadId = Thread.currentThread().getId();
+    long overhead = Long.MAX_VALUE;
+    for (int i = 0; i < 10_000; i++) {
+      long allocated = threadMxBean.getThreadAllocatedBytes(threadId);
+      overhead = Math.min(overhead, threadMxBean.getThreadAllocatedBytes(threadId) - allocated);
+    }
+    return overhead;
+  }
+
   private PlaceOrderRequest generateData() {
     PlaceOrderRequest result = new PlaceOrderRequest();
     result.orderType = "Sell";
@@ -119,15 +164,15 @@ public class ServiceMessageCodecBenchmarksState
   }
 
   public static class PlaceOrderRequest {
-    private String orderType;
-    private String side;
-    private String instanceId;
-    private BigDecimal quantity;
-    private BigDecimal price;
-    private boolean isClosePositionOrder;
-    private LocalDateTime requestTimestamp;
-    private String token;
-    private String sourceIpAddress;
+    String orderType;
+    String side;
+    String instanceId;
+    BigDecimal quantity;
+    BigDecimal price;
+    boolean isClosePositionOrder;
+    LocalDateTime requestTimestamp;
+    String token;
+    String sourceIpAddress;
 
     PlaceOrderRequest() {}
 
@@ -164,6 +209,17 @@ public class ServiceMessageCodecBenchmarksState
     }
   }
 
+  /**
+   * Declares {@link PlaceOrderRequest} as a request type, so that serializer of {@link
+   * GeneratedCodec} is generated for it.
+   */
+  @Service
+  interface PlaceOrderService {
+
+    @ServiceMethod
+    Mono<Void> placeOrder(PlaceOrderRequest request);
+  }
+
   public static class Jackson extends ServiceMessageCodecBenchmarksState {
 
     private static final JacksonCodec CODEC = new JacksonCodec();
@@ -181,4 +237,42 @@ public class ServiceMessageCodecBenchmarksState
       super(settings, CODEC, CODEC);
     }
   }
+
+  public static class BinaryHeaders extends ServiceMessageCodecBenchmarksState {
+
+    private static final JacksonCodec DATA_CODEC = new JacksonCodec();
+    private static final BinaryHeadersCodec HEADERS_CODEC = new BinaryHeadersCodec();
+
+    public BinaryHeaders(BenchmarksSettings settings) {
+      super(settings, DATA_CODEC, HEADERS_CODEC);
+    }
+  }
+
+  public static class Smile extends ServiceMessageCodecBenchmarksState {
+
+    private static final SmileCodec CODEC = new SmileCodec();
+
+    public Smile(BenchmarksSettings settings) {
+      super(settings, CODEC, CODEC);
+    }
+  }
+
+  public static class Cbor extends ServiceMessageCodecBenchmarksState {
+
+    private static final CborCodec CODEC = new CborCodec();
+
+    public Cbor(BenchmarksSettings settings) {
+      super(settings, CODEC, CODEC);
+    }
+  }
+
+  public static class Generated extends ServiceMessageCodecBenchmarksState {
+
+    private static final GeneratedCodec DATA_CODEC = new GeneratedCodec();
+    private static final BinaryHeadersCodec HEADERS_CODEC = new BinaryHeadersCodec();
+
+    public Generated(BenchmarksSettings settings) {
+      super(settings, DATA_CODEC, HEADERS_CODEC);
+    }
+  }
 }
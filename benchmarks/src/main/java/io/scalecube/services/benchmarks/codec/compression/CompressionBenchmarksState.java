@@ -0,0 +1,86 @@
+package io.scalecube.services.benchmarks.codec.compression;
+
+import io.scalecube.benchmarks.BenchmarksSettings;
+import io.scalecube.benchmarks.BenchmarksState;
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.ServiceMessageCodec;
+import io.scalecube.services.codec.jackson.JacksonCodec;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class CompressionBenchmarksState extends BenchmarksState<CompressionBenchmarksState> {
+
+  private static final String TICKS_COUNT = "20";
+  private static final String COMPRESSION_THRESHOLD = "0";
+
+  private ServiceMessageCodec messageCodec;
+  private ServiceMessage message;
+
+  /**
+   * State for benchmarking data compression of {@link ServiceMessageCodec}. Settings: {@code
+   * ticksCount} is number of ticks in market data snapshot, i.e. size of message data; {@code
+   * compressionThreshold} is passed to the codec, negative value disables compression.
+   *
+   * @param settings - setting of this benchmark test.
+   */
+  public CompressionBenchmarksState(BenchmarksSettings settings) {
+    super(settings);
+  }
+
+  @Override
+  protected void beforeAll() {
+    int ticksCount = Integer.parseInt(settings.find("ticksCount", TICKS_COUNT));
+    int compressionThreshold =
+        Integer.parseInt(settings.find("compressionThreshold", COMPRESSION_THRESHOLD));
+    this.messageCodec = new ServiceMessageCodec(new JacksonCodec(), false, compressionThreshold);
+    this.message =
+        ServiceMessage.builder()
+            .qualifier("io.scalecube.services.benchmarks/MarketDataService/snapshots")
+            .streamId("1")
+            .data(generateSnapshot(ticksCount))
+            .build();
+  }
+
+  public ServiceMessageCodec messageCodec() {
+    return messageCodec;
+  }
+
+  public ServiceMessage message() {
+    return message;
+  }
+
+  public Class<?> dataType() {
+    return MarketDataSnapshot.class;
+  }
+
+  private MarketDataSnapshot generateSnapshot(int ticksCount) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    MarketDataSnapshot snapshot = new MarketDataSnapshot();
+    snapshot.instrument = "BTC-USD";
+    snapshot.ticks = new ArrayList<>(ticksCount);
+    long timestamp = System.currentTimeMillis();
+    for (int i = 0; i < ticksCount; i++) {
+      Tick tick = new Tick();
+      tick.timestamp = timestamp + i;
+      tick.side = random.nextBoolean() ? "Buy" : "Sell";
+      tick.price = BigDecimal.valueOf(6400_00 + random.nextInt(100), 2);
+      tick.quantity = BigDecimal.valueOf(random.nextInt(10_000), 4);
+      snapshot.ticks.add(tick);
+    }
+    return snapshot;
+  }
+
+  public static class MarketDataSnapshot {
+    private String instrument;
+    private List<Tick> ticks;
+  }
+
+  public static class Tick {
+    private long timestamp;
+    private String side;
+    private BigDecimal price;
+    private BigDecimal quantity;
+  }
+}
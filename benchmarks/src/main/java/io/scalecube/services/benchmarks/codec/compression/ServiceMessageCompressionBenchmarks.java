@@ -0,0 +1,53 @@
+package io.scalecube.services.benchmarks.codec.compression;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import io.netty.buffer.ByteBuf;
+import io.rsocket.Payload;
+import io.rsocket.util.ByteBufPayload;
+import io.scalecube.benchmarks.BenchmarksSettings;
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.ServiceMessageCodec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes market data snapshot, reporting time of the round trip along with size of
+ * the data on the wire. Running it with {@code compressionThreshold=-1} and {@code
+ * compressionThreshold=0} for the same {@code ticksCount} gives CPU cost per saved byte, i.e.
+ * compression pays off on links slower than (saved bytes / extra time).
+ */
+public class ServiceMessageCompressionBenchmarks {
+
+  /**
+   * Main method.
+   *
+   * @param args - params of main method.
+   */
+  public static void main(String[] args) {
+    BenchmarksSettings settings =
+        BenchmarksSettings.from(args).durationUnit(TimeUnit.NANOSECONDS).build();
+    new CompressionBenchmarksState(settings)
+        .runForSync(
+            state -> {
+              Timer timer = state.timer("timer");
+              Histogram wireBytes = state.histogram("wire-bytes");
+              ServiceMessageCodec messageCodec = state.messageCodec();
+              ServiceMessage message = state.message();
+              Class<?> dataType = state.dataType();
+
+              return i -> {
+                Timer.Context timeContext = timer.time();
+                Payload payload = messageCodec.encodeAndTransform(message, ByteBufPayload::create);
+                wireBytes.update(payload.sliceData().readableBytes());
+                ByteBuf dataBuffer = payload.sliceData().retain();
+                ByteBuf headersBuffer = payload.sliceMetadata().retain();
+                ServiceMessage result =
+                    ServiceMessageCodec.decodeData(
+                        messageCodec.decode(dataBuffer, headersBuffer), dataType);
+                payload.release();
+                timeContext.stop();
+                return result;
+              };
+            });
+  }
+}
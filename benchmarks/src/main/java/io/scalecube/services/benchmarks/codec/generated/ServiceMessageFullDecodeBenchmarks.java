@@ -0,0 +1,44 @@
+package io.scalecube.services.benchmarks.codec.generated;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import io.netty.buffer.ByteBuf;
+import io.scalecube.benchmarks.BenchmarksSettings;
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.benchmarks.codec.ServiceMessageCodecBenchmarksState;
+import io.scalecube.services.codec.ServiceMessageCodec;
+import java.util.concurrent.TimeUnit;
+
+public class ServiceMessageFullDecodeBenchmarks {
+
+  /**
+   * Main method.
+   *
+   * @param args - params of main method.
+   */
+  public static void main(String[] args) {
+    BenchmarksSettings settings =
+        BenchmarksSettings.from(args).durationUnit(TimeUnit.NANOSECONDS).build();
+    new ServiceMessageCodecBenchmarksState.Generated(settings)
+        .runForSync(
+            state -> {
+              Timer timer = state.timer("timer");
+              Histogram allocations = state.histogram("allocated-bytes");
+              ServiceMessageCodec messageCodec = state.jacksonMessageCodec();
+              Class<?> dataType = state.dataType();
+
+              return i -> {
+                final long allocatedBytes = state.allocatedBytes();
+                Timer.Context timeContext = timer.time();
+                ByteBuf dataBuffer = state.dataBuffer().retain();
+                ByteBuf headersBuffer = state.headersBuffer().retain();
+                ServiceMessage message =
+                    ServiceMessageCodec.decodeData(
+                        messageCodec.decode(dataBuffer, headersBuffer), dataType);
+                timeContext.stop();
+                allocations.update(state.allocatedBytesSince(allocatedBytes));
+                return message;
+              };
+            });
+  }
+}
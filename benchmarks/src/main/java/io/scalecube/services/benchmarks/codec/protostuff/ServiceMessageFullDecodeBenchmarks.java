@@ -1,5 +1,6 @@
 package io.scalecube.services.benchmarks.codec.protostuff;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Timer;
 import io.netty.buffer.ByteBuf;
 import io.scalecube.benchmarks.BenchmarksSettings;
@@ -22,10 +23,12 @@ public class ServiceMessageFullDecodeBenchmarks {
         .runForSync(
             state -> {
               Timer timer = state.timer("timer");
+              Histogram allocations = state.histogram("allocated-bytes");
               ServiceMessageCodec messageCodec = state.jacksonMessageCodec();
               Class<?> dataType = state.dataType();
 
               return i -> {
+                final long allocatedBytes = state.allocatedBytes();
                 Timer.Context timeContext = timer.time();
                 ByteBuf dataBuffer = state.dataBuffer().retain();
                 ByteBuf headersBuffer = state.headersBuffer().retain();
@@ -33,6 +36,7 @@ public class ServiceMessageFullDecodeBenchmarks {
                     ServiceMessageCodec.decodeData(
                         messageCodec.decode(dataBuffer, headersBuffer), dataType);
                 timeContext.stop();
+                allocations.update(state.allocatedBytesSince(allocatedBytes));
                 return message;
               };
             });
@@ -1,5 +1,6 @@
 package io.scalecube.services.benchmarks.codec.protostuff;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Timer;
 import io.netty.buffer.ByteBuf;
 import io.netty.util.ReferenceCountUtil;
@@ -23,15 +24,19 @@ public class ServiceMessagePartialDecodeBenchmarks {
         .runForSync(
             state -> {
               Timer timer = state.timer("timer");
+              Histogram allocations = state.histogram("allocated-bytes");
               ServiceMessageCodec messageCodec = state.jacksonMessageCodec();
 
               return i -> {
+                final long allocatedBytes = state.allocatedBytes();
                 Timer.Context timeContext = timer.time();
                 ByteBuf dataBuffer = state.dataBuffer().retain();
                 ByteBuf headersBuffer = state.headersBuffer().retain();
                 ServiceMessage message = messageCodec.decode(dataBuffer, headersBuffer);
+                message.qualifier(); // as server does to dispatch the message
                 ReferenceCountUtil.release(message.data());
                 timeContext.stop();
+                allocations.update(state.allocatedBytesSince(allocatedBytes));
                 return message;
               };
             });
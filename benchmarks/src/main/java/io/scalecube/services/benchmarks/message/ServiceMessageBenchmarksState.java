@@ -0,0 +1,72 @@
+package io.scalecube.services.benchmarks.message;
+
+import io.scalecube.benchmarks.BenchmarksSettings;
+import io.scalecube.benchmarks.BenchmarksState;
+import io.scalecube.services.api.ServiceMessage;
+import java.lang.management.ManagementFactory;
+
+public class ServiceMessageBenchmarksState extends BenchmarksState<ServiceMessageBenchmarksState> {
+
+  static final String QUALIFIER = "io.scalecube.services.benchmarks/SomeBenchmarkService/benchmark";
+  static final String DATA = "data";
+
+  private ServiceMessage message;
+  private com.sun.management.ThreadMXBean threadMxBean;
+  private long allocatedBytesOverhead;
+
+  /**
+   * State for benchmarking {@link ServiceMessage} headers.
+   *
+   * @param settings - setting of this benchmark test.
+   */
+  public ServiceMessageBenchmarksState(BenchmarksSettings settings) {
+    super(settings);
+  }
+
+  @Override
+  protected void beforeAll() {
+    this.message =
+        ServiceMessage.builder()
+            .qualifier(QUALIFIER)
+            .streamId("1")
+            .dataFormat("application/json")
+            .data(DATA)
+            .build();
+    this.threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    this.allocatedBytesOverhead = measureAllocatedBytesOverhead();
+  }
+
+  public ServiceMessage message() {
+    return message;
+  }
+
+  /**
+   * Returns number of bytes allocated on heap by the current thread so far.
+   *
+   * @return allocated bytes
+   */
+  public long allocatedBytes() {
+    return threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Returns number of bytes allocated on heap by the current thread since the given {@link
+   * #allocatedBytes()} result, excluding cost of the measurement itself.
+   *
+   * @param allocatedBytes previous result of {@link #allocatedBytes()}
+   * @return allocated bytes
+   */
+  public long allocatedBytesSince(long allocatedBytes) {
+    return allocatedBytes() - allocatedBytes - allocatedBytesOverhead;
+  }
+
+  private long measureAllocatedBytesOverhead() {
+    long threadId = Thread.currentThread().getId();
+    long overhead = Long.MAX_VALUE;
+    for (int i = 0; i < 10_000; i++) {
+      long allocated = threadMxBean.getThreadAllocatedBytes(threadId);
+      overhead = Math.min(overhead, threadMxBean.getThreadAllocatedBytes(threadId) - allocated);
+    }
+    return overhead;
+  }
+}
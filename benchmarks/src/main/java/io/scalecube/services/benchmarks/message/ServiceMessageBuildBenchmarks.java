@@ -0,0 +1,42 @@
+package io.scalecube.services.benchmarks.message;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import io.scalecube.benchmarks.BenchmarksSettings;
+import io.scalecube.services.api.ServiceMessage;
+import java.util.concurrent.TimeUnit;
+
+/** Builds a message with qualifier, stream id and data format headers. */
+public class ServiceMessageBuildBenchmarks {
+
+  /**
+   * Main method.
+   *
+   * @param args - params of main method.
+   */
+  public static void main(String[] args) {
+    BenchmarksSettings settings =
+        BenchmarksSettings.from(args).durationUnit(TimeUnit.NANOSECONDS).build();
+    new ServiceMessageBenchmarksState(settings)
+        .runForSync(
+            state -> {
+              Timer timer = state.timer("timer");
+              Histogram allocations = state.histogram("allocated-bytes");
+
+              return i -> {
+                final long allocatedBytes = state.allocatedBytes();
+                Timer.Context timeContext = timer.time();
+                ServiceMessage result =
+                    ServiceMessage.builder()
+                        .qualifier(ServiceMessageBenchmarksState.QUALIFIER)
+                        .streamId("1")
+                        .dataFormat("application/json")
+                        .data(ServiceMessageBenchmarksState.DATA)
+                        .build();
+                timeContext.stop();
+                allocations.update(state.allocatedBytesSince(allocatedBytes));
+                return result;
+              };
+            });
+  }
+}
@@ -0,0 +1,37 @@
+package io.scalecube.services.benchmarks.message;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import io.scalecube.benchmarks.BenchmarksSettings;
+import io.scalecube.services.api.ServiceMessage;
+import java.util.concurrent.TimeUnit;
+
+/** Copies a message changing one header, the way responses are derived from requests. */
+public class ServiceMessageCopyBenchmarks {
+
+  /**
+   * Main method.
+   *
+   * @param args - params of main method.
+   */
+  public static void main(String[] args) {
+    BenchmarksSettings settings =
+        BenchmarksSettings.from(args).durationUnit(TimeUnit.NANOSECONDS).build();
+    new ServiceMessageBenchmarksState(settings)
+        .runForSync(
+            state -> {
+              Timer timer = state.timer("timer");
+              Histogram allocations = state.histogram("allocated-bytes");
+              ServiceMessage message = state.message();
+
+              return i -> {
+                final long allocatedBytes = state.allocatedBytes();
+                Timer.Context timeContext = timer.time();
+                ServiceMessage result = ServiceMessage.from(message).streamId("2").build();
+                timeContext.stop();
+                allocations.update(state.allocatedBytesSince(allocatedBytes));
+                return result;
+              };
+            });
+  }
+}
@@ -0,0 +1,41 @@
+package io.scalecube.services.benchmarks.message;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import io.scalecube.benchmarks.BenchmarksSettings;
+import io.scalecube.services.api.ServiceMessage;
+import java.util.concurrent.TimeUnit;
+
+/** Looks up qualifier, stream id, data format and a missing header of a message. */
+public class ServiceMessageLookupBenchmarks {
+
+  /**
+   * Main method.
+   *
+   * @param args - params of main method.
+   */
+  public static void main(String[] args) {
+    BenchmarksSettings settings =
+        BenchmarksSettings.from(args).durationUnit(TimeUnit.NANOSECONDS).build();
+    new ServiceMessageBenchmarksState(settings)
+        .runForSync(
+            state -> {
+              Timer timer = state.timer("timer");
+              Histogram allocations = state.histogram("allocated-bytes");
+              ServiceMessage message = state.message();
+
+              return i -> {
+                final long allocatedBytes = state.allocatedBytes();
+                Timer.Context timeContext = timer.time();
+                boolean found =
+                    message.qualifier() != null
+                        && message.streamId() != null
+                        && message.dataFormat() != null
+                        && message.header("missing") == null;
+                timeContext.stop();
+                allocations.update(state.allocatedBytesSince(allocatedBytes));
+                return found ? message : null;
+              };
+            });
+  }
+}
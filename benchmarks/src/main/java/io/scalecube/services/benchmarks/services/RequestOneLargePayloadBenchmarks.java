@@ -0,0 +1,37 @@
+package io.scalecube.services.benchmarks.services;
+
+import com.codahale.metrics.Timer;
+import io.scalecube.benchmarks.BenchmarksSettings;
+import java.util.Arrays;
+
+public class RequestOneLargePayloadBenchmarks {
+
+  /**
+   * Main method. Setting {@code payloadSize} is size of the echoed string in bytes, 1 KB by default
+   * (e.g. {@code payloadSize=8388608} for 8 MB). Setting {@code fragmentSize} turns on
+   * fragmentation of messages.
+   *
+   * @param args - params of main method.
+   */
+  public static void main(String[] args) {
+    BenchmarksSettings settings = BenchmarksSettings.from(args).build();
+    int payloadSize = Integer.parseInt(settings.find("payloadSize", "1024"));
+    char[] chars = new char[payloadSize];
+    Arrays.fill(chars, 'a');
+    String payload = new String(chars);
+
+    new ServicesBenchmarksState(settings, new BenchmarkServiceImpl())
+        .runForSync(
+            state -> {
+              BenchmarkService benchmarkService = state.service(BenchmarkService.class);
+              Timer timer = state.timer("timer");
+
+              return i -> {
+                Timer.Context timeContext = timer.time();
+                String response = benchmarkService.requestOne(payload).block();
+                timeContext.stop();
+                return response;
+              };
+            });
+  }
+}
@@ -4,7 +4,13 @@ import io.scalecube.benchmarks.BenchmarksSettings;
 import io.scalecube.benchmarks.BenchmarksState;
 import io.scalecube.services.Microservices;
 import io.scalecube.services.ServiceCall;
+import io.scalecube.services.transport.api.IdleStrategy;
+import io.scalecube.services.transport.local.LocalServiceTransport;
+import io.scalecube.services.transport.rsocket.EventExecutorChooser;
+import io.scalecube.services.transport.rsocket.RSocketServiceTransport;
+import io.scalecube.services.transport.rsocket.RSocketTransportConfig;
 import java.time.Duration;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
@@ -27,12 +33,52 @@ public class ServicesBenchmarksState extends BenchmarksState<ServicesBenchmarksS
 
   @Override
   public void beforeAll() {
-    seed = Microservices.builder().metrics(settings.registry()).startAwait();
+    int fragmentSize = Integer.parseInt(settings.find("fragmentSize", "0"));
+    int minConnections = Integer.parseInt(settings.find("minConnections", "1"));
+    int maxConnections =
+        Integer.parseInt(
+            settings.find(
+                "maxConnections", String.valueOf(Runtime.getRuntime().availableProcessors())));
+    int flushConsolidation = Integer.parseInt(settings.find("flushConsolidation", "0"));
+    int sharedMemory = Integer.parseInt(settings.find("sharedMemory", "0"));
+    boolean domainSocket = Boolean.parseBoolean(settings.find("domainSocket", "false"));
+    boolean preferNative = Boolean.parseBoolean(settings.find("preferNative", "true"));
+    boolean localTransport = "local".equals(settings.find("transport", "rsocket"));
+    boolean serialization = Boolean.parseBoolean(settings.find("serialization", "false"));
+    IdleStrategy idleStrategy = idleStrategy(settings.find("idleStrategy", "blocking"));
+    Supplier<EventExecutorChooser> chooser = chooser(settings.find("workerThreadChooser", ""));
+    RSocketTransportConfig transportConfig =
+        RSocketTransportConfig.builder()
+            .preferNative(preferNative)
+            .fragmentSize(fragmentSize)
+            .flushConsolidation(flushConsolidation)
+            .sharedMemory(sharedMemory)
+            .domainSocket(domainSocket)
+            .eventExecutorChooser(chooser)
+            .build();
+
+    seed =
+        Microservices.builder()
+            .metrics(settings.registry())
+            .idleStrategy(idleStrategy)
+            .transport(
+                localTransport
+                    ? new LocalServiceTransport().serialization(serialization)
+                    : new RSocketServiceTransport(
+                        RSocketTransportConfig.from(transportConfig)
+                            .connectionPoolSize(minConnections, maxConnections)
+                            .build()))
+            .startAwait();
 
     node =
         Microservices.builder()
             .metrics(settings.registry())
+            .idleStrategy(idleStrategy)
             .seeds(seed.discovery().address())
+            .transport(
+                localTransport
+                    ? new LocalServiceTransport().serialization(serialization)
+                    : new RSocketServiceTransport(transportConfig))
             .services(services)
             .startAwait();
 
@@ -45,6 +91,34 @@ public class ServicesBenchmarksState extends BenchmarksState<ServicesBenchmarksS
             + seed.serviceRegistry().listServiceReferences());
   }
 
+  private static IdleStrategy idleStrategy(String name) {
+    switch (name) {
+      case "busySpin":
+        return IdleStrategy.busySpin();
+      case "backoff":
+        return IdleStrategy.backoff(100, 100, Duration.ofMillis(1));
+      case "blocking":
+        return null;
+      default:
+        throw new IllegalArgumentException("Unknown idle strategy: " + name);
+    }
+  }
+
+  private static Supplier<EventExecutorChooser> chooser(String name) {
+    switch (name) {
+      case "leastConnections":
+        return EventExecutorChooser::leastConnections;
+      case "leastPendingTasks":
+        return EventExecutorChooser::leastPendingTasks;
+      case "hashByRemoteAddress":
+        return EventExecutorChooser::hashByRemoteAddress;
+      case "":
+        return null;
+      default:
+        throw new IllegalArgumentException("Unknown worker thread chooser: " + name);
+    }
+  }
+
   @Override
   public void afterAll() {
     try {
@@ -0,0 +1,93 @@
+package io.scalecube.services.transport.local;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.DataCodec;
+import io.scalecube.services.exceptions.ConnectionClosedException;
+import io.scalecube.services.exceptions.MessageCodecException;
+import io.scalecube.services.transport.api.ClientChannel;
+import io.scalecube.transport.Address;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Channel to local server. Server is looked up on every request, so the channel keeps working
+ * across server restarts on the same address. Responses are handed over to the client worker
+ * thread through bounded queue of {@code publishOn}, which requests more from the server only as
+ * the client consumes them.
+ */
+final class LocalClientChannel implements ClientChannel {
+
+  private final Address address;
+  private final Scheduler scheduler;
+  private final boolean serialization;
+
+  LocalClientChannel(Address address, Scheduler scheduler, boolean serialization) {
+    this.address = address;
+    this.scheduler = scheduler;
+    this.serialization = serialization;
+  }
+
+  @Override
+  public Mono<Void> fireAndForget(ServiceMessage message) {
+    return server()
+        .doOnNext(server -> server.fireAndForget(encodeData(message)).subscribe())
+        .then();
+  }
+
+  @Override
+  public Mono<ServiceMessage> requestResponse(ServiceMessage message) {
+    return server()
+        .flatMap(server -> server.requestResponse(encodeData(message)))
+        .map(this::encodeData)
+        .publishOn(scheduler);
+  }
+
+  @Override
+  public Flux<ServiceMessage> requestStream(ServiceMessage message) {
+    return server()
+        .flatMapMany(server -> server.requestStream(encodeData(message)))
+        .map(this::encodeData)
+        .publishOn(scheduler);
+  }
+
+  @Override
+  public Flux<ServiceMessage> requestChannel(Publisher<ServiceMessage> publisher) {
+    return server()
+        .flatMapMany(server -> server.requestChannel(Flux.from(publisher).map(this::encodeData)))
+        .map(this::encodeData)
+        .publishOn(scheduler);
+  }
+
+  private Mono<LocalServerTransport> server() {
+    return Mono.defer(
+        () -> {
+          LocalServerTransport server = LocalServerTransport.find(address);
+          return server != null
+              ? Mono.just(server)
+              : Mono.error(new ConnectionClosedException("No local server bound on " + address));
+        });
+  }
+
+  /**
+   * Replaces message data with its encoded form if serialization is on. Receiving side decodes it
+   * as it would decode data received from network.
+   */
+  private ServiceMessage encodeData(ServiceMessage message) {
+    if (!serialization || !message.hasData() || message.hasData(ByteBuf.class)) {
+      return message;
+    }
+    ByteBuf buffer = ByteBufAllocator.DEFAULT.buffer();
+    try {
+      DataCodec.getInstance(message.dataFormatOrDefault()).encode(buffer, message.data());
+    } catch (Throwable ex) {
+      buffer.release();
+      throw new MessageCodecException(
+          "Failed to encode data on message q=" + message.qualifier(), ex);
+    }
+    return ServiceMessage.from(message).data(buffer).build();
+  }
+}
@@ -0,0 +1,34 @@
+package io.scalecube.services.transport.local;
+
+import io.scalecube.services.transport.api.ClientChannel;
+import io.scalecube.services.transport.api.ClientTransport;
+import io.scalecube.transport.Address;
+import java.util.concurrent.Executor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Local client transport. Creates channels to {@link LocalServerTransport} servers bound in the
+ * same JVM. Responses are delivered on worker thread pool of the client.
+ */
+public class LocalClientTransport implements ClientTransport {
+
+  private final Scheduler scheduler;
+  private final boolean serialization;
+
+  /**
+   * Constructor for this transport.
+   *
+   * @param workerThreadPool worker thread pool which delivers responses
+   * @param serialization whether to serialize message data
+   */
+  public LocalClientTransport(Executor workerThreadPool, boolean serialization) {
+    this.scheduler = Schedulers.fromExecutor(workerThreadPool);
+    this.serialization = serialization;
+  }
+
+  @Override
+  public ClientChannel create(Address address) {
+    return new LocalClientChannel(address, scheduler, serialization);
+  }
+}
@@ -0,0 +1,143 @@
+package io.scalecube.services.transport.local;
+
+import io.scalecube.services.HeadAndTail;
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.ServiceMessageCodec;
+import io.scalecube.services.exceptions.ExceptionProcessor;
+import io.scalecube.services.exceptions.ServiceUnavailableException;
+import io.scalecube.services.methods.ServiceMethodInvoker;
+import io.scalecube.services.methods.ServiceMethodRegistry;
+import io.scalecube.services.transport.api.ServerTransport;
+import io.scalecube.transport.Address;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Local server transport. Binding registers the server in JVM wide table of local servers, where
+ * {@link LocalClientTransport} finds it by address. Services are invoked on worker thread pool of
+ * the server.
+ */
+public class LocalServerTransport implements ServerTransport {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LocalServerTransport.class);
+
+  private static final Map<Address, LocalServerTransport> SERVERS = new ConcurrentHashMap<>();
+
+  // local servers don't occupy real ports, so port numbers are just unique keys of the table
+  private static final AtomicInteger PORT_COUNTER = new AtomicInteger();
+
+  private final Scheduler scheduler;
+
+  private ServiceMethodRegistry methodRegistry;
+  private Address address;
+
+  public LocalServerTransport(Executor workerThreadPool) {
+    this.scheduler = Schedulers.fromExecutor(workerThreadPool);
+  }
+
+  /**
+   * Finds local server bound on the given address.
+   *
+   * @param address server address
+   * @return server or null if there is no server bound on the address
+   */
+  static LocalServerTransport find(Address address) {
+    return SERVERS.get(address);
+  }
+
+  @Override
+  public InetSocketAddress bindAwait(
+      InetSocketAddress address, ServiceMethodRegistry methodRegistry) {
+    this.methodRegistry = methodRegistry;
+
+    String host = address.getHostString();
+    if (address.getPort() != 0) {
+      Address candidate = Address.create(host, address.getPort());
+      if (SERVERS.putIfAbsent(candidate, this) != null) {
+        throw new IllegalStateException("Local address is already in use: " + candidate);
+      }
+      this.address = candidate;
+    } else {
+      Address candidate;
+      do {
+        int port = 1 + Math.floorMod(PORT_COUNTER.getAndIncrement(), 0xFFFF);
+        candidate = Address.create(host, port);
+      } while (SERVERS.putIfAbsent(candidate, this) != null);
+      this.address = candidate;
+    }
+
+    LOGGER.info("Bound local server on {}", this.address);
+    return InetSocketAddress.createUnresolved(host, this.address.port());
+  }
+
+  @Override
+  public Mono<Void> stop() {
+    return Mono.fromRunnable(
+        () -> {
+          if (address != null && SERVERS.remove(address, this)) {
+            LOGGER.info("Unbound local server on {}", address);
+          }
+        });
+  }
+
+  Mono<Void> fireAndForget(ServiceMessage message) {
+    return Mono.defer(() -> invoker(message).invokeOne(message, ServiceMessageCodec::decodeData))
+        .subscribeOn(scheduler)
+        .then()
+        .onErrorResume(
+            t -> {
+              // there's no one to reply to, so error just gets logged
+              LOGGER.warn("Fire-and-forget request failed, cause: {}", t.toString());
+              return Mono.empty();
+            });
+  }
+
+  Mono<ServiceMessage> requestResponse(ServiceMessage message) {
+    return Mono.defer(() -> invoker(message).invokeOne(message, ServiceMessageCodec::decodeData))
+        .subscribeOn(scheduler)
+        .onErrorMap(ExceptionProcessor::mapException);
+  }
+
+  Flux<ServiceMessage> requestStream(ServiceMessage message) {
+    return Flux.defer(() -> invoker(message).invokeMany(message, ServiceMessageCodec::decodeData))
+        .subscribeOn(scheduler)
+        .onErrorMap(ExceptionProcessor::mapException);
+  }
+
+  Flux<ServiceMessage> requestChannel(Publisher<ServiceMessage> publisher) {
+    return Flux.from(HeadAndTail.createFrom(Flux.from(publisher).publishOn(scheduler)))
+        .flatMap(
+            pair -> {
+              ServiceMessage message = pair.head();
+              Flux<ServiceMessage> messages = Flux.from(pair.tail()).startWith(message);
+              return invoker(message)
+                  .invokeBidirectional(messages, ServiceMessageCodec::decodeData);
+            })
+        .subscribeOn(scheduler)
+        .onErrorMap(ExceptionProcessor::mapException);
+  }
+
+  private ServiceMethodInvoker invoker(ServiceMessage message) {
+    ServiceMethodInvoker invoker = methodRegistry.getInvoker(message.qualifier());
+    if (invoker == null) {
+      LOGGER.error(
+          "Failed to invoke service with args[{}], No service invoker found by qualifier: {}",
+          message,
+          message.qualifier());
+      throw new ServiceUnavailableException(
+          "No service invoker registered at service method registry by qualifier: "
+              + message.qualifier());
+    }
+    return invoker;
+  }
+}
@@ -0,0 +1,86 @@
+package io.scalecube.services.transport.local;
+
+import io.scalecube.services.transport.api.ClientTransport;
+import io.scalecube.services.transport.api.ServerTransport;
+import io.scalecube.services.transport.api.ServiceTransport;
+import io.scalecube.services.transport.api.WorkerThreadChooser;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-JVM service transport. Entry point for getting {@link LocalClientTransport} and {@link
+ * LocalServerTransport}. Service messages are passed between {@code Microservices} instances of
+ * the same JVM as objects, without network and (unless {@link #serialization(boolean)} is set)
+ * without encoding.
+ *
+ * <p>Worker thread pool of this transport is a plain executor, so gateways which need netty event
+ * loops can't be started along with it.
+ */
+public class LocalServiceTransport implements ServiceTransport {
+
+  private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+  private static final ThreadFactory WORKER_THREAD_FACTORY =
+      runnable -> {
+        Thread thread = new Thread(runnable, "local-worker-" + WORKER_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      };
+
+  private boolean serialization;
+
+  /**
+   * Sets whether message data is encoded and decoded (with data codec of the message data format)
+   * on its way between client and server. Caller and service then never share data objects, like
+   * with network transport, at the cost of encoding. Default is {@code false}.
+   *
+   * @param serialization whether to serialize message data
+   * @return this transport
+   */
+  public LocalServiceTransport serialization(boolean serialization) {
+    this.serialization = serialization;
+    return this;
+  }
+
+  @Override
+  public boolean isNativeSupported() {
+    return false;
+  }
+
+  @Override
+  public ClientTransport getClientTransport(Executor workerThreadPool) {
+    return new LocalClientTransport(workerThreadPool, serialization);
+  }
+
+  @Override
+  public ServerTransport getServerTransport(Executor workerThreadPool) {
+    return new LocalServerTransport(workerThreadPool);
+  }
+
+  /**
+   * Creates fixed thread pool which executes services and delivers their responses. Thread chooser
+   * is not used, as there are no connections to bind to worker threads.
+   *
+   * @param numOfThreads number of threads for worker thread pool
+   * @param workerThreadChooser ignored
+   * @return executor
+   */
+  @Override
+  public Executor getWorkerThreadPool(int numOfThreads, WorkerThreadChooser workerThreadChooser) {
+    return Executors.newFixedThreadPool(numOfThreads, WORKER_THREAD_FACTORY);
+  }
+
+  @Override
+  public Mono<Void> shutdown(Executor workerThreadPool) {
+    return Mono.fromRunnable(
+        () -> {
+          if (workerThreadPool instanceof ExecutorService) {
+            ((ExecutorService) workerThreadPool).shutdown();
+          }
+        });
+  }
+}
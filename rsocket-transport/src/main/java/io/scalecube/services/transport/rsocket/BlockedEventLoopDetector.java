@@ -0,0 +1,145 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Detects event loops blocked for too long, e.g. by a blocking service method which isn't assigned
+ * a scheduler. Watchdog thread keeps a heartbeat task queued to every event loop and, when the task
+ * hasn't run within the threshold, logs a warning with the current stack trace of the event loop
+ * thread, which shows what blocks it. Watchdog stops once the event loop group is shutting down, as
+ * heartbeat tasks would otherwise prolong its quiet period forever.
+ */
+final class BlockedEventLoopDetector {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BlockedEventLoopDetector.class);
+
+  private final EventLoopGroup eventLoopGroup;
+  private final long thresholdNanos;
+  private final Consumer<Exception> onBlocked;
+  private final Heartbeat[] heartbeats;
+  private final Thread thread;
+
+  private BlockedEventLoopDetector(
+      EventLoopGroup eventLoopGroup, Duration threshold, Consumer<Exception> onBlocked) {
+    this.eventLoopGroup = eventLoopGroup;
+    this.thresholdNanos = threshold.toNanos();
+    this.onBlocked = onBlocked;
+    this.heartbeats =
+        Arrays.stream(DefaultEventExecutorChooser.toArray(eventLoopGroup.iterator()))
+            .map(Heartbeat::new)
+            .toArray(Heartbeat[]::new);
+    this.thread = new Thread(this::run, "rsocket-blocked-event-loop-detector");
+    this.thread.setDaemon(true);
+  }
+
+  /**
+   * Starts detection of blocked event loops of the group.
+   *
+   * @param eventLoopGroup event loop group
+   * @param threshold max time of event loop running a single task or I/O
+   */
+  static void start(EventLoopGroup eventLoopGroup, Duration threshold) {
+    start(
+        eventLoopGroup, threshold, blocked -> LOGGER.warn("{}", blocked.getMessage(), blocked));
+  }
+
+  /**
+   * Starts detection of blocked event loops of the group.
+   *
+   * @param eventLoopGroup event loop group
+   * @param threshold max time of event loop running a single task or I/O
+   * @param onBlocked callback invoked with exception describing blocked event loop, which carries
+   *     current stack trace of the event loop thread
+   */
+  static void start(
+      EventLoopGroup eventLoopGroup, Duration threshold, Consumer<Exception> onBlocked) {
+    BlockedEventLoopDetector detector =
+        new BlockedEventLoopDetector(eventLoopGroup, threshold, onBlocked);
+    detector.thread.start();
+  }
+
+  private void run() {
+    long checkIntervalNanos = Math.max(thresholdNanos / 2, TimeUnit.MILLISECONDS.toNanos(1));
+    while (!eventLoopGroup.isShuttingDown()) {
+      long now = System.nanoTime();
+      for (Heartbeat heartbeat : heartbeats) {
+        heartbeat.check(now);
+      }
+      LockSupport.parkNanos(this, checkIntervalNanos);
+    }
+  }
+
+  private final class Heartbeat implements Runnable {
+
+    private final EventExecutor eventLoop;
+
+    private volatile boolean pending;
+    private volatile Thread eventLoopThread;
+
+    private long sentAt; // watchdog thread only
+    private boolean reported; // watchdog thread only
+
+    private Heartbeat(EventExecutor eventLoop) {
+      this.eventLoop = eventLoop;
+    }
+
+    @Override
+    public void run() {
+      eventLoopThread = Thread.currentThread();
+      pending = false;
+    }
+
+    private void check(long now) {
+      if (pending) {
+        if (!reported && now - sentAt > thresholdNanos) {
+          reported = true;
+          reportBlocked(now - sentAt);
+        }
+        return;
+      }
+      if (reported) {
+        reported = false;
+        LOGGER.warn(
+            "Event loop {} was blocked for about {} ms",
+            threadName(),
+            TimeUnit.NANOSECONDS.toMillis(now - sentAt));
+      }
+      sentAt = now;
+      pending = true;
+      try {
+        eventLoop.execute(this);
+      } catch (RejectedExecutionException ex) {
+        // event loop group is shutting down, watchdog stops on next check
+      }
+    }
+
+    private void reportBlocked(long blockedNanos) {
+      Thread thread = eventLoopThread;
+      Exception blocked =
+          new Exception(
+              "Event loop "
+                  + threadName()
+                  + " is blocked for more than "
+                  + TimeUnit.NANOSECONDS.toMillis(blockedNanos)
+                  + " ms");
+      if (thread != null) {
+        blocked.setStackTrace(thread.getStackTrace());
+      }
+      onBlocked.accept(blocked);
+    }
+
+    private String threadName() {
+      Thread thread = eventLoopThread;
+      return thread != null ? thread.getName() : eventLoop.toString();
+    }
+  }
+}
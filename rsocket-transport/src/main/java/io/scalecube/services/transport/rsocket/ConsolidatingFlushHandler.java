@@ -0,0 +1,129 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Consolidates flushes issued in the same event loop tick into one. While channel is being read
+ * flushes are deferred until read completes, otherwise until the task queued to the event loop by
+ * the first deferred flush runs. Either way, every {@code maxFlushes}-th flush goes through right
+ * away, which bounds number of frames waiting in the outbound buffer, and so does every flush or
+ * read coming after the first deferred flush has waited for {@code maxDelayNanos}, which bounds
+ * latency added to a frame during long reads (e.g. of a batch of small requests).
+ *
+ * <p>It's the same idea as netty's {@code FlushConsolidationHandler}, which in netty version used
+ * here may leave a flush pending forever when it's requested while its queued flush task runs.
+ */
+final class ConsolidatingFlushHandler extends ChannelDuplexHandler {
+
+  private final int maxFlushes;
+  private final long maxDelayNanos;
+  private final Runnable flushTask = this::flushQueued;
+
+  private ChannelHandlerContext ctx;
+  private int pendingFlushes;
+  private long firstPendingFlushNanos;
+  private boolean readInProgress;
+  private boolean flushQueued;
+
+  /**
+   * Constructor for this handler. Frame may wait for flush a bit longer than {@code maxDelayNanos}
+   * in the worst case: delay is checked on flushes and reads only, so the frame waits for the
+   * handling of read message in progress (or of the event loop tick if channel isn't read).
+   *
+   * @param maxFlushes max number of flushes consolidated into one
+   * @param maxDelayNanos max time the first of consolidated flushes is deferred for
+   */
+  ConsolidatingFlushHandler(int maxFlushes, long maxDelayNanos) {
+    this.maxFlushes = maxFlushes;
+    this.maxDelayNanos = maxDelayNanos;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) {
+    this.ctx = ctx;
+  }
+
+  @Override
+  public void flush(ChannelHandlerContext ctx) {
+    if (++pendingFlushes == 1) {
+      firstPendingFlushNanos = System.nanoTime();
+    }
+    if (pendingFlushes >= maxFlushes || isOverdue()) {
+      flushNow(ctx);
+    } else if (!readInProgress && !flushQueued) {
+      flushQueued = true;
+      ctx.channel().eventLoop().execute(flushTask);
+    }
+  }
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg) {
+    readInProgress = true;
+    if (pendingFlushes > 0 && isOverdue()) {
+      flushNow(ctx);
+    }
+    ctx.fireChannelRead(msg);
+  }
+
+  @Override
+  public void channelReadComplete(ChannelHandlerContext ctx) {
+    readInProgress = false;
+    flushIfNeeded(ctx);
+    ctx.fireChannelReadComplete();
+  }
+
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+    if (!ctx.channel().isWritable()) {
+      flushIfNeeded(ctx);
+    }
+    ctx.fireChannelWritabilityChanged();
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    flushIfNeeded(ctx);
+    ctx.fireExceptionCaught(cause);
+  }
+
+  @Override
+  public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) {
+    flushIfNeeded(ctx);
+    ctx.disconnect(promise);
+  }
+
+  @Override
+  public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+    flushIfNeeded(ctx);
+    ctx.close(promise);
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) {
+    flushIfNeeded(ctx);
+  }
+
+  private void flushQueued() {
+    flushQueued = false;
+    if (!readInProgress) {
+      flushIfNeeded(ctx);
+    }
+  }
+
+  private boolean isOverdue() {
+    return System.nanoTime() - firstPendingFlushNanos >= maxDelayNanos;
+  }
+
+  private void flushIfNeeded(ChannelHandlerContext ctx) {
+    if (pendingFlushes > 0) {
+      flushNow(ctx);
+    }
+  }
+
+  private void flushNow(ChannelHandlerContext ctx) {
+    pendingFlushes = 0;
+    ctx.flush();
+  }
+}
@@ -0,0 +1,79 @@
+package io.scalecube.services.transport.rsocket;
+
+import java.lang.reflect.Method;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread factory whose threads pin themselves to CPUs, one thread per CPU, with <a
+ * href="https://github.com/OpenHFT/Java-Thread-Affinity">Java-Thread-Affinity</a>. The library is
+ * an optional dependency looked up at runtime, threads run unpinned when it's not on the classpath.
+ */
+final class CpuAffinityThreadFactory extends NonBlockingThreadFactory {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CpuAffinityThreadFactory.class);
+
+  private static final String AFFINITY_LOCK_CLASS_NAME = "net.openhft.affinity.AffinityLock";
+
+  private static final Method ACQUIRE_LOCK;
+  private static final Method RELEASE;
+
+  static {
+    Method acquireLock = null;
+    Method release = null;
+    try {
+      Class<?> affinityLockClass = Class.forName(AFFINITY_LOCK_CLASS_NAME);
+      acquireLock = affinityLockClass.getMethod("acquireLock");
+      release = affinityLockClass.getMethod("release");
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      LOGGER.warn("Cannot load {}, threads won't be pinned to CPUs", AFFINITY_LOCK_CLASS_NAME);
+    }
+    ACQUIRE_LOCK = acquireLock;
+    RELEASE = release;
+  }
+
+  CpuAffinityThreadFactory(String poolName, boolean daemon) {
+    super(poolName, daemon);
+  }
+
+  @Override
+  protected Thread newThread(Runnable r, String name) {
+    return super.newThread(() -> runPinned(r), name);
+  }
+
+  private static void runPinned(Runnable r) {
+    Object lock = acquireLock();
+    try {
+      r.run();
+    } finally {
+      release(lock);
+    }
+  }
+
+  private static Object acquireLock() {
+    if (ACQUIRE_LOCK == null) {
+      return null;
+    }
+    try {
+      Object lock = ACQUIRE_LOCK.invoke(null);
+      LOGGER.debug("Thread {} acquired {}", Thread.currentThread().getName(), lock);
+      return lock;
+    } catch (Exception e) {
+      LOGGER.warn(
+          "Failed to pin thread {} to CPU, cause: {}",
+          Thread.currentThread().getName(),
+          e.toString());
+      return null;
+    }
+  }
+
+  private static void release(Object lock) {
+    if (lock != null) {
+      try {
+        RELEASE.invoke(lock);
+      } catch (Exception e) {
+        LOGGER.warn("Failed to release {}, cause: {}", lock, e.toString());
+      }
+    }
+  }
+}
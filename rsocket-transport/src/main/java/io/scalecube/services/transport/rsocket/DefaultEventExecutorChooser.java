@@ -21,13 +21,25 @@ public class DefaultEventExecutorChooser implements EventExecutorChooser {
     this.threadChooser = threadChooser;
   }
 
+  /**
+   * Collects event executors of the iterator into array.
+   *
+   * @param iterator event executors
+   * @return array of event executors
+   */
+  static EventExecutor[] toArray(Iterator<EventExecutor> iterator) {
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+        .toArray(EventExecutor[]::new);
+  }
+
   @Override
   public EventExecutor getEventExecutor(Channel channel, Iterator<EventExecutor> iterator) {
-    EventExecutor[] executors =
-        StreamSupport.stream(
-                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
-            .toArray(EventExecutor[]::new);
+    return getEventExecutor(channel, toArray(iterator));
+  }
 
+  @Override
+  public EventExecutor getEventExecutor(Channel channel, EventExecutor[] executors) {
     for (EventExecutor executor : executors) {
       if (executor.inEventLoop()) {
         return executor;
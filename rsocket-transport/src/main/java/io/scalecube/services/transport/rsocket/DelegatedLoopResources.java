@@ -4,6 +4,8 @@ import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.socket.DatagramChannel;
@@ -21,6 +23,7 @@ import reactor.ipc.netty.resources.LoopResources;
 public class DelegatedLoopResources implements LoopResources {
 
   private final boolean preferEpoll;
+  private final boolean domainSocket;
   private final EventLoopGroup bossGroup;
   private final EventLoopGroup workerGroup;
   private final AtomicBoolean running = new AtomicBoolean(true);
@@ -44,11 +47,34 @@ public class DelegatedLoopResources implements LoopResources {
    */
   public DelegatedLoopResources(
       boolean preferEpoll, EventLoopGroup bossGroup, EventLoopGroup workerGroup) {
+    this(preferEpoll, false, bossGroup, workerGroup);
+  }
+
+  private DelegatedLoopResources(
+      boolean preferEpoll,
+      boolean domainSocket,
+      EventLoopGroup bossGroup,
+      EventLoopGroup workerGroup) {
     this.preferEpoll = preferEpoll;
+    this.domainSocket = domainSocket;
     this.bossGroup = bossGroup;
     this.workerGroup = workerGroup;
   }
 
+  /**
+   * Returns loop resources on the same event loop groups, which choose unix domain socket channels
+   * instead of TCP ones. Domain sockets are supported with epoll only.
+   *
+   * @return domain socket loop resources
+   * @throws IllegalStateException if epoll is not preferred by this instance
+   */
+  public DelegatedLoopResources domainSocket() {
+    if (!preferEpoll) {
+      throw new IllegalStateException("Domain sockets require epoll");
+    }
+    return new DelegatedLoopResources(true, true, bossGroup, workerGroup);
+  }
+
   @Override
   public EventLoopGroup onClient(boolean useNative) {
     return workerGroup;
@@ -66,6 +92,9 @@ public class DelegatedLoopResources implements LoopResources {
 
   @Override
   public Class<? extends Channel> onChannel(EventLoopGroup group) {
+    if (domainSocket) {
+      return EpollDomainSocketChannel.class;
+    }
     return preferEpoll ? EpollSocketChannel.class : NioSocketChannel.class;
   }
 
@@ -76,6 +105,9 @@ public class DelegatedLoopResources implements LoopResources {
 
   @Override
   public Class<? extends ServerChannel> onServerChannel(EventLoopGroup group) {
+    if (domainSocket) {
+      return EpollServerDomainSocketChannel.class;
+    }
     return preferEpoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
   }
 
@@ -0,0 +1,73 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.logging.LoggingHandler;
+import java.net.SocketAddress;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.MonoSink;
+import reactor.ipc.netty.NettyContext;
+import reactor.ipc.netty.NettyInbound;
+import reactor.ipc.netty.NettyOutbound;
+import reactor.ipc.netty.channel.ChannelOperations;
+import reactor.ipc.netty.channel.ContextHandler;
+import reactor.ipc.netty.options.ClientOptions;
+import reactor.ipc.netty.tcp.TcpClient;
+
+/**
+ * TCP client which connects over unix domain sockets as well. Channel operations of {@link
+ * TcpClient} are created for {@link SocketChannel} only, which domain socket channel is not, so
+ * connection over domain socket never becomes active there.
+ */
+final class DomainSocketTcpClient extends TcpClient {
+
+  private static final LoggingHandler LOGGING_HANDLER = new LoggingHandler(TcpClient.class);
+
+  private final ClientOptions clientOptions;
+
+  /**
+   * Creates client with the given options, which are expected to set loop resources choosing
+   * domain socket channels (see {@link DelegatedLoopResources#domainSocket()}) and domain socket
+   * address to connect.
+   *
+   * @param options client options
+   */
+  DomainSocketTcpClient(Consumer<? super ClientOptions.Builder<?>> options) {
+    this(build(options));
+  }
+
+  private DomainSocketTcpClient(ClientOptions clientOptions) {
+    super(clientOptions);
+    this.clientOptions = clientOptions;
+  }
+
+  private static ClientOptions build(Consumer<? super ClientOptions.Builder<?>> options) {
+    ClientOptions.Builder<?> builder = ClientOptions.builder();
+    options.accept(builder);
+    // socket buffer sizes set by default are not supported by domain socket channels
+    builder.option(ChannelOption.SO_RCVBUF, null).option(ChannelOption.SO_SNDBUF, null);
+    return builder.build();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Override
+  protected ContextHandler<SocketChannel> doHandler(
+      BiFunction<? super NettyInbound, ? super NettyOutbound, ? extends Publisher<Void>> handler,
+      MonoSink<NettyContext> sink,
+      boolean secure,
+      SocketAddress providedAddress,
+      ChannelPool pool,
+      Consumer<? super Channel> onSetup) {
+    BiFunction<? super NettyInbound, ? super NettyOutbound, ? extends Publisher<Void>>
+        channelHandler = handler != null ? handler : ChannelOperations.noopHandler();
+    ChannelOperations.OnNew<Channel> onNew =
+        (channel, context, msg) -> ChannelOperations.bind(channel, channelHandler, context);
+    return (ContextHandler)
+        ContextHandler.newClientContext(
+            sink, clientOptions, LOGGING_HANDLER, secure, providedAddress, pool, onNew);
+  }
+}
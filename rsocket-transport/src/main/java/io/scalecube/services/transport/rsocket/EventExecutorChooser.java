@@ -3,6 +3,7 @@ package io.scalecube.services.transport.rsocket;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.EventExecutor;
+import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -23,6 +24,40 @@ public interface EventExecutorChooser {
         return null;
       };
 
+  /**
+   * Creates chooser which registers channel on the event loop with the least number of channels
+   * registered by this chooser. Chooser keeps state of one event loop group, so a new instance is
+   * needed for every group.
+   *
+   * @return event executor chooser
+   */
+  static EventExecutorChooser leastConnections() {
+    return new LeastConnectionsEventExecutorChooser();
+  }
+
+  /**
+   * Creates chooser which registers channel on the event loop with the least number of pending
+   * tasks, ties are broken by the number of channels registered by this chooser. Chooser keeps
+   * state of one event loop group, so a new instance is needed for every group.
+   *
+   * @return event executor chooser
+   */
+  static EventExecutorChooser leastPendingTasks() {
+    return new LeastPendingTasksEventExecutorChooser();
+  }
+
+  /**
+   * Creates chooser which registers channel on the event loop chosen by hash of its remote address
+   * (host, for IP addresses, since port of a client is ephemeral), so the same remote host always
+   * lands on the same event loop. Channels without remote address yet (i.e. outbound ones) are left
+   * to the event loop group.
+   *
+   * @return event executor chooser
+   */
+  static EventExecutorChooser hashByRemoteAddress() {
+    return new RemoteAddressHashEventExecutorChooser();
+  }
+
   /**
    * Gets an event executor for unregistered channel.
    *
@@ -31,4 +66,17 @@ public interface EventExecutorChooser {
    * @return chosen event loop for the cahnnel
    */
   EventExecutor getEventExecutor(Channel channel, Iterator<EventExecutor> iterator);
+
+  /**
+   * Gets an event executor for unregistered channel. Event loop groups call this method with the
+   * same array of their event loops every time, so implementations can choose without allocating.
+   * The array must not be modified.
+   *
+   * @param channel channel about to register
+   * @param executors available event loops
+   * @return chosen event loop for the channel
+   */
+  default EventExecutor getEventExecutor(Channel channel, EventExecutor[] executors) {
+    return getEventExecutor(channel, Arrays.asList(executors).iterator());
+  }
 }
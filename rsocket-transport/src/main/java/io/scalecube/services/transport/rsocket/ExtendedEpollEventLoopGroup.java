@@ -23,6 +23,7 @@ import java.util.concurrent.ThreadFactory;
 public class ExtendedEpollEventLoopGroup extends MultithreadEventLoopGroup {
 
   private final EventExecutorChooser eventExecutorChooser;
+  private final EventExecutor[] eventExecutors;
 
   /**
    * Constructor for event loop.
@@ -33,13 +34,31 @@ public class ExtendedEpollEventLoopGroup extends MultithreadEventLoopGroup {
    */
   public ExtendedEpollEventLoopGroup(
       int numOfThreads, ThreadFactory threadFactory, EventExecutorChooser eventExecutorChooser) {
+    this(
+        numOfThreads, threadFactory, eventExecutorChooser, DefaultSelectStrategyFactory.INSTANCE);
+  }
+
+  /**
+   * Constructor for event loop.
+   *
+   * @param numOfThreads number of worker threads
+   * @param threadFactory thread factory
+   * @param eventExecutorChooser executor chooser
+   * @param selectStrategyFactory select strategy factory of event loops
+   */
+  public ExtendedEpollEventLoopGroup(
+      int numOfThreads,
+      ThreadFactory threadFactory,
+      EventExecutorChooser eventExecutorChooser,
+      SelectStrategyFactory selectStrategyFactory) {
     super(
         numOfThreads,
         threadFactory,
         0,
-        DefaultSelectStrategyFactory.INSTANCE,
+        selectStrategyFactory,
         RejectedExecutionHandlers.reject());
     this.eventExecutorChooser = eventExecutorChooser;
+    this.eventExecutors = DefaultEventExecutorChooser.toArray(iterator());
   }
 
   @Override
@@ -67,7 +86,7 @@ public class ExtendedEpollEventLoopGroup extends MultithreadEventLoopGroup {
 
   @Override
   public ChannelFuture register(Channel channel) {
-    EventExecutor eventExecutor = eventExecutorChooser.getEventExecutor(channel, iterator());
+    EventExecutor eventExecutor = eventExecutorChooser.getEventExecutor(channel, eventExecutors);
     return eventExecutor != null
         ? ((EventLoop) eventExecutor).register(channel)
         : super.register(channel);
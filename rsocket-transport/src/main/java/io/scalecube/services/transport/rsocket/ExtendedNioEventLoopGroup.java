@@ -3,6 +3,7 @@ package io.scalecube.services.transport.rsocket;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultSelectStrategyFactory;
 import io.netty.channel.EventLoop;
 import io.netty.channel.SelectStrategy;
 import io.netty.channel.SelectStrategyFactory;
@@ -21,6 +22,7 @@ import java.util.concurrent.ThreadFactory;
 public class ExtendedNioEventLoopGroup extends NioEventLoopGroup {
 
   private final EventExecutorChooser eventExecutorChooser;
+  private final EventExecutor[] eventExecutors;
 
   /**
    * Constructor for event loop.
@@ -31,8 +33,26 @@ public class ExtendedNioEventLoopGroup extends NioEventLoopGroup {
    */
   public ExtendedNioEventLoopGroup(
       int numOfThreads, ThreadFactory threadFactory, EventExecutorChooser eventExecutorChooser) {
-    super(numOfThreads, threadFactory);
+    this(
+        numOfThreads, threadFactory, eventExecutorChooser, DefaultSelectStrategyFactory.INSTANCE);
+  }
+
+  /**
+   * Constructor for event loop.
+   *
+   * @param numOfThreads number of worker threads
+   * @param threadFactory thread factory
+   * @param eventExecutorChooser executor chooser
+   * @param selectStrategyFactory select strategy factory of event loops
+   */
+  public ExtendedNioEventLoopGroup(
+      int numOfThreads,
+      ThreadFactory threadFactory,
+      EventExecutorChooser eventExecutorChooser,
+      SelectStrategyFactory selectStrategyFactory) {
+    super(numOfThreads, threadFactory, SelectorProvider.provider(), selectStrategyFactory);
     this.eventExecutorChooser = eventExecutorChooser;
+    this.eventExecutors = DefaultEventExecutorChooser.toArray(iterator());
   }
 
   @Override
@@ -60,7 +80,7 @@ public class ExtendedNioEventLoopGroup extends NioEventLoopGroup {
 
   @Override
   public ChannelFuture register(Channel channel) {
-    EventExecutor eventExecutor = eventExecutorChooser.getEventExecutor(channel, iterator());
+    EventExecutor eventExecutor = eventExecutorChooser.getEventExecutor(channel, eventExecutors);
     return eventExecutor != null
         ? ((EventLoop) eventExecutor).register(channel)
         : super.register(channel);
@@ -0,0 +1,123 @@
+package io.scalecube.services.transport.rsocket;
+
+import static io.scalecube.services.api.ServiceMessage.HEADER_QUALIFIER_ID;
+import static io.scalecube.services.transport.rsocket.QualifierDictionary.MAX_SIZE;
+
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.exceptions.ServiceUnavailableException;
+import io.scalecube.services.methods.ServiceMethodInvoker;
+import io.scalecube.services.methods.ServiceMethodRegistry;
+
+/**
+ * Server side of per-connection qualifier dictionary, see {@link QualifierDictionary}. Resolves
+ * qualifier ids assigned by the client straight to {@link ServiceMethodInvoker} by array index.
+ */
+final class InvokerDictionary {
+
+  private final ServiceMethodRegistry methodRegistry;
+  private volatile ServiceMethodInvoker[] invokers = new ServiceMethodInvoker[16];
+
+  InvokerDictionary(ServiceMethodRegistry methodRegistry) {
+    this.methodRegistry = methodRegistry;
+  }
+
+  /**
+   * Returns invoker for the given request. Request which defines qualifier id (i.e. carries both
+   * qualifier and its id) registers the invoker under that id.
+   *
+   * @param request request message
+   * @return service method invoker
+   * @throws ServiceUnavailableException if there is no invoker for the request
+   */
+  ServiceMethodInvoker invoker(ServiceMessage request) {
+    String qualifier = request.qualifier();
+    int id = qualifierId(request);
+
+    if (qualifier != null) {
+      ServiceMethodInvoker invoker = methodRegistry.getInvoker(qualifier);
+      if (invoker == null) {
+        throw new ServiceUnavailableException(
+            "No service invoker registered at service method registry by qualifier: "
+                + qualifier);
+      }
+      if (id >= 0) {
+        register(id, invoker);
+      }
+      return invoker;
+    }
+
+    ServiceMethodInvoker[] array = invokers;
+    ServiceMethodInvoker invoker = id >= 0 && id < array.length ? array[id] : null;
+    if (invoker == null) {
+      throw new ServiceUnavailableException(
+          "No service invoker registered at connection by qualifier id: "
+              + request.header(HEADER_QUALIFIER_ID));
+    }
+    return invoker;
+  }
+
+  /**
+   * Restores qualifier of the request sent with qualifier id only.
+   *
+   * @param request request message
+   * @param invoker invoker resolved for the request
+   * @return request message with qualifier
+   */
+  ServiceMessage restore(ServiceMessage request, ServiceMethodInvoker invoker) {
+    if (request.qualifier() != null) {
+      return request;
+    }
+    return QualifierDictionary.replaceHeader(
+        request,
+        HEADER_QUALIFIER_ID,
+        ServiceMessage.HEADER_QUALIFIER,
+        invoker.methodInfo().qualifier());
+  }
+
+  /**
+   * Replaces qualifier of the response with qualifier id of the request, which also confirms the
+   * id to the client. Responses with other qualifiers (e.g. errors) are left as is.
+   *
+   * @param request request message
+   * @param invoker invoker resolved for the request
+   * @param response response message
+   * @return response message to be sent
+   */
+  ServiceMessage compress(
+      ServiceMessage request, ServiceMethodInvoker invoker, ServiceMessage response) {
+    if (qualifierId(request) < 0
+        || !invoker.methodInfo().qualifier().equals(response.qualifier())) {
+      return response;
+    }
+    return QualifierDictionary.replaceHeader(
+        response,
+        ServiceMessage.HEADER_QUALIFIER,
+        HEADER_QUALIFIER_ID,
+        request.header(HEADER_QUALIFIER_ID));
+  }
+
+  private synchronized void register(int id, ServiceMethodInvoker invoker) {
+    ServiceMethodInvoker[] array = invokers;
+    if (id >= array.length) {
+      ServiceMethodInvoker[] newArray =
+          new ServiceMethodInvoker[Math.min(Integer.highestOneBit(id) << 1, MAX_SIZE)];
+      System.arraycopy(array, 0, newArray, 0, array.length);
+      array = newArray;
+    }
+    array[id] = invoker;
+    invokers = array;
+  }
+
+  private static int qualifierId(ServiceMessage request) {
+    String qid = request.header(HEADER_QUALIFIER_ID);
+    if (qid == null) {
+      return -1;
+    }
+    try {
+      int id = Integer.parseInt(qid);
+      return id < MAX_SIZE ? id : -1;
+    } catch (NumberFormatException ex) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.util.concurrent.EventExecutor;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses event loop with the least number of channels. Channel is counted when it's registered
+ * and discounted when it's closed, so channels registered in a burst are spread evenly before any
+ * of them becomes active. Event loop of the calling thread is chosen first, as by {@link
+ * EventExecutorChooser#DEFAULT_INSTANCE}.
+ */
+class LeastConnectionsEventExecutorChooser implements EventExecutorChooser {
+
+  private final Map<EventExecutor, AtomicInteger> connections = new ConcurrentHashMap<>();
+
+  private final ChannelFutureListener onClose =
+      future -> connections(future.channel().eventLoop()).decrementAndGet();
+
+  @Override
+  public EventExecutor getEventExecutor(Channel channel, Iterator<EventExecutor> iterator) {
+    return getEventExecutor(channel, DefaultEventExecutorChooser.toArray(iterator));
+  }
+
+  @Override
+  public EventExecutor getEventExecutor(Channel channel, EventExecutor[] executors) {
+    EventExecutor chosen = null;
+    long minLoad = Long.MAX_VALUE;
+    for (EventExecutor executor : executors) {
+      if (executor.inEventLoop()) {
+        chosen = executor;
+        break;
+      }
+      long load = load(executor);
+      if (load < minLoad) {
+        chosen = executor;
+        minLoad = load;
+      }
+    }
+    if (chosen != null) {
+      connections(chosen).incrementAndGet();
+      channel.closeFuture().addListener(onClose);
+    }
+    return chosen;
+  }
+
+  /**
+   * Returns load of the event loop, the least loaded one is chosen.
+   *
+   * @param executor event loop
+   * @return load
+   */
+  long load(EventExecutor executor) {
+    return connections(executor).get();
+  }
+
+  private AtomicInteger connections(EventExecutor executor) {
+    return connections.computeIfAbsent(executor, key -> new AtomicInteger());
+  }
+}
@@ -0,0 +1,20 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+/**
+ * Chooses event loop with the least number of pending tasks, i.e. the least busy one at the
+ * moment. Ties (e.g. all event loops are idle) are broken by the number of channels.
+ */
+final class LeastPendingTasksEventExecutorChooser extends LeastConnectionsEventExecutorChooser {
+
+  @Override
+  long load(EventExecutor executor) {
+    long pendingTasks =
+        executor instanceof SingleThreadEventExecutor
+            ? ((SingleThreadEventExecutor) executor).pendingTasks()
+            : 0;
+    return pendingTasks << Integer.SIZE | super.load(executor);
+  }
+}
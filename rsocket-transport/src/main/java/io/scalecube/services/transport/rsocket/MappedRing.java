@@ -0,0 +1,174 @@
+package io.scalecube.services.transport.rsocket;
+
+import static org.jctools.util.UnsafeAccess.UNSAFE;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.util.internal.PlatformDependent;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.function.Consumer;
+
+/**
+ * Single-producer/single-consumer ring buffer of length prefixed records in a memory-mapped file,
+ * shared by two processes (or two threads of one process). Producer and consumer positions grow
+ * monotonically and live in separate cache lines of the file header, data region follows the
+ * header. Record which doesn't fit before the end of data region is preceded by padding record and
+ * written at its start, so every record is contiguous.
+ */
+final class MappedRing {
+
+  private static final int TAIL_OFFSET = 0; // written by producer
+  private static final int HEAD_OFFSET = 64; // written by consumer
+  private static final int CLOSED_OFFSET = 128;
+  private static final int CAPACITY_OFFSET = 192;
+  private static final int HEADER_LENGTH = 256;
+
+  private static final int RECORD_HEADER_LENGTH = 8;
+  private static final int PADDING = -1;
+
+  private final MappedByteBuffer buffer;
+  private final long address;
+  private final ByteBuf data;
+  private final int capacity;
+  private final int mask;
+
+  private MappedRing(MappedByteBuffer buffer) {
+    this.buffer = buffer;
+    this.address = PlatformDependent.directBufferAddress(buffer);
+    this.capacity = UNSAFE.getIntVolatile(null, address + CAPACITY_OFFSET);
+    this.mask = capacity - 1;
+    buffer.position(HEADER_LENGTH);
+    this.data = Unpooled.wrappedBuffer(buffer.slice());
+    buffer.position(0);
+  }
+
+  /**
+   * Creates file of the ring and maps it.
+   *
+   * @param file ring file
+   * @param capacity capacity of data region, power of two
+   * @return ring
+   * @throws IOException if file can't be created or mapped
+   */
+  static MappedRing create(File file, int capacity) throws IOException {
+    MappedByteBuffer buffer = map(file, HEADER_LENGTH + capacity);
+    long address = PlatformDependent.directBufferAddress(buffer);
+    UNSAFE.putIntVolatile(null, address + CAPACITY_OFFSET, capacity);
+    return new MappedRing(buffer);
+  }
+
+  /**
+   * Maps file of the ring created by the other side.
+   *
+   * @param file ring file
+   * @return ring
+   * @throws IOException if file can't be mapped
+   */
+  static MappedRing open(File file) throws IOException {
+    return new MappedRing(map(file, (int) file.length()));
+  }
+
+  private static MappedByteBuffer map(File file, int length) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        FileChannel channel = raf.getChannel()) {
+      raf.setLength(length);
+      return channel.map(MapMode.READ_WRITE, 0, length);
+    }
+  }
+
+  /**
+   * Returns max length of record, which is half of the capacity (minus record header), so that
+   * record with padding in front of it always fits into empty ring.
+   *
+   * @return max record length
+   */
+  int maxLength() {
+    return (capacity >> 1) - RECORD_HEADER_LENGTH;
+  }
+
+  /**
+   * Writes readable bytes of the buffer as one record. Must be called by producer only.
+   *
+   * @param source record content, its reader index is left as is
+   * @return false if there is no space for the record
+   */
+  boolean write(ByteBuf source) {
+    int length = source.readableBytes();
+    int recordLength = align(RECORD_HEADER_LENGTH + length);
+    long tail = UNSAFE.getLong(null, address + TAIL_OFFSET);
+    long head = UNSAFE.getLongVolatile(null, address + HEAD_OFFSET);
+
+    int index = (int) tail & mask;
+    int toEnd = capacity - index;
+    int required = recordLength <= toEnd ? recordLength : toEnd + recordLength;
+    if (capacity - (tail - head) < required) {
+      return false;
+    }
+
+    if (recordLength > toEnd) {
+      data.setInt(index, PADDING);
+      tail += toEnd;
+      index = 0;
+    }
+    data.setInt(index, length);
+    data.setBytes(index + RECORD_HEADER_LENGTH, source, source.readerIndex(), length);
+    UNSAFE.putOrderedLong(null, address + TAIL_OFFSET, tail + recordLength);
+    return true;
+  }
+
+  /**
+   * Reads available records, copying each into a new buffer. Must be called by consumer only.
+   *
+   * @param allocator allocator of record buffers
+   * @param consumer consumer of record buffers, space of a record is released before it's called
+   * @param limit max number of records to read
+   * @return number of records read
+   */
+  int read(ByteBufAllocator allocator, Consumer<ByteBuf> consumer, int limit) {
+    long head = UNSAFE.getLong(null, address + HEAD_OFFSET);
+    long tail = UNSAFE.getLongVolatile(null, address + TAIL_OFFSET);
+    int count = 0;
+
+    while (head < tail && count < limit) {
+      int index = (int) head & mask;
+      int length = data.getInt(index);
+      if (length == PADDING) {
+        head += capacity - index;
+        continue;
+      }
+      ByteBuf record = allocator.buffer(length);
+      record.writeBytes(data, index + RECORD_HEADER_LENGTH, length);
+      head += align(RECORD_HEADER_LENGTH + length);
+      UNSAFE.putOrderedLong(null, address + HEAD_OFFSET, head);
+      count++;
+      consumer.accept(record);
+    }
+
+    UNSAFE.putOrderedLong(null, address + HEAD_OFFSET, head);
+    return count;
+  }
+
+  /** Marks the ring as closed, which is seen by both sides. */
+  void close() {
+    UNSAFE.putIntVolatile(null, address + CLOSED_OFFSET, 1);
+  }
+
+  boolean isClosed() {
+    return UNSAFE.getIntVolatile(null, address + CLOSED_OFFSET) != 0;
+  }
+
+  /** Unmaps the file. The ring must not be accessed afterwards. */
+  void unmap() {
+    PlatformDependent.freeDirectBuffer(buffer);
+  }
+
+  private static int align(int length) {
+    return (length + RECORD_HEADER_LENGTH - 1) & -RECORD_HEADER_LENGTH;
+  }
+}
@@ -0,0 +1,29 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.FastThreadLocalThread;
+import reactor.core.scheduler.NonBlocking;
+
+/**
+ * Thread factory of I/O threads, which must never block. Threads are marked {@link NonBlocking},
+ * so that {@link reactor.core.scheduler.Schedulers#isInNonBlockingThread()} tells them apart and
+ * {@code block()} of reactor fails on them rather than stalling every connection of the thread.
+ */
+class NonBlockingThreadFactory extends DefaultThreadFactory {
+
+  NonBlockingThreadFactory(String poolName, boolean daemon) {
+    super(poolName, daemon);
+  }
+
+  @Override
+  protected Thread newThread(Runnable r, String name) {
+    return new NonBlockingThread(threadGroup, r, name);
+  }
+
+  static final class NonBlockingThread extends FastThreadLocalThread implements NonBlocking {
+
+    NonBlockingThread(ThreadGroup group, Runnable target, String name) {
+      super(group, target, name);
+    }
+  }
+}
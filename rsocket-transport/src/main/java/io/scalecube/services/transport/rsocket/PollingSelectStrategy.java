@@ -0,0 +1,64 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.channel.SelectStrategy;
+import io.netty.channel.SelectStrategyFactory;
+import io.netty.util.IntSupplier;
+import io.scalecube.services.transport.api.IdleStrategy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Select strategy which makes event loop poll I/O without blocking in the OS, backing off as
+ * {@link IdleStrategy} tells when there is nothing to do. Every iteration of event loop selects
+ * ready channels without waiting and then processes them along with tasks, so wake-ups of event
+ * loop by other threads are not needed. Strategy is stateful, one per event loop.
+ */
+final class PollingSelectStrategy implements SelectStrategy {
+
+  private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+
+  private final IdleStrategy idleStrategy;
+
+  private long idleCount; // event loop thread only
+  private long parkNanos = MIN_PARK_NANOS; // event loop thread only
+
+  private PollingSelectStrategy(IdleStrategy idleStrategy) {
+    this.idleStrategy = idleStrategy;
+  }
+
+  /**
+   * Returns factory of strategies polling with the given idle strategy.
+   *
+   * @param idleStrategy idle strategy
+   * @return select strategy factory
+   */
+  static SelectStrategyFactory factory(IdleStrategy idleStrategy) {
+    return () -> new PollingSelectStrategy(idleStrategy);
+  }
+
+  @Override
+  public int calculateStrategy(IntSupplier selectSupplier, boolean hasTasks) throws Exception {
+    int readyCount = selectSupplier.get();
+    if (readyCount > 0 || hasTasks) {
+      idleCount = 0;
+      parkNanos = MIN_PARK_NANOS;
+      return readyCount;
+    }
+    idle();
+    // not CONTINUE, so that event loop still runs scheduled tasks which are due
+    return 0;
+  }
+
+  private void idle() {
+    idleCount++;
+    if (idleCount <= idleStrategy.spins() || idleStrategy.maxParkNanos() == 0) {
+      return; // busy spin strategy never parks
+    }
+    if (idleCount <= (long) idleStrategy.spins() + idleStrategy.yields()) {
+      Thread.yield();
+      return;
+    }
+    LockSupport.parkNanos(this, parkNanos);
+    parkNanos = Math.min(parkNanos << 1, idleStrategy.maxParkNanos());
+  }
+}
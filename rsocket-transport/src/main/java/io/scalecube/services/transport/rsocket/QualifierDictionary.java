@@ -0,0 +1,131 @@
+package io.scalecube.services.transport.rsocket;
+
+import static io.scalecube.services.api.ServiceMessage.HEADER_QUALIFIER_ID;
+
+import io.scalecube.services.api.ServiceMessage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Client side of per-connection qualifier dictionary. Every qualifier sent over connection gets a
+ * small integer id. Until server confirms the id (by echoing {@link #HEADER_QUALIFIER_ID} in a
+ * response) requests carry both qualifier and its id, afterwards only the id is sent. Servers which
+ * don't support the dictionary never confirm ids, so they keep receiving full qualifiers.
+ */
+final class QualifierDictionary {
+
+  /** Max number of qualifiers per connection, qualifiers beyond it are always sent in full. */
+  static final int MAX_SIZE = 1024;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private volatile Entry[] entriesById = new Entry[16];
+  private int size; // guarded by this
+
+  /**
+   * Replaces qualifier of the request with qualifier id when possible.
+   *
+   * @param request request message
+   * @return request message to be sent
+   */
+  ServiceMessage compress(ServiceMessage request) {
+    String qualifier = request.qualifier();
+    if (qualifier == null) {
+      return request;
+    }
+    Entry entry = entries.get(qualifier);
+    if (entry == null) {
+      entry = register(qualifier);
+      if (entry == null) {
+        return request;
+      }
+    }
+    if (entry.acknowledged) {
+      return replaceHeader(
+          request, ServiceMessage.HEADER_QUALIFIER, HEADER_QUALIFIER_ID, entry.idAsString);
+    }
+    if (entry.idAsString.equals(request.header(HEADER_QUALIFIER_ID))) {
+      return request;
+    }
+    return ServiceMessage.from(request).header(HEADER_QUALIFIER_ID, entry.idAsString).build();
+  }
+
+  /**
+   * Restores qualifier of the response sent with qualifier id and marks this id as known to the
+   * server.
+   *
+   * @param response response message
+   * @return response message with qualifier
+   */
+  ServiceMessage restore(ServiceMessage response) {
+    String qid = response.header(HEADER_QUALIFIER_ID);
+    if (qid == null) {
+      return response;
+    }
+    Entry entry = entryOf(qid);
+    if (entry == null) {
+      return response;
+    }
+    entry.acknowledged = true;
+    return replaceHeader(
+        response, HEADER_QUALIFIER_ID, ServiceMessage.HEADER_QUALIFIER, entry.qualifier);
+  }
+
+  private synchronized Entry register(String qualifier) {
+    Entry entry = entries.get(qualifier);
+    if (entry != null || size == MAX_SIZE) {
+      return entry;
+    }
+    entry = new Entry(size, qualifier);
+    Entry[] array = entriesById;
+    if (size == array.length) {
+      Entry[] newArray = new Entry[Math.min(array.length << 1, MAX_SIZE)];
+      System.arraycopy(array, 0, newArray, 0, array.length);
+      array = newArray;
+    }
+    array[size++] = entry;
+    entriesById = array;
+    entries.put(qualifier, entry);
+    return entry;
+  }
+
+  private Entry entryOf(String qid) {
+    int id;
+    try {
+      id = Integer.parseInt(qid);
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+    Entry[] array = entriesById;
+    return id >= 0 && id < array.length ? array[id] : null;
+  }
+
+  /**
+   * Replaces one header of the message with another one. Headers of the message are copied only
+   * when they actually change, the data is shared.
+   *
+   * @param message message
+   * @param oldName name of the header to remove
+   * @param newName name of the header to set
+   * @param newValue value of the header to set
+   * @return message with replaced header
+   */
+  static ServiceMessage replaceHeader(
+      ServiceMessage message, String oldName, String newName, String newValue) {
+    if (!message.headers().containsKey(oldName) && newValue.equals(message.header(newName))) {
+      return message;
+    }
+    return ServiceMessage.from(message).removeHeader(oldName).header(newName, newValue).build();
+  }
+
+  private static final class Entry {
+
+    private final String idAsString;
+    private final String qualifier;
+    private volatile boolean acknowledged;
+
+    private Entry(int id, String qualifier) {
+      this.idAsString = Integer.toString(id);
+      this.qualifier = qualifier;
+    }
+  }
+}
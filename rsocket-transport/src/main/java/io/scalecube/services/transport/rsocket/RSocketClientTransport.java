@@ -1,18 +1,30 @@
 package io.scalecube.services.transport.rsocket;
 
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.util.concurrent.EventExecutor;
 import io.rsocket.RSocket;
 import io.rsocket.RSocketFactory;
 import io.rsocket.transport.netty.client.TcpClientTransport;
 import io.rsocket.util.ByteBufPayload;
+import io.scalecube.services.api.ServiceMessage;
 import io.scalecube.services.codec.ServiceMessageCodec;
 import io.scalecube.services.transport.api.ClientChannel;
 import io.scalecube.services.transport.api.ClientTransport;
 import io.scalecube.transport.Address;
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.ipc.netty.options.ClientOptions;
 import reactor.ipc.netty.resources.LoopResources;
 import reactor.ipc.netty.tcp.TcpClient;
 
@@ -21,11 +33,20 @@ public class RSocketClientTransport implements ClientTransport {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RSocketClientTransport.class);
 
-  private final ThreadLocal<Map<Address, Mono<RSocket>>> rsockets =
-      ThreadLocal.withInitial(ConcurrentHashMap::new);
+  private final Map<Address, RSocketConnectionPool> pools = new ConcurrentHashMap<>();
 
   private final ServiceMessageCodec codec;
   private final LoopResources loopResources;
+  private final int fragmentSize;
+  private final int minConnections;
+  private final int maxConnections;
+  private final int flushConsolidationLimit;
+  private final Duration flushConsolidationDelay;
+  private final int sharedMemoryRingCapacity;
+  private final boolean domainSocket;
+  private final EventExecutor[] eventLoops; // thread-per-core mode only
+  private final Map<EventExecutor, Map<Address, RSocketConnectionPool>> eventLoopPools =
+      new ConcurrentHashMap<>();
 
   /**
    * Constructor for this transport.
@@ -34,56 +55,180 @@ public class RSocketClientTransport implements ClientTransport {
    * @param loopResources client loop resources
    */
   public RSocketClientTransport(ServiceMessageCodec codec, LoopResources loopResources) {
+    this(codec, loopResources, RSocketTransportConfig.builder().build());
+  }
+
+  /**
+   * Constructor for this transport. Domain socket connections are used only with {@link
+   * DelegatedLoopResources} which prefer epoll.
+   *
+   * @param codec message codec
+   * @param loopResources client loop resources
+   * @param config transport configuration
+   */
+  public RSocketClientTransport(
+      ServiceMessageCodec codec, LoopResources loopResources, RSocketTransportConfig config) {
     this.codec = codec;
     this.loopResources = loopResources;
+    this.fragmentSize = config.fragmentSize();
+    this.minConnections = config.minConnections();
+    this.maxConnections = config.maxConnections();
+    this.flushConsolidationLimit = config.flushConsolidationLimit();
+    this.flushConsolidationDelay = config.flushConsolidationDelay();
+    this.sharedMemoryRingCapacity = config.sharedMemoryRingCapacity();
+    this.domainSocket =
+        config.domainSocket()
+            && loopResources instanceof DelegatedLoopResources
+            && loopResources.preferNative();
+    this.eventLoops =
+        config.threadPerCore()
+            ? executors(loopResources.onClient(loopResources.preferNative()))
+            : null;
+  }
+
+  private static EventExecutor[] executors(EventLoopGroup eventLoopGroup) {
+    List<EventExecutor> eventLoops = new ArrayList<>();
+    eventLoopGroup.forEach(eventLoops::add);
+    return eventLoops.toArray(new EventExecutor[0]);
   }
 
   @Override
   public ClientChannel create(Address address) {
-    final Map<Address, Mono<RSocket>> monoMap = rsockets.get(); // keep reference for threadsafety
-    Mono<RSocket> rsocket =
-        monoMap.computeIfAbsent(address, address1 -> connect(address1, monoMap));
-    return new RSocketServiceClientAdapter(rsocket, codec);
+    return eventLoops != null
+        ? new EventLoopAffineChannel(address)
+        : pool(pools, address, minConnections, maxConnections);
+  }
+
+  private RSocketConnectionPool pool(
+      Map<Address, RSocketConnectionPool> pools, Address address, int minSize, int maxSize) {
+    RSocketConnectionPool pool = pools.get(address);
+    if (pool == null) {
+      RSocketConnectionPool newPool =
+          new RSocketConnectionPool(
+              address, maxSize, codec, this::connect, pool1 -> pools.remove(address, pool1));
+      pool = pools.putIfAbsent(address, newPool);
+      if (pool == null) {
+        pool = newPool;
+        pool.open(minSize);
+      }
+    }
+    return pool;
+  }
+
+  private Mono<RSocket> connect(Address address) {
+    return RSocketFactory.connect()
+        .metadataMimeType(codec.headersFormat())
+        .fragment(fragmentSize)
+        .frameDecoder(
+            frame ->
+                ByteBufPayload.create(frame.sliceData().retain(), frame.sliceMetadata().retain()))
+        .transport(transport(address))
+        .start();
   }
 
-  private Mono<RSocket> connect(Address address, Map<Address, Mono<RSocket>> monoMap) {
-    TcpClient tcpClient =
-        TcpClient.create(
-            options ->
-                options
-                    .disablePool()
-                    .loopResources(loopResources)
-                    .host(address.host())
-                    .port(address.port()));
-
-    Mono<RSocket> rsocketMono =
-        RSocketFactory.connect()
-            .frameDecoder(
-                frame ->
-                    ByteBufPayload.create(
-                        frame.sliceData().retain(), frame.sliceMetadata().retain()))
-            .transport(TcpClientTransport.create(tcpClient))
-            .start();
-
-    return rsocketMono
-        .doOnSuccess(
-            rsocket -> {
-              LOGGER.info("Connected successfully on {}", address);
-              // setup shutdown hook
-              rsocket
-                  .onClose()
-                  .doOnTerminate(
-                      () -> {
-                        monoMap.remove(address);
-                        LOGGER.info("Connection closed on {} and removed from the pool", address);
-                      })
-                  .subscribe();
-            })
-        .doOnError(
-            throwable -> {
-              LOGGER.warn("Connect failed on {}, cause: {}", address, throwable);
-              monoMap.remove(address);
-            })
-        .cache();
+  private io.rsocket.transport.ClientTransport transport(Address address) {
+    io.rsocket.transport.ClientTransport transport =
+        TcpClientTransport.create(
+            TcpClient.create(
+                options(loopResources).andThen(o -> o.host(address.host()).port(address.port()))));
+
+    File domainSocketFile = RSocketServiceTransport.domainSocketFile(address.port());
+    if (domainSocket
+        && RSocketServiceTransport.isLocalHost(address.host())
+        && domainSocketFile.exists()) {
+      DomainSocketAddress domainSocketAddress = new DomainSocketAddress(domainSocketFile);
+      io.rsocket.transport.ClientTransport domainSocketTransport =
+          TcpClientTransport.create(
+              new DomainSocketTcpClient(
+                  options(((DelegatedLoopResources) loopResources).domainSocket())
+                      .andThen(o -> o.connectAddress(() -> domainSocketAddress))));
+      // socket file may be left by a dead server
+      transport = withFallback(domainSocketTransport, domainSocketFile, transport);
+    }
+
+    if (sharedMemoryRingCapacity > 0 && SharedMemoryClient.isAvailable(address)) {
+      File directory = SharedMemoryServer.directory(address.port());
+      // server may be alive, but not accepting connections
+      transport =
+          withFallback(
+              new SharedMemoryClient(directory, sharedMemoryRingCapacity), directory, transport);
+    }
+
+    return transport;
+  }
+
+  private static io.rsocket.transport.ClientTransport withFallback(
+      io.rsocket.transport.ClientTransport transport,
+      File target,
+      io.rsocket.transport.ClientTransport fallback) {
+    return () ->
+        transport
+            .connect()
+            .onErrorResume(
+                ex -> {
+                  LOGGER.warn(
+                      "Failed to connect to {}, falling back to socket, cause: {}",
+                      target,
+                      ex.toString());
+                  return fallback.connect();
+                });
+  }
+
+  private Consumer<ClientOptions.Builder<?>> options(LoopResources loopResources) {
+    return options ->
+        options
+            .disablePool()
+            .loopResources(loopResources)
+            .afterChannelInit(
+                channel ->
+                    RSocketServiceTransport.consolidateFlushes(
+                        channel, flushConsolidationLimit, flushConsolidationDelay));
+  }
+
+  /**
+   * Channel of thread-per-core mode. Pool of connections is resolved on every call: a call made on
+   * a client event loop goes over the single connection to the address owned by that event loop,
+   * which is opened on the event loop and so registered on it by {@link EventExecutorChooser}. The
+   * call and its responses are then handled on the same thread. Calls made on other threads go
+   * over the shared pool.
+   */
+  private final class EventLoopAffineChannel implements ClientChannel {
+
+    private final Address address;
+
+    private EventLoopAffineChannel(Address address) {
+      this.address = address;
+    }
+
+    @Override
+    public Mono<Void> fireAndForget(ServiceMessage message) {
+      return Mono.defer(() -> pool().fireAndForget(message));
+    }
+
+    @Override
+    public Mono<ServiceMessage> requestResponse(ServiceMessage message) {
+      return Mono.defer(() -> pool().requestResponse(message));
+    }
+
+    @Override
+    public Flux<ServiceMessage> requestStream(ServiceMessage message) {
+      return Flux.defer(() -> pool().requestStream(message));
+    }
+
+    @Override
+    public Flux<ServiceMessage> requestChannel(Publisher<ServiceMessage> publisher) {
+      return Flux.defer(() -> pool().requestChannel(publisher));
+    }
+
+    private ClientChannel pool() {
+      for (EventExecutor eventLoop : eventLoops) {
+        if (eventLoop.inEventLoop()) {
+          Map<Address, RSocketConnectionPool> pools =
+              eventLoopPools.computeIfAbsent(eventLoop, key -> new ConcurrentHashMap<>());
+          return RSocketClientTransport.this.pool(pools, address, 1, 1);
+        }
+      }
+      return RSocketClientTransport.this.pool(pools, address, minConnections, maxConnections);
+    }
   }
 }
@@ -0,0 +1,202 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.rsocket.RSocket;
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.ServiceMessageCodec;
+import io.scalecube.services.transport.api.ClientChannel;
+import io.scalecube.transport.Address;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Pool of connections to one remote address, shared by all calling threads. Every request goes
+ * over the connection with the least number of outstanding streams. When all connections have
+ * outstanding streams and pool is not full, a new connection is opened for the request. Closed
+ * connections are removed from the pool, which then grows again on demand.
+ */
+final class RSocketConnectionPool implements ClientChannel {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RSocketConnectionPool.class);
+
+  private static final Connection[] EMPTY = new Connection[0];
+
+  private final Address address;
+  private final int maxSize;
+  private final ServiceMessageCodec codec;
+  private final Function<Address, Mono<RSocket>> connector;
+  private final Consumer<RSocketConnectionPool> onEmpty;
+
+  private volatile Connection[] connections = EMPTY; // copy on write, guarded by this
+
+  /**
+   * Creates empty pool.
+   *
+   * @param address remote address
+   * @param maxSize max number of connections
+   * @param codec message codec
+   * @param connector function which connects to the address
+   * @param onEmpty callback invoked when last connection of the pool is closed
+   */
+  RSocketConnectionPool(
+      Address address,
+      int maxSize,
+      ServiceMessageCodec codec,
+      Function<Address, Mono<RSocket>> connector,
+      Consumer<RSocketConnectionPool> onEmpty) {
+    this.address = address;
+    this.maxSize = maxSize;
+    this.codec = codec;
+    this.connector = connector;
+    this.onEmpty = onEmpty;
+  }
+
+  /**
+   * Opens given number of connections without waiting for requests.
+   *
+   * @param count number of connections
+   */
+  void open(int count) {
+    for (int i = 0; i < count; i++) {
+      Connection connection = add(connections);
+      if (connection != null) {
+        // failure is logged and connection is removed by the connection itself
+        connection.rsocket.onErrorResume(ex -> Mono.empty()).subscribe();
+      }
+    }
+  }
+
+  @Override
+  public Mono<Void> fireAndForget(ServiceMessage message) {
+    return Mono.defer(
+        () -> {
+          Connection connection = acquire();
+          return connection.channel.fireAndForget(message).doFinally(s -> connection.release());
+        });
+  }
+
+  @Override
+  public Mono<ServiceMessage> requestResponse(ServiceMessage message) {
+    return Mono.defer(
+        () -> {
+          Connection connection = acquire();
+          return connection.channel.requestResponse(message).doFinally(s -> connection.release());
+        });
+  }
+
+  @Override
+  public Flux<ServiceMessage> requestStream(ServiceMessage message) {
+    return Flux.defer(
+        () -> {
+          Connection connection = acquire();
+          return connection.channel.requestStream(message).doFinally(s -> connection.release());
+        });
+  }
+
+  @Override
+  public Flux<ServiceMessage> requestChannel(Publisher<ServiceMessage> publisher) {
+    return Flux.defer(
+        () -> {
+          Connection connection = acquire();
+          return connection.channel.requestChannel(publisher).doFinally(s -> connection.release());
+        });
+  }
+
+  private Connection acquire() {
+    for (; ; ) {
+      Connection[] connections = this.connections;
+      Connection connection = null;
+      int outstanding = Integer.MAX_VALUE;
+      for (Connection candidate : connections) {
+        int candidateOutstanding = candidate.outstanding.get();
+        if (candidateOutstanding < outstanding) {
+          connection = candidate;
+          outstanding = candidateOutstanding;
+        }
+      }
+      if (connection == null || (outstanding > 0 && connections.length < maxSize)) {
+        connection = add(connections);
+      }
+      if (connection != null) {
+        connection.outstanding.incrementAndGet();
+        return connection;
+      }
+      // pool was modified concurrently, select again
+    }
+  }
+
+  private synchronized Connection add(Connection[] observed) {
+    if (connections != observed) {
+      return null;
+    }
+    Connection connection = new Connection();
+    Connection[] result = Arrays.copyOf(observed, observed.length + 1);
+    result[observed.length] = connection;
+    connections = result;
+    return connection;
+  }
+
+  private void remove(Connection connection) {
+    boolean empty;
+    synchronized (this) {
+      Connection[] observed = connections;
+      int index = Arrays.asList(observed).indexOf(connection);
+      if (index < 0) {
+        return;
+      }
+      Connection[] result = new Connection[observed.length - 1];
+      System.arraycopy(observed, 0, result, 0, index);
+      System.arraycopy(observed, index + 1, result, index, result.length - index);
+      connections = result;
+      empty = result.length == 0;
+    }
+    if (empty) {
+      onEmpty.accept(this);
+    }
+  }
+
+  private final class Connection {
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final Mono<RSocket> rsocket;
+    // adapter keeps per-connection state (qualifier dictionary)
+    private final RSocketServiceClientAdapter channel;
+
+    private Connection() {
+      rsocket =
+          connector
+              .apply(address)
+              .doOnSuccess(
+                  rsocket -> {
+                    LOGGER.info("Connected successfully on {}", address);
+                    // setup shutdown hook
+                    rsocket
+                        .onClose()
+                        .doOnTerminate(
+                            () -> {
+                              remove(this);
+                              LOGGER.info(
+                                  "Connection closed on {} and removed from the pool", address);
+                            })
+                        .subscribe();
+                  })
+              .doOnError(
+                  throwable -> {
+                    LOGGER.warn("Connect failed on {}, cause: {}", address, throwable);
+                    remove(this);
+                  })
+              .cache();
+      channel = new RSocketServiceClientAdapter(rsocket, codec, new QualifierDictionary());
+    }
+
+    private void release() {
+      outstanding.decrementAndGet();
+    }
+  }
+}
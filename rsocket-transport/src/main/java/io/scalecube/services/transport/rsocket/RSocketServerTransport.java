@@ -1,26 +1,37 @@
 package io.scalecube.services.transport.rsocket;
 
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.Future;
+import io.rsocket.Closeable;
 import io.rsocket.RSocketFactory;
+import io.rsocket.RSocketFactory.ServerTransportAcceptor;
 import io.rsocket.transport.netty.server.NettyContextCloseable;
 import io.rsocket.transport.netty.server.TcpServerTransport;
 import io.rsocket.util.ByteBufPayload;
 import io.scalecube.services.codec.ServiceMessageCodec;
 import io.scalecube.services.methods.ServiceMethodRegistry;
+import io.scalecube.services.transport.api.DeadlineMetrics;
 import io.scalecube.services.transport.api.ServerTransport;
+import java.io.File;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
 import reactor.ipc.netty.FutureMono;
 import reactor.ipc.netty.NettyContext;
+import reactor.ipc.netty.resources.LoopResources;
 import reactor.ipc.netty.tcp.TcpServer;
 
 /** RSocket server transport implementation. */
@@ -36,8 +47,17 @@ public class RSocketServerTransport implements ServerTransport {
   private final ServiceMessageCodec codec;
   private final EventLoopGroup bossGroup;
   private final DelegatedLoopResources loopResources;
+  private final int fragmentSize;
+  private final int flushConsolidationLimit;
+  private final Duration flushConsolidationDelay;
+  private final boolean sharedMemory;
+  private final boolean domainSocket;
+  private final DeadlineMetrics deadlineMetrics = new DeadlineMetrics();
 
   private NettyContextCloseable server; // calculated
+  private Closeable sharedMemoryServer; // calculated
+  private NettyContextCloseable domainSocketServer; // calculated
+  private File domainSocketFile; // calculated
   private List<NettyContext> channels = new CopyOnWriteArrayList<>(); // calculated
 
   /**
@@ -49,7 +69,29 @@ public class RSocketServerTransport implements ServerTransport {
    */
   public RSocketServerTransport(
       ServiceMessageCodec codec, boolean preferEpoll, EventLoopGroup eventLoopGroup) {
+    this(codec, preferEpoll, eventLoopGroup, RSocketTransportConfig.builder().build());
+  }
+
+  /**
+   * Constructor for this server transport. Domain socket connections are accepted only when epoll
+   * is preferred.
+   *
+   * @param codec message codec
+   * @param preferEpoll should epoll be preferred
+   * @param eventLoopGroup worker thread pool
+   * @param config transport configuration
+   */
+  public RSocketServerTransport(
+      ServiceMessageCodec codec,
+      boolean preferEpoll,
+      EventLoopGroup eventLoopGroup,
+      RSocketTransportConfig config) {
     this.codec = codec;
+    this.fragmentSize = config.fragmentSize();
+    this.flushConsolidationLimit = config.flushConsolidationLimit();
+    this.flushConsolidationDelay = config.flushConsolidationDelay();
+    this.sharedMemory = config.sharedMemoryRingCapacity() > 0;
+    this.domainSocket = config.domainSocket() && preferEpoll;
 
     this.bossGroup =
         preferEpoll
@@ -63,37 +105,104 @@ public class RSocketServerTransport implements ServerTransport {
   public InetSocketAddress bindAwait(
       InetSocketAddress address, ServiceMethodRegistry methodRegistry) {
 
-    TcpServer tcpServer =
-        TcpServer.create(
-            options ->
-                options
-                    .loopResources(loopResources)
-                    .listenAddress(address)
-                    .afterNettyContextInit(
-                        nettyContext -> {
-                          LOGGER.info("Accepted connection on {}", nettyContext.channel());
-                          nettyContext.onClose(
-                              () -> {
-                                LOGGER.info("Connection closed on {}", nettyContext.channel());
-                                channels.remove(nettyContext);
-                              });
-                          channels.add(nettyContext);
-                        }));
+    RSocketServiceAcceptor acceptor =
+        new RSocketServiceAcceptor(
+            codec,
+            methodRegistry,
+            loopResources.onServer(loopResources.preferNative()),
+            deadlineMetrics);
 
     this.server =
-        RSocketFactory.receive()
-            .frameDecoder(
-                frame ->
-                    ByteBufPayload.create(
-                        frame.sliceData().retain(), frame.sliceMetadata().retain()))
-            .acceptor(new RSocketServiceAcceptor(codec, methodRegistry))
-            .transport(TcpServerTransport.create(tcpServer))
+        receive(acceptor)
+            .transport(TcpServerTransport.create(tcpServer(loopResources, address)))
             .start()
             .block();
 
+    if (sharedMemory) {
+      this.sharedMemoryServer =
+          receive(acceptor)
+              .transport(new SharedMemoryServer(server.address().getPort()))
+              .start()
+              .block();
+    }
+
+    if (domainSocket) {
+      // the file is free to take, since TCP port it's named after is bound by this server
+      File file = RSocketServiceTransport.domainSocketFile(server.address().getPort());
+      File directory = file.getParentFile();
+      if (!directory.isDirectory() && !directory.mkdirs()) {
+        throw new IllegalStateException("Failed to create directory " + directory);
+      }
+      file.delete();
+
+      DomainSocketAddress domainSocketAddress = new DomainSocketAddress(file);
+      this.domainSocketServer =
+          receive(acceptor)
+              .transport(
+                  TcpServerTransport.create(
+                      tcpServer(loopResources.domainSocket(), domainSocketAddress)))
+              .start()
+              .block();
+      this.domainSocketFile = file;
+      LOGGER.info("Accepting domain socket connections on {}", file);
+    }
+
     return server.address();
   }
 
+  private TcpServer tcpServer(LoopResources loopResources, SocketAddress address) {
+    return TcpServer.create(
+        options -> {
+          if (address instanceof DomainSocketAddress) {
+            // TCP options set by default are not supported by domain socket channels
+            options
+                .option(ChannelOption.SO_RCVBUF, null)
+                .option(ChannelOption.SO_SNDBUF, null)
+                .option(ChannelOption.SO_KEEPALIVE, null)
+                .option(ChannelOption.TCP_NODELAY, null);
+          }
+          options
+              .loopResources(loopResources)
+              .listenAddress(address)
+              .afterChannelInit(
+                  channel ->
+                      RSocketServiceTransport.consolidateFlushes(
+                          channel, flushConsolidationLimit, flushConsolidationDelay))
+              .afterNettyContextInit(
+                  nettyContext -> {
+                    LOGGER.info("Accepted connection on {}", nettyContext.channel());
+                    nettyContext.onClose(
+                        () -> {
+                          LOGGER.info("Connection closed on {}", nettyContext.channel());
+                          channels.remove(nettyContext);
+                        });
+                    channels.add(nettyContext);
+                  });
+        });
+  }
+
+  private ServerTransportAcceptor receive(RSocketServiceAcceptor acceptor) {
+    return RSocketFactory.receive()
+        .fragment(fragmentSize)
+        .frameDecoder(
+            frame ->
+                ByteBufPayload.create(frame.sliceData().retain(), frame.sliceMetadata().retain()))
+        .acceptor(acceptor);
+  }
+
+  @Override
+  public DeadlineMetrics deadlineMetrics() {
+    return deadlineMetrics;
+  }
+
+  @Override
+  public Map<String, String> tags() {
+    return domainSocketFile != null
+        ? Collections.singletonMap(
+            RSocketServiceTransport.DOMAIN_SOCKET_TAG, domainSocketFile.getAbsolutePath())
+        : Collections.emptyMap();
+  }
+
   @Override
   public Mono<Void> stop() {
     return Mono.defer(
@@ -120,6 +229,17 @@ public class RSocketServerTransport implements ServerTransport {
             stopList.add(server.onClose());
           }
 
+          if (sharedMemoryServer != null) {
+            sharedMemoryServer.dispose();
+            stopList.add(sharedMemoryServer.onClose());
+          }
+
+          if (domainSocketServer != null) {
+            domainSocketServer.dispose();
+            stopList.add(
+                domainSocketServer.onClose().doFinally(signal -> domainSocketFile.delete()));
+          }
+
           return Mono.when(stopList);
         });
   }
@@ -1,5 +1,7 @@
 package io.scalecube.services.transport.rsocket;
 
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
 import io.rsocket.AbstractRSocket;
 import io.rsocket.ConnectionSetupPayload;
 import io.rsocket.Payload;
@@ -7,45 +9,145 @@ import io.rsocket.RSocket;
 import io.rsocket.SocketAcceptor;
 import io.rsocket.util.ByteBufPayload;
 import io.scalecube.services.HeadAndTail;
+import io.scalecube.services.api.Deadline;
 import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.HeadersCodec;
 import io.scalecube.services.codec.ServiceMessageCodec;
 import io.scalecube.services.exceptions.ExceptionProcessor;
 import io.scalecube.services.exceptions.ServiceUnavailableException;
+import io.scalecube.services.methods.ServiceMethodInvoker;
 import io.scalecube.services.methods.ServiceMethodRegistry;
+import io.scalecube.services.transport.api.DeadlineMetrics;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 public class RSocketServiceAcceptor implements SocketAcceptor {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RSocketServiceAcceptor.class);
 
-  private final ServiceMessageCodec messageCodec;
+  private final ServiceMessageCodec defaultCodec;
   private final ServiceMethodRegistry methodRegistry;
+  private final Map<String, ServiceMessageCodec> codecs = new ConcurrentHashMap<>();
+  private final EventExecutor[] eventLoops;
+  private final Scheduler[] eventLoopSchedulers;
+  private final DeadlineMetrics deadlineMetrics;
 
+  /**
+   * Constructor for this acceptor.
+   *
+   * @param codec message codec used when client didn't declare a known headers format
+   * @param methodRegistry service method registry
+   */
   public RSocketServiceAcceptor(ServiceMessageCodec codec, ServiceMethodRegistry methodRegistry) {
-    this.messageCodec = codec;
+    this(codec, methodRegistry, null);
+  }
+
+  /**
+   * Constructor for this acceptor.
+   *
+   * @param codec message codec used when client didn't declare a known headers format
+   * @param methodRegistry service method registry
+   * @param eventLoopGroup event loops which requests are received on, responses of methods invoked
+   *     on their own schedulers (see {@link ServiceMethodInvoker#scheduler()}) return to the
+   *     receiving event loop to be encoded there; {@code null} means responses are encoded on the
+   *     thread which emits them
+   */
+  public RSocketServiceAcceptor(
+      ServiceMessageCodec codec,
+      ServiceMethodRegistry methodRegistry,
+      EventLoopGroup eventLoopGroup) {
+    this(codec, methodRegistry, eventLoopGroup, new DeadlineMetrics());
+  }
+
+  /**
+   * Constructor for this acceptor. Requests carrying a deadline (see {@link
+   * ServiceMessage#HEADER_TIMEOUT}) are rejected without invoking the service if it has already
+   * passed, otherwise the service publisher is cancelled once it passes. Both are recorded in the
+   * given metrics.
+   *
+   * @param codec message codec used when client didn't declare a known headers format
+   * @param methodRegistry service method registry
+   * @param eventLoopGroup event loops which requests are received on, responses of methods invoked
+   *     on their own schedulers (see {@link ServiceMethodInvoker#scheduler()}) return to the
+   *     receiving event loop to be encoded there; {@code null} means responses are encoded on the
+   *     thread which emits them
+   * @param deadlineMetrics metrics of work dropped because of passed deadlines
+   */
+  public RSocketServiceAcceptor(
+      ServiceMessageCodec codec,
+      ServiceMethodRegistry methodRegistry,
+      EventLoopGroup eventLoopGroup,
+      DeadlineMetrics deadlineMetrics) {
+    this.defaultCodec = codec;
     this.methodRegistry = methodRegistry;
+    this.eventLoops =
+        eventLoopGroup != null
+            ? DefaultEventExecutorChooser.toArray(eventLoopGroup.iterator())
+            : new EventExecutor[0];
+    this.eventLoopSchedulers =
+        Arrays.stream(eventLoops).map(Schedulers::fromExecutor).toArray(Scheduler[]::new);
+    this.deadlineMetrics = deadlineMetrics;
   }
 
   @Override
   public Mono<RSocket> accept(ConnectionSetupPayload setup, RSocket socket) {
     LOGGER.info("Accepted rSocket: {}, connectionSetup: {}", socket, setup);
 
+    final ServiceMessageCodec messageCodec = messageCodec(setup.metadataMimeType());
+    final InvokerDictionary dictionary = new InvokerDictionary(methodRegistry);
+
     return Mono.just(
         new AbstractRSocket() {
+          @Override
+          public Mono<Void> fireAndForget(Payload payload) {
+            return Mono.just(payload)
+                .map(this::toMessage)
+                .flatMap(
+                    message -> {
+                      ServiceMethodInvoker invoker = invoker(message);
+                      Deadline deadline = checkDeadline(message, invoker);
+                      return withinDeadline(
+                              invoker.invokeOne(
+                                  dictionary.restore(message, invoker),
+                                  ServiceMessageCodec::decodeData),
+                              deadline,
+                              invoker)
+                          .then();
+                    })
+                .onErrorResume(
+                    t -> {
+                      // there's no one to reply to, so error just gets logged
+                      LOGGER.warn("Fire-and-forget request failed, cause: {}", t.toString());
+                      return Mono.empty();
+                    });
+          }
+
           @Override
           public Mono<Payload> requestResponse(Payload payload) {
             return Mono.just(payload)
                 .map(this::toMessage)
-                .doOnNext(this::checkMethodInvokerExist)
                 .flatMap(
-                    message ->
-                        methodRegistry
-                            .getInvoker(message.qualifier())
-                            .invokeOne(message, ServiceMessageCodec::decodeData))
+                    message -> {
+                      ServiceMethodInvoker invoker = invoker(message);
+                      Deadline deadline = checkDeadline(message, invoker);
+                      return returnToEventLoop(
+                              withinDeadline(
+                                  invoker.invokeOne(
+                                      dictionary.restore(message, invoker),
+                                      ServiceMessageCodec::decodeData),
+                                  deadline,
+                                  invoker),
+                              invoker)
+                          .map(response -> dictionary.compress(message, invoker, response));
+                    })
                 .onErrorResume(t -> Mono.just(ExceptionProcessor.toMessage(t)))
                 .map(this::toPayload);
           }
@@ -54,12 +156,20 @@ public class RSocketServiceAcceptor implements SocketAcceptor {
           public Flux<Payload> requestStream(Payload payload) {
             return Flux.just(payload)
                 .map(this::toMessage)
-                .doOnNext(this::checkMethodInvokerExist)
                 .flatMap(
-                    message ->
-                        methodRegistry
-                            .getInvoker(message.qualifier())
-                            .invokeMany(message, ServiceMessageCodec::decodeData))
+                    message -> {
+                      ServiceMethodInvoker invoker = invoker(message);
+                      Deadline deadline = checkDeadline(message, invoker);
+                      return returnToEventLoop(
+                              withinDeadline(
+                                  invoker.invokeMany(
+                                      dictionary.restore(message, invoker),
+                                      ServiceMessageCodec::decodeData),
+                                  deadline,
+                                  invoker),
+                              invoker)
+                          .map(response -> dictionary.compress(message, invoker, response));
+                    })
                 .onErrorResume(t -> Flux.just(ExceptionProcessor.toMessage(t)))
                 .map(this::toPayload);
           }
@@ -70,11 +180,20 @@ public class RSocketServiceAcceptor implements SocketAcceptor {
                 .flatMap(
                     pair -> {
                       ServiceMessage message = pair.head();
-                      checkMethodInvokerExist(message);
-                      Flux<ServiceMessage> messages = Flux.from(pair.tail()).startWith(message);
-                      return methodRegistry
-                          .getInvoker(message.qualifier())
-                          .invokeBidirectional(messages, ServiceMessageCodec::decodeData);
+                      ServiceMethodInvoker invoker = invoker(message);
+                      Deadline deadline = checkDeadline(message, invoker);
+                      Flux<ServiceMessage> messages =
+                          Flux.from(pair.tail())
+                              .startWith(message)
+                              .map(request -> dictionary.restore(request, invoker));
+                      return returnToEventLoop(
+                              withinDeadline(
+                                  invoker.invokeBidirectional(
+                                      messages, ServiceMessageCodec::decodeData),
+                                  deadline,
+                                  invoker),
+                              invoker)
+                          .map(response -> dictionary.compress(message, invoker, response));
                     })
                 .onErrorResume(t -> Flux.just(ExceptionProcessor.toMessage(t)))
                 .map(this::toPayload);
@@ -88,18 +207,85 @@ public class RSocketServiceAcceptor implements SocketAcceptor {
             return messageCodec.decode(payload.sliceData(), payload.sliceMetadata());
           }
 
-          private void checkMethodInvokerExist(ServiceMessage message) {
-            if (!methodRegistry.containsInvoker(message.qualifier())) {
+          private ServiceMethodInvoker invoker(ServiceMessage message) {
+            try {
+              return dictionary.invoker(message);
+            } catch (ServiceUnavailableException ex) {
               LOGGER.error(
-                  "Failed to invoke service with args[{}], "
-                      + "No service invoker found by qualifier: {}",
-                  message,
-                  message.qualifier());
-              throw new ServiceUnavailableException(
-                  "No service invoker registered at service method registry by qualifier: "
-                      + message.qualifier());
+                  "Failed to invoke service with args[{}], cause: {}", message, ex.getMessage());
+              throw ex;
             }
           }
         });
   }
+
+  private Deadline checkDeadline(ServiceMessage request, ServiceMethodInvoker invoker) {
+    Deadline deadline = Deadline.of(request);
+    if (deadline != null && deadline.isExpired()) {
+      deadlineMetrics.onRejected();
+      throw Deadline.exceeded(invoker.methodInfo().qualifier());
+    }
+    return deadline;
+  }
+
+  private Mono<ServiceMessage> withinDeadline(
+      Mono<ServiceMessage> responses, Deadline deadline, ServiceMethodInvoker invoker) {
+    if (deadline == null) {
+      return responses;
+    }
+    return deadline.bound(responses, Mono.defer(() -> cancelled(invoker)));
+  }
+
+  private Flux<ServiceMessage> withinDeadline(
+      Flux<ServiceMessage> responses, Deadline deadline, ServiceMethodInvoker invoker) {
+    if (deadline == null) {
+      return responses;
+    }
+    return deadline.bound(responses, Mono.defer(() -> cancelled(invoker)));
+  }
+
+  private Mono<ServiceMessage> cancelled(ServiceMethodInvoker invoker) {
+    deadlineMetrics.onCancelled();
+    return Mono.error(Deadline.exceeded(invoker.methodInfo().qualifier()));
+  }
+
+  private Mono<ServiceMessage> returnToEventLoop(
+      Mono<ServiceMessage> responses, ServiceMethodInvoker invoker) {
+    Scheduler eventLoop = invoker.scheduler() != null ? currentEventLoop() : null;
+    return eventLoop != null ? responses.publishOn(eventLoop) : responses;
+  }
+
+  private Flux<ServiceMessage> returnToEventLoop(
+      Flux<ServiceMessage> responses, ServiceMethodInvoker invoker) {
+    Scheduler eventLoop = invoker.scheduler() != null ? currentEventLoop() : null;
+    return eventLoop != null ? responses.publishOn(eventLoop) : responses;
+  }
+
+  private Scheduler currentEventLoop() {
+    for (int i = 0; i < eventLoops.length; i++) {
+      if (eventLoops[i].inEventLoop()) {
+        return eventLoopSchedulers[i];
+      }
+    }
+    return null; // e.g. shared memory connection thread
+  }
+
+  private ServiceMessageCodec messageCodec(String headersFormat) {
+    if (headersFormat == null || headersFormat.equals(defaultCodec.headersFormat())) {
+      return defaultCodec;
+    }
+    return codecs.computeIfAbsent(
+        headersFormat,
+        contentType -> {
+          try {
+            return defaultCodec.withHeadersCodec(HeadersCodec.getInstance(contentType));
+          } catch (IllegalArgumentException ex) {
+            LOGGER.debug(
+                "HeadersCodec for '{}' not configured, using '{}'",
+                contentType,
+                defaultCodec.headersFormat());
+            return defaultCodec;
+          }
+        });
+  }
 }
@@ -15,10 +15,23 @@ public class RSocketServiceClientAdapter implements ClientChannel {
 
   private Mono<RSocket> rsocket;
   private ServiceMessageCodec messageCodec;
+  private QualifierDictionary dictionary;
 
   public RSocketServiceClientAdapter(Mono<RSocket> rsocket, ServiceMessageCodec codec) {
+    this(rsocket, codec, new QualifierDictionary());
+  }
+
+  RSocketServiceClientAdapter(
+      Mono<RSocket> rsocket, ServiceMessageCodec codec, QualifierDictionary dictionary) {
     this.rsocket = rsocket;
     this.messageCodec = codec;
+    this.dictionary = dictionary;
+  }
+
+  @Override
+  public Mono<Void> fireAndForget(ServiceMessage message) {
+    return rsocket.flatMap(
+        rsocket -> rsocket.fireAndForget(toPayload(dictionary.compress(message))));
   }
 
   @Override
@@ -27,9 +40,10 @@ public class RSocketServiceClientAdapter implements ClientChannel {
         .flatMap(
             rsocket ->
                 rsocket
-                    .requestResponse(toPayload(message))
+                    .requestResponse(toPayload(dictionary.compress(message)))
                     .takeUntilOther(listenConnectionClose(rsocket)))
-        .map(this::toMessage);
+        .map(this::toMessage)
+        .map(dictionary::restore);
   }
 
   @Override
@@ -38,9 +52,10 @@ public class RSocketServiceClientAdapter implements ClientChannel {
         .flatMapMany(
             rsocket ->
                 rsocket
-                    .requestStream(toPayload(message))
+                    .requestStream(toPayload(dictionary.compress(message)))
                     .takeUntilOther(listenConnectionClose(rsocket)))
-        .map(this::toMessage);
+        .map(this::toMessage)
+        .map(dictionary::restore);
   }
 
   @Override
@@ -49,9 +64,11 @@ public class RSocketServiceClientAdapter implements ClientChannel {
         .flatMapMany(
             rsocket ->
                 rsocket
-                    .requestChannel(Flux.from(publisher).map(this::toPayload))
+                    .requestChannel(
+                        Flux.from(publisher).map(dictionary::compress).map(this::toPayload))
                     .takeUntilOther(listenConnectionClose(rsocket)))
-        .map(this::toMessage);
+        .map(this::toMessage)
+        .map(dictionary::restore);
   }
 
   private Payload toPayload(ServiceMessage request) {
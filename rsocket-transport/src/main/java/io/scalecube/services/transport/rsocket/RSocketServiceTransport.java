@@ -1,16 +1,27 @@
 package io.scalecube.services.transport.rsocket;
 
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultSelectStrategyFactory;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SelectStrategyFactory;
 import io.netty.channel.epoll.Epoll;
-import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.Future;
 import io.netty.util.internal.PlatformDependent;
 import io.scalecube.services.codec.HeadersCodec;
 import io.scalecube.services.codec.ServiceMessageCodec;
 import io.scalecube.services.transport.api.ClientTransport;
+import io.scalecube.services.transport.api.IdleStrategy;
 import io.scalecube.services.transport.api.ServerTransport;
 import io.scalecube.services.transport.api.ServiceTransport;
 import io.scalecube.services.transport.api.WorkerThreadChooser;
+import java.io.File;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 import org.slf4j.Logger;
@@ -26,59 +37,120 @@ public class RSocketServiceTransport implements ServiceTransport {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RSocketServiceTransport.class);
 
-  private static final ThreadFactory WORKER_THREAD_FACTORY =
-      new DefaultThreadFactory("rsocket-worker", true);
+  /** Endpoint tag with path of unix domain socket the node accepts connections on. */
+  public static final String DOMAIN_SOCKET_TAG = "rsocket.domainSocket";
+
+  private static final String WORKER_THREAD_POOL_NAME = "rsocket-worker";
 
-  private static final String DEFAULT_HEADERS_FORMAT = "application/json";
+  private static final ThreadFactory WORKER_THREAD_FACTORY =
+      new NonBlockingThreadFactory(WORKER_THREAD_POOL_NAME, true);
 
-  private static boolean preferEpoll = false;
+  private static boolean epollAvailable = false;
 
   private static final String EPOLL_CLASS_NAME = "io.netty.channel.epoll.Epoll";
 
+  private static final File DOMAIN_SOCKET_DIRECTORY =
+      new File(System.getProperty("java.io.tmpdir"), "scalecube-services");
+
+  private static final Set<String> LOCAL_HOSTS = localHosts();
+
   static {
     if (PlatformDependent.isWindows()) {
       LOGGER.warn("Epoll is not supported by this environment, NIO will be used");
     } else {
       try {
         Class.forName(EPOLL_CLASS_NAME);
-        preferEpoll = Epoll.isAvailable();
+        epollAvailable = Epoll.isAvailable();
       } catch (ClassNotFoundException e) {
         LOGGER.warn("Cannot load Epoll, NIO will be used", e);
       }
     }
-    LOGGER.debug("Epoll support: " + preferEpoll);
+    LOGGER.debug("Epoll support: " + epollAvailable);
+  }
+
+  private final RSocketTransportConfig config;
+
+  /**
+   * Constructor of transport with default configuration, see {@link RSocketTransportConfig}.
+   */
+  public RSocketServiceTransport() {
+    this(RSocketTransportConfig.builder().build());
+  }
+
+  /**
+   * Constructor of transport with the given configuration.
+   *
+   * @param config transport configuration
+   */
+  public RSocketServiceTransport(RSocketTransportConfig config) {
+    this.config = config;
+    if (config.domainSocket() && !isNativeSupported()) {
+      LOGGER.warn("Domain sockets require epoll, TCP will be used");
+    }
+  }
+
+  public RSocketTransportConfig config() {
+    return config;
   }
 
   @Override
   public boolean isNativeSupported() {
-    return preferEpoll;
+    return config.preferNative() && epollAvailable;
   }
 
   @Override
   public ClientTransport getClientTransport(Executor workerThreadPool) {
     return new RSocketClientTransport(
-        new ServiceMessageCodec(HeadersCodec.getInstance(DEFAULT_HEADERS_FORMAT)),
-        new DelegatedLoopResources(preferEpoll, (EventLoopGroup) workerThreadPool));
+        messageCodec(0),
+        new DelegatedLoopResources(isNativeSupported(), (EventLoopGroup) workerThreadPool),
+        config);
   }
 
   @Override
   public ServerTransport getServerTransport(Executor workerThreadPool) {
     return new RSocketServerTransport(
-        new ServiceMessageCodec(HeadersCodec.getInstance(DEFAULT_HEADERS_FORMAT)),
-        preferEpoll,
-        (EventLoopGroup) workerThreadPool);
+        messageCodec(config.dataCacheSize()),
+        isNativeSupported(),
+        (EventLoopGroup) workerThreadPool,
+        config);
   }
 
   @Override
   public Executor getWorkerThreadPool(int numOfThreads, WorkerThreadChooser threadChooser) {
+    return getWorkerThreadPool(numOfThreads, threadChooser, null);
+  }
+
+  @Override
+  public Executor getWorkerThreadPool(
+      int numOfThreads, WorkerThreadChooser threadChooser, IdleStrategy idleStrategy) {
     EventExecutorChooser executorChooser =
         threadChooser != null
             ? new DefaultEventExecutorChooser(threadChooser)
-            : EventExecutorChooser.DEFAULT_INSTANCE;
+            : config.eventExecutorChooserFactory() != null
+                ? config.eventExecutorChooserFactory().get()
+                : EventExecutorChooser.DEFAULT_INSTANCE;
+
+    SelectStrategyFactory selectStrategyFactory =
+        idleStrategy != null
+            ? PollingSelectStrategy.factory(idleStrategy)
+            : DefaultSelectStrategyFactory.INSTANCE;
 
-    return preferEpoll
-        ? new ExtendedEpollEventLoopGroup(numOfThreads, WORKER_THREAD_FACTORY, executorChooser)
-        : new ExtendedNioEventLoopGroup(numOfThreads, WORKER_THREAD_FACTORY, executorChooser);
+    ThreadFactory threadFactory =
+        config.cpuAffinity()
+            ? new CpuAffinityThreadFactory(WORKER_THREAD_POOL_NAME, true)
+            : WORKER_THREAD_FACTORY;
+
+    EventLoopGroup eventLoopGroup =
+        isNativeSupported()
+            ? new ExtendedEpollEventLoopGroup(
+                numOfThreads, threadFactory, executorChooser, selectStrategyFactory)
+            : new ExtendedNioEventLoopGroup(
+                numOfThreads, threadFactory, executorChooser, selectStrategyFactory);
+
+    if (config.blockedEventLoopThreshold() != null) {
+      BlockedEventLoopDetector.start(eventLoopGroup, config.blockedEventLoopThreshold());
+    }
+    return eventLoopGroup;
   }
 
   @Override
@@ -90,4 +162,55 @@ public class RSocketServiceTransport implements ServiceTransport {
                 ? FutureMono.from((Future) ((EventLoopGroup) workerThreadPool).shutdownGracefully())
                 : Mono.empty());
   }
+
+  static void consolidateFlushes(Channel channel, int limit, Duration maxDelay) {
+    if (limit > 0) {
+      // first in pipeline, so that it sees flushes of all handlers and every read
+      channel.pipeline().addFirst(new ConsolidatingFlushHandler(limit, maxDelay.toNanos()));
+    }
+  }
+
+  /**
+   * Returns unix domain socket file of server which runs along with TCP server on the given port.
+   *
+   * @param port TCP port
+   * @return socket file
+   */
+  static File domainSocketFile(int port) {
+    return new File(DOMAIN_SOCKET_DIRECTORY, port + ".sock");
+  }
+
+  /**
+   * Checks whether the host is one of addresses of this host.
+   *
+   * @param host host name or address
+   * @return true if host is local
+   */
+  static boolean isLocalHost(String host) {
+    return LOCAL_HOSTS.contains(host);
+  }
+
+  private static Set<String> localHosts() {
+    Set<String> hosts = new HashSet<>();
+    try {
+      for (NetworkInterface networkInterface :
+          Collections.list(NetworkInterface.getNetworkInterfaces())) {
+        for (InetAddress address : Collections.list(networkInterface.getInetAddresses())) {
+          hosts.add(address.getHostAddress());
+        }
+      }
+    } catch (SocketException ex) {
+      LOGGER.warn("Failed to list local addresses, cause: {}", ex.toString());
+    }
+    hosts.add("localhost");
+    return hosts;
+  }
+
+  private ServiceMessageCodec messageCodec(int dataCacheSize) {
+    return new ServiceMessageCodec(
+        HeadersCodec.getInstance(config.headersFormat()),
+        config.singleEncodeBuffer(),
+        config.compressionThreshold(),
+        dataCacheSize);
+  }
 }
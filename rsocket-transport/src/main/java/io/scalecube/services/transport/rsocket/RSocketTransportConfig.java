@@ -0,0 +1,526 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.scalecube.services.codec.HeadersCodec;
+import io.scalecube.services.codec.ServiceMessageCodec;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Immutable configuration of {@link RSocketServiceTransport} and of client and server transports
+ * it creates. Every setting is off by default, so the default configuration is the plain RSocket
+ * over TCP transport.
+ */
+public final class RSocketTransportConfig {
+
+  private static final String DEFAULT_HEADERS_FORMAT = "application/json";
+
+  private static final Duration DEFAULT_FLUSH_CONSOLIDATION_DELAY = Duration.ofNanos(100_000);
+
+  private final boolean preferNative;
+  private final String headersFormat;
+  private final boolean singleEncodeBuffer;
+  private final int compressionThreshold;
+  private final int dataCacheSize;
+  private final int fragmentSize;
+  private final int minConnections;
+  private final int maxConnections;
+  private final int flushConsolidationLimit;
+  private final Duration flushConsolidationDelay;
+  private final int sharedMemoryRingCapacity;
+  private final boolean domainSocket;
+  private final boolean threadPerCore;
+  private final boolean cpuAffinity;
+  private final Supplier<EventExecutorChooser> eventExecutorChooserFactory;
+  private final Duration blockedEventLoopThreshold;
+
+  private RSocketTransportConfig(Builder builder) {
+    this.preferNative = builder.preferNative;
+    this.headersFormat = builder.headersFormat;
+    this.singleEncodeBuffer = builder.singleEncodeBuffer;
+    this.compressionThreshold = builder.compressionThreshold;
+    this.dataCacheSize = builder.dataCacheSize;
+    this.fragmentSize = builder.fragmentSize;
+    this.minConnections = builder.minConnections;
+    this.maxConnections = builder.maxConnections;
+    this.flushConsolidationLimit = builder.flushConsolidationLimit;
+    this.flushConsolidationDelay = builder.flushConsolidationDelay;
+    this.sharedMemoryRingCapacity = builder.sharedMemoryRingCapacity;
+    this.domainSocket = builder.domainSocket;
+    this.threadPerCore = builder.threadPerCore;
+    this.cpuAffinity = builder.cpuAffinity;
+    this.eventExecutorChooserFactory = builder.eventExecutorChooserFactory;
+    this.blockedEventLoopThreshold = builder.blockedEventLoopThreshold;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static Builder from(RSocketTransportConfig config) {
+    return new Builder(config);
+  }
+
+  /**
+   * See {@link Builder#preferNative(boolean)}.
+   *
+   * @return whether native transport is used when it is supported by the environment
+   */
+  public boolean preferNative() {
+    return preferNative;
+  }
+
+  /**
+   * See {@link Builder#headersFormat(String)}.
+   *
+   * @return content type of message headers
+   */
+  public String headersFormat() {
+    return headersFormat;
+  }
+
+  /**
+   * See {@link Builder#singleEncodeBuffer(boolean)}.
+   *
+   * @return whether message data and headers are encoded into one buffer
+   */
+  public boolean singleEncodeBuffer() {
+    return singleEncodeBuffer;
+  }
+
+  /**
+   * See {@link Builder#compressionThreshold(int)}.
+   *
+   * @return min size of message data which gets compressed, negative if compression is off
+   */
+  public int compressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * See {@link Builder#dataCacheSize(int)}.
+   *
+   * @return number of response data objects kept encoded
+   */
+  public int dataCacheSize() {
+    return dataCacheSize;
+  }
+
+  /**
+   * See {@link Builder#fragmentSize(int)}.
+   *
+   * @return max size of frames, {@code 0} if fragmentation is off
+   */
+  public int fragmentSize() {
+    return fragmentSize;
+  }
+
+  /**
+   * See {@link Builder#connectionPoolSize(int, int)}.
+   *
+   * @return number of connections opened upfront to every remote address
+   */
+  public int minConnections() {
+    return minConnections;
+  }
+
+  /**
+   * See {@link Builder#connectionPoolSize(int, int)}.
+   *
+   * @return max number of connections to every remote address
+   */
+  public int maxConnections() {
+    return maxConnections;
+  }
+
+  /**
+   * See {@link Builder#flushConsolidation(int)}.
+   *
+   * @return max number of flushes consolidated into one, {@code 0} if consolidation is off
+   */
+  public int flushConsolidationLimit() {
+    return flushConsolidationLimit;
+  }
+
+  /**
+   * See {@link Builder#flushConsolidation(int, Duration)}.
+   *
+   * @return max time the first of consolidated flushes is deferred for
+   */
+  public Duration flushConsolidationDelay() {
+    return flushConsolidationDelay;
+  }
+
+  /**
+   * See {@link Builder#sharedMemory(int)}.
+   *
+   * @return capacity of rings of shared memory connections, {@code 0} if they are off
+   */
+  public int sharedMemoryRingCapacity() {
+    return sharedMemoryRingCapacity;
+  }
+
+  /**
+   * See {@link Builder#domainSocket(boolean)}.
+   *
+   * @return whether unix domain socket connections are used
+   */
+  public boolean domainSocket() {
+    return domainSocket;
+  }
+
+  /**
+   * See {@link Builder#threadPerCore(boolean)}.
+   *
+   * @return whether calls made on worker threads go over connections owned by them
+   */
+  public boolean threadPerCore() {
+    return threadPerCore;
+  }
+
+  /**
+   * See {@link Builder#cpuAffinity(boolean)}.
+   *
+   * @return whether worker threads are pinned to CPUs
+   */
+  public boolean cpuAffinity() {
+    return cpuAffinity;
+  }
+
+  /**
+   * See {@link Builder#eventExecutorChooser(Supplier)}.
+   *
+   * @return factory of choosers of worker threads for new connections, may be null
+   */
+  public Supplier<EventExecutorChooser> eventExecutorChooserFactory() {
+    return eventExecutorChooserFactory;
+  }
+
+  /**
+   * See {@link Builder#blockedEventLoopThreshold(Duration)}.
+   *
+   * @return max time of worker thread running a single task, null if detection is off
+   */
+  public Duration blockedEventLoopThreshold() {
+    return blockedEventLoopThreshold;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("RSocketTransportConfig{");
+    sb.append("preferNative=").append(preferNative);
+    sb.append(", headersFormat=").append(headersFormat);
+    sb.append(", singleEncodeBuffer=").append(singleEncodeBuffer);
+    sb.append(", compressionThreshold=").append(compressionThreshold);
+    sb.append(", dataCacheSize=").append(dataCacheSize);
+    sb.append(", fragmentSize=").append(fragmentSize);
+    sb.append(", minConnections=").append(minConnections);
+    sb.append(", maxConnections=").append(maxConnections);
+    sb.append(", flushConsolidationLimit=").append(flushConsolidationLimit);
+    sb.append(", flushConsolidationDelay=").append(flushConsolidationDelay);
+    sb.append(", sharedMemoryRingCapacity=").append(sharedMemoryRingCapacity);
+    sb.append(", domainSocket=").append(domainSocket);
+    sb.append(", threadPerCore=").append(threadPerCore);
+    sb.append(", cpuAffinity=").append(cpuAffinity);
+    sb.append(", eventExecutorChooserFactory=").append(eventExecutorChooserFactory);
+    sb.append(", blockedEventLoopThreshold=").append(blockedEventLoopThreshold);
+    sb.append('}');
+    return sb.toString();
+  }
+
+  public static class Builder {
+
+    private boolean preferNative = true;
+    private String headersFormat = DEFAULT_HEADERS_FORMAT;
+    private boolean singleEncodeBuffer;
+    private int compressionThreshold = -1;
+    private int dataCacheSize;
+    private int fragmentSize;
+    private int minConnections = 1;
+    private int maxConnections = Runtime.getRuntime().availableProcessors();
+    private int flushConsolidationLimit;
+    private Duration flushConsolidationDelay = DEFAULT_FLUSH_CONSOLIDATION_DELAY;
+    private int sharedMemoryRingCapacity;
+    private boolean domainSocket;
+    private boolean threadPerCore;
+    private boolean cpuAffinity;
+    private Supplier<EventExecutorChooser> eventExecutorChooserFactory;
+    private Duration blockedEventLoopThreshold;
+
+    private Builder() {}
+
+    private Builder(RSocketTransportConfig config) {
+      this.preferNative = config.preferNative;
+      this.headersFormat = config.headersFormat;
+      this.singleEncodeBuffer = config.singleEncodeBuffer;
+      this.compressionThreshold = config.compressionThreshold;
+      this.dataCacheSize = config.dataCacheSize;
+      this.fragmentSize = config.fragmentSize;
+      this.minConnections = config.minConnections;
+      this.maxConnections = config.maxConnections;
+      this.flushConsolidationLimit = config.flushConsolidationLimit;
+      this.flushConsolidationDelay = config.flushConsolidationDelay;
+      this.sharedMemoryRingCapacity = config.sharedMemoryRingCapacity;
+      this.domainSocket = config.domainSocket;
+      this.threadPerCore = config.threadPerCore;
+      this.cpuAffinity = config.cpuAffinity;
+      this.eventExecutorChooserFactory = config.eventExecutorChooserFactory;
+      this.blockedEventLoopThreshold = config.blockedEventLoopThreshold;
+    }
+
+    /**
+     * Sets whether native transport is used when it's supported by the environment. Native
+     * transport is epoll, whose event loops and channels are used instead of NIO ones by both
+     * worker thread pool and connections. Turning it off makes nodes use NIO regardless of the
+     * environment, e.g. to compare the two. Default is {@code true}.
+     *
+     * @param preferNative whether to use native transport when available
+     * @return this builder
+     */
+    public Builder preferNative(boolean preferNative) {
+      this.preferNative = preferNative;
+      return this;
+    }
+
+    /**
+     * Sets content type of the {@link HeadersCodec} used to encode message headers, for example
+     * {@link io.scalecube.services.codec.BinaryHeadersCodec#CONTENT_TYPE}. Client side announces it
+     * to the server at connection setup, so server side decodes headers of every connection in the
+     * format chosen by the client. Default is {@code application/json}.
+     *
+     * @param headersFormat headers content type
+     * @return this builder
+     */
+    public Builder headersFormat(String headersFormat) {
+      this.headersFormat = headersFormat;
+      return this;
+    }
+
+    /**
+     * Sets whether message data and headers are encoded into one pooled buffer instead of two, see
+     * {@link ServiceMessageCodec#isSingleBuffer()}. Server side ignores it when {@link
+     * #dataCacheSize(int)} is positive, since cached data needs a buffer of its own; client side is
+     * not affected by the data cache. Default is {@code false}.
+     *
+     * @param singleEncodeBuffer whether to use one encode buffer per message
+     * @return this builder
+     */
+    public Builder singleEncodeBuffer(boolean singleEncodeBuffer) {
+      this.singleEncodeBuffer = singleEncodeBuffer;
+      return this;
+    }
+
+    /**
+     * Sets min size of encoded message data which gets compressed before sending, see {@link
+     * ServiceMessageCodec#compressionThreshold()}. Compressed messages are decompressed by the
+     * receiving side whatever its own threshold is. Default is {@code -1}, i.e. no compression.
+     *
+     * @param compressionThreshold threshold in bytes, negative value disables compression
+     * @return this builder
+     */
+    public Builder compressionThreshold(int compressionThreshold) {
+      this.compressionThreshold = compressionThreshold;
+      return this;
+    }
+
+    /**
+     * Sets number of recently sent response data objects which server side keeps encoded, so that
+     * the same object emitted to many subscribers is encoded once, see {@link
+     * ServiceMessageCodec#dataCacheSize()}. Objects are matched by identity, so services must not
+     * modify them once emitted. It takes precedence over {@link #singleEncodeBuffer(boolean)} on
+     * server side, which then encodes data and headers of responses into separate buffers. Default
+     * is {@code 0}, i.e. no caching.
+     *
+     * @param dataCacheSize number of cached data objects
+     * @return this builder
+     */
+    public Builder dataCacheSize(int dataCacheSize) {
+      this.dataCacheSize = dataCacheSize;
+      return this;
+    }
+
+    /**
+     * Sets max size of RSocket frames. Bigger messages are split into fragments of this size on
+     * sending and reassembled on receiving, so a multi-megabyte message is written to the socket in
+     * bounded chunks rather than as one huge frame. Note that a message is still limited by 16 MB
+     * (max length of a single frame) since it is encoded as a whole before being fragmented.
+     * Receiving side reassembles fragments only if fragmentation is turned on there as well, so all
+     * nodes must use the same setting. Default is {@code 0}, i.e. no fragmentation.
+     *
+     * @param fragmentSize max frame size in bytes, {@code 0} turns fragmentation off
+     * @return this builder
+     */
+    public Builder fragmentSize(int fragmentSize) {
+      this.fragmentSize = fragmentSize;
+      return this;
+    }
+
+    /**
+     * Sets size of the client side connection pool, which is kept per remote address and shared by
+     * all calling threads. Requests go over the connection with the least number of outstanding
+     * streams, a new connection is opened when all connections are busy and the pool is not full.
+     * Default is from {@code 1} to number of available processors.
+     *
+     * @param minSize number of connections opened upfront, when remote address is called first time
+     * @param maxSize max number of connections
+     * @return this builder
+     */
+    public Builder connectionPoolSize(int minSize, int maxSize) {
+      if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+        throw new IllegalArgumentException(
+            "Invalid connection pool size: min=" + minSize + ", max=" + maxSize);
+      }
+      this.minConnections = minSize;
+      this.maxConnections = maxSize;
+      return this;
+    }
+
+    /**
+     * Turns on consolidation of flushes on both client and server connections, see {@link
+     * #flushConsolidation(int, Duration)}. Flush is deferred for 100 microseconds at most.
+     *
+     * @param limit max number of flushes consolidated into one, {@code 0} turns consolidation off
+     * @return this builder
+     */
+    public Builder flushConsolidation(int limit) {
+      return flushConsolidation(limit, DEFAULT_FLUSH_CONSOLIDATION_DELAY);
+    }
+
+    /**
+     * Turns on consolidation of flushes on both client and server connections. Frames written in
+     * the same event loop tick (e.g. responses to requests read from a socket at once, or requests
+     * issued by one caller) are flushed with one syscall instead of one syscall per frame. Flush is
+     * deferred until the end of the current read, or until the task queued to the event loop by the
+     * first deferred flush runs, but no more than {@code limit} flushes are consolidated into one,
+     * and the first of them is deferred for about {@code maxDelay} at most: the delay is checked
+     * on every next flush and read, so a frame may also wait for the read message being handled.
+     * Default is {@code 0}, i.e. every frame is flushed on its own.
+     *
+     * @param limit max number of flushes consolidated into one, {@code 0} turns consolidation off
+     * @param maxDelay max time the first of consolidated flushes is deferred for
+     * @return this builder
+     */
+    public Builder flushConsolidation(int limit, Duration maxDelay) {
+      if (limit < 0) {
+        throw new IllegalArgumentException("Invalid flush consolidation limit: " + limit);
+      }
+      if (maxDelay.isNegative()) {
+        throw new IllegalArgumentException("Invalid flush consolidation delay: " + maxDelay);
+      }
+      this.flushConsolidationLimit = limit;
+      this.flushConsolidationDelay = maxDelay;
+      return this;
+    }
+
+    /**
+     * Turns on shared memory connections between nodes running on the same host. Server accepts
+     * them in a directory named after its port (under {@code /dev/shm} when available), client
+     * opens one instead of TCP connection whenever service address is local and such server is
+     * running there, otherwise it falls back to TCP. Each connection is a pair of memory-mapped
+     * single-producer/single-consumer rings of the given capacity, polled by a dedicated thread on
+     * both sides. Frames longer than half of the capacity don't fit into the ring, so large
+     * messages need {@link #fragmentSize(int)} to go over such connections. Default is {@code 0},
+     * i.e. TCP only.
+     *
+     * @param ringCapacity capacity of each ring in bytes, power of two, {@code 0} turns shared
+     *     memory connections off
+     * @return this builder
+     */
+    public Builder sharedMemory(int ringCapacity) {
+      if (ringCapacity != 0
+          && (ringCapacity < 4096
+              || ringCapacity > 1 << 30
+              || Integer.bitCount(ringCapacity) != 1)) {
+        throw new IllegalArgumentException("Invalid shared memory ring capacity: " + ringCapacity);
+      }
+      this.sharedMemoryRingCapacity = ringCapacity;
+      return this;
+    }
+
+    /**
+     * Turns on unix domain socket connections between nodes running on the same host, e.g. a
+     * service and its sidecar. Server listens on a socket named after its TCP port as well (see
+     * {@link RSocketServiceTransport#domainSocketFile(int)}) and advertises its path in the {@value
+     * RSocketServiceTransport#DOMAIN_SOCKET_TAG} endpoint tag, client connects to the socket
+     * instead of TCP port whenever service address is local and the socket exists, otherwise it
+     * falls back to TCP. Shared memory connections, if turned on as well, take precedence. Domain
+     * sockets require epoll, so the setting is ignored when epoll is not available or not preferred
+     * (see {@link #preferNative(boolean)}). Default is {@code false}, i.e. TCP only.
+     *
+     * @param domainSocket whether to use domain socket connections
+     * @return this builder
+     */
+    public Builder domainSocket(boolean domainSocket) {
+      this.domainSocket = domainSocket;
+      return this;
+    }
+
+    /**
+     * Turns on thread-per-core mode of client side. A call made on a worker thread (e.g. by a
+     * service calling another service) goes over the connection owned by the calling worker thread,
+     * so the request is written and its responses are read on the very same thread instead of
+     * hopping to another one. There is one such connection per worker thread and remote address,
+     * calls made on other threads go over the shared connection pool (see {@link
+     * #connectionPoolSize(int, int)}). Default is {@code false}.
+     *
+     * @param threadPerCore whether to use connections owned by the calling worker thread
+     * @return this builder
+     */
+    public Builder threadPerCore(boolean threadPerCore) {
+      this.threadPerCore = threadPerCore;
+      return this;
+    }
+
+    /**
+     * Turns on pinning of worker threads to CPUs, one thread per CPU, so that they don't migrate
+     * between cores along with their caches. Requires <a
+     * href="https://github.com/OpenHFT/Java-Thread-Affinity">Java-Thread-Affinity</a> on the
+     * classpath, threads run unpinned without it. Number of worker threads shouldn't exceed number
+     * of available CPUs. Default is {@code false}.
+     *
+     * @param cpuAffinity whether to pin worker threads to CPUs
+     * @return this builder
+     */
+    public Builder cpuAffinity(boolean cpuAffinity) {
+      this.cpuAffinity = cpuAffinity;
+      return this;
+    }
+
+    /**
+     * Sets factory of choosers of worker threads for new connections, e.g. {@link
+     * EventExecutorChooser#leastConnections()}, which is called once per worker thread pool. {@link
+     * io.scalecube.services.transport.api.WorkerThreadChooser} given to worker thread pool, if any,
+     * takes precedence. Default is {@code null}, i.e. worker threads are chosen round-robin.
+     *
+     * @param eventExecutorChooserFactory factory of event executor choosers
+     * @return this builder
+     */
+    public Builder eventExecutorChooser(
+        Supplier<EventExecutorChooser> eventExecutorChooserFactory) {
+      this.eventExecutorChooserFactory = eventExecutorChooserFactory;
+      return this;
+    }
+
+    /**
+     * Turns on detection of blocked worker threads. Every worker thread gets a heartbeat task, and
+     * when the task hasn't run within the threshold, because the thread is stuck in a single task
+     * or in handling of I/O (e.g. in a blocking service method which isn't assigned a scheduler,
+     * see {@link io.scalecube.services.annotations.ServiceMethod#scheduler()}), a warning with the
+     * stack trace of the thread is logged. Default is {@code null}, i.e. no detection.
+     *
+     * @param threshold max time of worker thread running a single task, {@code null} turns
+     *     detection off
+     * @return this builder
+     */
+    public Builder blockedEventLoopThreshold(Duration threshold) {
+      if (threshold != null && (threshold.isNegative() || threshold.isZero())) {
+        throw new IllegalArgumentException("Invalid blocked event loop threshold: " + threshold);
+      }
+      this.blockedEventLoopThreshold = threshold;
+      return this;
+    }
+
+    public RSocketTransportConfig build() {
+      return new RSocketTransportConfig(this);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.EventExecutor;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Iterator;
+
+/**
+ * Chooses event loop by hash of remote address of the channel, which is the host only for IP
+ * addresses, so a reconnecting client lands on the same event loop. Event loop of the calling
+ * thread is chosen first, as by {@link EventExecutorChooser#DEFAULT_INSTANCE}.
+ */
+final class RemoteAddressHashEventExecutorChooser implements EventExecutorChooser {
+
+  @Override
+  public EventExecutor getEventExecutor(Channel channel, Iterator<EventExecutor> iterator) {
+    return getEventExecutor(channel, DefaultEventExecutorChooser.toArray(iterator));
+  }
+
+  @Override
+  public EventExecutor getEventExecutor(Channel channel, EventExecutor[] executors) {
+    for (EventExecutor executor : executors) {
+      if (executor.inEventLoop()) {
+        return executor;
+      }
+    }
+    SocketAddress remoteAddress = channel.remoteAddress();
+    if (remoteAddress == null || executors.length == 0) {
+      return null;
+    }
+    int hash = hash(remoteAddress);
+    hash ^= hash >>> 16;
+    return executors[Math.floorMod(hash, executors.length)];
+  }
+
+  private static int hash(SocketAddress remoteAddress) {
+    if (remoteAddress instanceof InetSocketAddress) {
+      // port of client is ephemeral, so only host identifies it across reconnects
+      InetSocketAddress inetSocketAddress = (InetSocketAddress) remoteAddress;
+      InetAddress address = inetSocketAddress.getAddress();
+      return address != null ? address.hashCode() : inetSocketAddress.getHostString().hashCode();
+    }
+    return remoteAddress.hashCode();
+  }
+}
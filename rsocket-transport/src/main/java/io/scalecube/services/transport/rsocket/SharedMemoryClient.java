@@ -0,0 +1,129 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.rsocket.DuplexConnection;
+import io.rsocket.transport.ClientTransport;
+import io.scalecube.transport.Address;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connects to {@link SharedMemoryServer} of the given directory. Files of both rings are created
+ * and mapped by the client before the connection is announced to the server. Server acknowledges
+ * the connection with an empty record in the server-to-client ring, connection which isn't
+ * acknowledged within accept timeout (e.g. server process has died and left its files) fails, so
+ * that the caller can fall back to a socket connection.
+ */
+final class SharedMemoryClient implements ClientTransport {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SharedMemoryClient.class);
+
+  static final Duration ACCEPT_TIMEOUT = Duration.ofSeconds(2);
+
+  private static final Duration ACCEPT_POLL_INTERVAL = Duration.ofMillis(1);
+
+  private final File directory;
+  private final int ringCapacity;
+  private final Duration acceptTimeout;
+
+  SharedMemoryClient(File directory, int ringCapacity) {
+    this(directory, ringCapacity, ACCEPT_TIMEOUT);
+  }
+
+  SharedMemoryClient(File directory, int ringCapacity, Duration acceptTimeout) {
+    this.directory = directory;
+    this.ringCapacity = ringCapacity;
+    this.acceptTimeout = acceptTimeout;
+  }
+
+  /**
+   * Checks whether the address is served by shared memory server on this host.
+   *
+   * @param address service address
+   * @return true if shared memory connection can be opened to the address
+   */
+  static boolean isAvailable(Address address) {
+    return RSocketServiceTransport.isLocalHost(address.host())
+        && SharedMemoryServer.isRunning(SharedMemoryServer.directory(address.port()));
+  }
+
+  @Override
+  public Mono<DuplexConnection> connect() {
+    return Mono.fromCallable(Handshake::new)
+        .flatMap(
+            handshake ->
+                Flux.interval(Duration.ZERO, ACCEPT_POLL_INTERVAL)
+                    .filter(tick -> handshake.isAccepted())
+                    .next()
+                    .timeout(
+                        acceptTimeout,
+                        Mono.defer(
+                            () ->
+                                Mono.error(
+                                    new IOException(
+                                        "Shared memory server in "
+                                            + directory
+                                            + " didn't accept connection within "
+                                            + acceptTimeout.toMillis()
+                                            + " ms"))))
+                    .<DuplexConnection>map(tick -> handshake.connection())
+                    .doOnError(ex -> handshake.abort())
+                    .doOnCancel(handshake::abort));
+  }
+
+  private final class Handshake {
+
+    private final String id = UUID.randomUUID().toString();
+    private final File outboundFile =
+        new File(directory, id + SharedMemoryServer.CLIENT_TO_SERVER_SUFFIX);
+    private final File inboundFile =
+        new File(directory, id + SharedMemoryServer.SERVER_TO_CLIENT_SUFFIX);
+    private final File marker = new File(directory, id + SharedMemoryServer.CONNECTION_SUFFIX);
+    private final MappedRing outbound;
+    private final MappedRing inbound;
+
+    private Handshake() throws IOException {
+      outbound = MappedRing.create(outboundFile, ringCapacity);
+      inbound = MappedRing.create(inboundFile, ringCapacity);
+      if (!marker.createNewFile()) {
+        inbound.unmap();
+        outbound.unmap();
+        deleteFiles();
+        throw new IOException("Failed to create " + marker);
+      }
+    }
+
+    private boolean isAccepted() {
+      return inbound.read(ByteBufAllocator.DEFAULT, ByteBuf::release, 1) > 0;
+    }
+
+    private SharedMemoryConnection connection() {
+      SharedMemoryConnection connection = new SharedMemoryConnection(id, inbound, outbound);
+      connection.start();
+      LOGGER.debug("Opened shared memory connection {} in {}", id, directory);
+      return connection;
+    }
+
+    private void abort() {
+      // closed rings make the server drop connection, if it is accepted after all
+      outbound.close();
+      inbound.close();
+      inbound.unmap();
+      outbound.unmap();
+      marker.delete();
+      deleteFiles();
+    }
+
+    private void deleteFiles() {
+      inboundFile.delete();
+      outboundFile.delete();
+    }
+  }
+}
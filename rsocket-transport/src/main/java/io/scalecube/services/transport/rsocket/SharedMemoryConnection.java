@@ -0,0 +1,204 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.rsocket.DuplexConnection;
+import io.rsocket.Frame;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.core.publisher.UnicastProcessor;
+
+/**
+ * RSocket connection over a pair of {@link MappedRing}s, one per direction. Connection has its own
+ * I/O thread which is the only producer of the outbound ring and the only consumer of the inbound
+ * one. It polls the inbound ring and drains frames queued by senders into the outbound ring, and
+ * backs off from spinning to parking when there is nothing to do. Received frames are handled on
+ * the I/O thread, the same way frames of TCP connection are handled on its event loop.
+ */
+final class SharedMemoryConnection implements DuplexConnection {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SharedMemoryConnection.class);
+
+  private static final int READ_LIMIT = 64;
+  private static final int SPINS = 100;
+  private static final int YIELDS = 100;
+  private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+  private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final String name;
+  private final MappedRing inbound;
+  private final MappedRing outbound;
+  private final Thread thread;
+
+  private final Queue<Frame> sendQueue = new MpscUnboundedArrayQueue<>(256);
+  private final UnicastProcessor<Frame> receiver = UnicastProcessor.create();
+  private final MonoProcessor<Void> onClose = MonoProcessor.create();
+
+  private volatile boolean disposed;
+  private volatile boolean closed; // set once I/O thread stops polling send queue
+  private volatile boolean parked;
+
+  private Frame pendingFrame; // frame which didn't fit into outbound ring, I/O thread only
+  private int idleCount; // I/O thread only
+  private long parkNanos = MIN_PARK_NANOS; // I/O thread only
+
+  SharedMemoryConnection(String name, MappedRing inbound, MappedRing outbound) {
+    this.name = name;
+    this.inbound = inbound;
+    this.outbound = outbound;
+    this.thread =
+        new NonBlockingThreadFactory.NonBlockingThread(null, this::run, "rsocket-shm-" + name);
+    this.thread.setDaemon(true);
+  }
+
+  /** Starts I/O thread of the connection. */
+  void start() {
+    thread.start();
+  }
+
+  @Override
+  public Mono<Void> send(Publisher<Frame> frames) {
+    return Flux.from(frames).doOnNext(this::enqueue).then();
+  }
+
+  @Override
+  public Flux<Frame> receive() {
+    return receiver;
+  }
+
+  @Override
+  public Mono<Void> onClose() {
+    return onClose;
+  }
+
+  @Override
+  public void dispose() {
+    disposed = true;
+    LockSupport.unpark(thread);
+  }
+
+  @Override
+  public boolean isDisposed() {
+    return onClose.isTerminated();
+  }
+
+  private void enqueue(Frame frame) {
+    if (disposed) {
+      frame.release();
+      throw new IllegalStateException("Connection " + name + " is closed");
+    }
+    int length = frame.content().readableBytes();
+    if (length > outbound.maxLength()) {
+      frame.release();
+      throw new IllegalArgumentException(
+          "Frame of "
+              + length
+              + " bytes is longer than "
+              + outbound.maxLength()
+              + " bytes which shared memory ring of connection "
+              + name
+              + " can take, use fragmentation for such messages");
+    }
+    sendQueue.offer(frame);
+    if (closed) {
+      // I/O thread has already released queued frames and won't poll the queue anymore
+      releaseQueuedFrames();
+    } else if (parked) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  private void releaseQueuedFrames() {
+    // queue has a single consumer, which is I/O thread until the connection is closed
+    synchronized (sendQueue) {
+      for (Frame frame = sendQueue.poll(); frame != null; frame = sendQueue.poll()) {
+        frame.release();
+      }
+    }
+  }
+
+  private void run() {
+    try {
+      while (!disposed) {
+        int work = drainSendQueue();
+        work += inbound.read(ByteBufAllocator.DEFAULT, this::onFrame, READ_LIMIT);
+        if (work > 0) {
+          idleCount = 0;
+          parkNanos = MIN_PARK_NANOS;
+        } else if (inbound.isClosed()) {
+          break;
+        } else {
+          idle();
+        }
+      }
+    } catch (Throwable ex) {
+      LOGGER.warn("Connection {} failed, cause: {}", name, ex.toString());
+    } finally {
+      close();
+    }
+  }
+
+  private int drainSendQueue() {
+    int count = 0;
+    Frame frame = pendingFrame != null ? pendingFrame : sendQueue.poll();
+    while (frame != null) {
+      if (!outbound.write(frame.content())) {
+        pendingFrame = frame;
+        return count;
+      }
+      frame.release();
+      count++;
+      frame = sendQueue.poll();
+    }
+    pendingFrame = null;
+    return count;
+  }
+
+  private void onFrame(ByteBuf buffer) {
+    receiver.onNext(Frame.from(buffer));
+  }
+
+  private void idle() {
+    idleCount++;
+    if (idleCount <= SPINS) {
+      return;
+    }
+    if (idleCount <= SPINS + YIELDS) {
+      Thread.yield();
+      return;
+    }
+    parked = true;
+    if (sendQueue.isEmpty() && !disposed) {
+      LockSupport.parkNanos(this, parkNanos);
+      parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
+    }
+    parked = false;
+  }
+
+  private void close() {
+    disposed = true;
+    outbound.close();
+    inbound.close();
+    inbound.unmap();
+    outbound.unmap();
+
+    if (pendingFrame != null) {
+      pendingFrame.release();
+      pendingFrame = null;
+    }
+    closed = true;
+    releaseQueuedFrames();
+
+    LOGGER.info("Connection {} closed", name);
+    receiver.onComplete();
+    onClose.onComplete();
+  }
+}
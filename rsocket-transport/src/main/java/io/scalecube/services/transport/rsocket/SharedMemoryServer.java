@@ -0,0 +1,210 @@
+package io.scalecube.services.transport.rsocket;
+
+import io.netty.buffer.Unpooled;
+import io.rsocket.Closeable;
+import io.rsocket.transport.ServerTransport;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+/**
+ * Accepts shared memory connections of clients running on the same host. Server owns directory
+ * named after its TCP port (see {@link #directory(int)}) and holds lock on the {@code server.lock}
+ * file in it while running. Client creates files of both rings of a new connection in the
+ * directory and then announces the connection with {@code <id>.conn} marker file, which server
+ * picks up and acknowledges with an empty record in the server-to-client ring.
+ */
+final class SharedMemoryServer implements ServerTransport<Closeable> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SharedMemoryServer.class);
+
+  static final String LOCK_FILE = "server.lock";
+  static final String CONNECTION_SUFFIX = ".conn";
+  static final String CLIENT_TO_SERVER_SUFFIX = ".c2s";
+  static final String SERVER_TO_CLIENT_SUFFIX = ".s2c";
+
+  private static final File BASE_DIRECTORY =
+      new File(
+          new File("/dev/shm").isDirectory()
+              ? "/dev/shm"
+              : System.getProperty("java.io.tmpdir"),
+          "scalecube-services");
+
+  private static final long ACCEPT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+  // directories of servers of this process, which are not checked by locking, as closing any
+  // other channel of the lock file may release lock held by the process
+  private static final Set<File> LOCAL_DIRECTORIES = new CopyOnWriteArraySet<>();
+
+  private final File directory;
+
+  SharedMemoryServer(int port) {
+    this.directory = directory(port);
+  }
+
+  /**
+   * Returns directory of shared memory server which runs along with TCP server on the given port.
+   *
+   * @param port TCP port
+   * @return server directory
+   */
+  static File directory(int port) {
+    return new File(BASE_DIRECTORY, String.valueOf(port));
+  }
+
+  /**
+   * Checks whether shared memory server is running in the given directory, i.e. whether lock file
+   * in the directory is held (by this or another process).
+   *
+   * @param directory server directory
+   * @return true if server is running
+   */
+  static boolean isRunning(File directory) {
+    if (LOCAL_DIRECTORIES.contains(directory)) {
+      return true;
+    }
+    File lockFile = new File(directory, LOCK_FILE);
+    if (!lockFile.exists()) {
+      return false;
+    }
+    try (RandomAccessFile file = new RandomAccessFile(lockFile, "rw")) {
+      FileLock lock = file.getChannel().tryLock();
+      if (lock == null) {
+        return true; // held by another process
+      }
+      lock.release();
+      return false; // stale directory of a dead process
+    } catch (IOException | OverlappingFileLockException ex) {
+      return false;
+    }
+  }
+
+  @Override
+  public Mono<Closeable> start(ConnectionAcceptor acceptor) {
+    return Mono.fromCallable(() -> new Acceptor(acceptor));
+  }
+
+  private final class Acceptor implements Closeable {
+
+    private final ConnectionAcceptor acceptor;
+    private final RandomAccessFile lockFile;
+    private final FileLock lock;
+    private final Thread thread;
+    private final Set<SharedMemoryConnection> connections = new CopyOnWriteArraySet<>();
+    private final MonoProcessor<Void> onClose = MonoProcessor.create();
+
+    private volatile boolean disposed;
+
+    private Acceptor(ConnectionAcceptor acceptor) throws IOException {
+      this.acceptor = acceptor;
+
+      if (!directory.isDirectory() && !directory.mkdirs()) {
+        throw new IOException("Failed to create directory " + directory);
+      }
+      lockFile = new RandomAccessFile(new File(directory, LOCK_FILE), "rw");
+      try {
+        lock = lockFile.getChannel().tryLock();
+      } catch (OverlappingFileLockException ex) {
+        lockFile.close();
+        throw new IOException("Directory " + directory + " is used by another server", ex);
+      }
+      if (lock == null) {
+        lockFile.close();
+        throw new IOException("Directory " + directory + " is used by another server");
+      }
+
+      // leftovers of a dead server and its clients
+      File[] files = directory.listFiles((dir, name) -> !LOCK_FILE.equals(name));
+      if (files != null) {
+        for (File file : files) {
+          file.delete();
+        }
+      }
+
+      LOCAL_DIRECTORIES.add(directory);
+      thread = new Thread(this::run, "rsocket-shm-acceptor-" + directory.getName());
+      thread.setDaemon(true);
+      thread.start();
+      LOGGER.info("Accepting shared memory connections in {}", directory);
+    }
+
+    private void run() {
+      while (!disposed) {
+        File[] markers = directory.listFiles((dir, name) -> name.endsWith(CONNECTION_SUFFIX));
+        if (markers != null) {
+          for (File marker : markers) {
+            // marker is deleted first, so the connection is accepted once
+            if (marker.delete()) {
+              String name = marker.getName();
+              accept(name.substring(0, name.length() - CONNECTION_SUFFIX.length()));
+            }
+          }
+        }
+        LockSupport.parkNanos(this, ACCEPT_INTERVAL_NANOS);
+      }
+    }
+
+    private void accept(String id) {
+      File inboundFile = new File(directory, id + CLIENT_TO_SERVER_SUFFIX);
+      File outboundFile = new File(directory, id + SERVER_TO_CLIENT_SUFFIX);
+      try {
+        MappedRing inbound = MappedRing.open(inboundFile);
+        MappedRing outbound = MappedRing.open(outboundFile);
+        // empty record acknowledges the connection to the client, see SharedMemoryClient
+        outbound.write(Unpooled.EMPTY_BUFFER);
+        SharedMemoryConnection connection = new SharedMemoryConnection(id, inbound, outbound);
+        connections.add(connection);
+        connection.onClose().doFinally(s -> connections.remove(connection)).subscribe();
+        connection.start();
+        LOGGER.info("Accepted shared memory connection {} in {}", id, directory);
+        acceptor.apply(connection).subscribe();
+      } catch (Throwable ex) {
+        LOGGER.warn("Failed to accept shared memory connection {}, cause: {}", id, ex.toString());
+      } finally {
+        // both sides have files mapped by now
+        inboundFile.delete();
+        outboundFile.delete();
+      }
+    }
+
+    @Override
+    public Mono<Void> onClose() {
+      return onClose;
+    }
+
+    @Override
+    public void dispose() {
+      if (disposed) {
+        return;
+      }
+      disposed = true;
+      LockSupport.unpark(thread);
+      connections.forEach(SharedMemoryConnection::dispose);
+      LOCAL_DIRECTORIES.remove(directory);
+      new File(directory, LOCK_FILE).delete();
+      try {
+        lock.release();
+        lockFile.close();
+      } catch (IOException ex) {
+        LOGGER.warn("Failed to release lock of {}, cause: {}", directory, ex.toString());
+      }
+      directory.delete(); // unless a client has just announced a connection
+      onClose.onComplete();
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return disposed;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package io.scalecube.services.transport.rsocket;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BlockedEventLoopDetectorTest {
+
+  private static final Duration THRESHOLD = Duration.ofMillis(100);
+
+  private final EventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(1);
+  private final BlockingQueue<Exception> reports = new LinkedBlockingQueue<>();
+
+  @AfterEach
+  void tearDown() {
+    eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @DisplayName("detector should report event loop blocked past threshold with its stack trace")
+  void testReportsBlockedEventLoop() throws Exception {
+    BlockedEventLoopDetector.start(eventLoopGroup, THRESHOLD, reports::add);
+    String threadName = eventLoopGroup.submit(() -> Thread.currentThread().getName()).get();
+
+    eventLoopGroup.execute(BlockedEventLoopDetectorTest::block);
+
+    Exception report = reports.poll(10, TimeUnit.SECONDS);
+    assertNotNull(report, "Blocked event loop is not reported");
+    assertTrue(report.getMessage().contains(threadName), report.getMessage());
+    assertTrue(
+        Arrays.stream(report.getStackTrace())
+            .anyMatch(element -> element.getMethodName().equals("block")),
+        "Stack trace doesn't show what blocks event loop");
+  }
+
+  @Test
+  @DisplayName("detector should not report idle event loop")
+  void testDoesNotReportIdleEventLoop() throws Exception {
+    BlockedEventLoopDetector.start(eventLoopGroup, THRESHOLD, reports::add);
+
+    assertNull(reports.poll(THRESHOLD.toMillis() * 5, TimeUnit.MILLISECONDS));
+  }
+
+  private static void block() {
+    try {
+      Thread.sleep(THRESHOLD.toMillis() * 5);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
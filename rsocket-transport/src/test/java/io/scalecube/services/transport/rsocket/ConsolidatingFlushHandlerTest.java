@@ -0,0 +1,126 @@
+package io.scalecube.services.transport.rsocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConsolidatingFlushHandlerTest {
+
+  private final FlushCounter flushCounter = new FlushCounter();
+
+  @Test
+  @DisplayName("flushes requested while channel is read should go through when read completes")
+  void testConsolidatesFlushesDuringRead() {
+    EmbeddedChannel channel = channel(16);
+
+    channel.pipeline().fireChannelRead("request");
+    writeAndFlush(channel, 3);
+    assertEquals(0, flushCounter.flushes);
+    assertEquals(0, channel.outboundMessages().size());
+
+    channel.pipeline().fireChannelReadComplete();
+    assertEquals(1, flushCounter.flushes);
+    assertEquals(3, channel.outboundMessages().size());
+  }
+
+  @Test
+  @DisplayName("flushes requested outside of read should go through in one queued task")
+  void testConsolidatesFlushesIntoQueuedTask() {
+    EmbeddedChannel channel = channel(16);
+
+    // embedded channel runs queued tasks on every write which reaches it, so write first
+    for (int i = 0; i < 3; i++) {
+      channel.pipeline().write("response" + i);
+    }
+    for (int i = 0; i < 3; i++) {
+      channel.pipeline().flush();
+    }
+    assertEquals(0, flushCounter.flushes);
+
+    channel.runPendingTasks();
+    assertEquals(1, flushCounter.flushes);
+    assertEquals(3, channel.outboundMessages().size());
+  }
+
+  @Test
+  @DisplayName("every maxFlushes-th flush should go through right away")
+  void testFlushesWhenLimitReached() {
+    EmbeddedChannel channel = channel(2);
+
+    channel.pipeline().fireChannelRead("request");
+    writeAndFlush(channel, 5);
+    assertEquals(2, flushCounter.flushes);
+    assertEquals(4, channel.outboundMessages().size());
+
+    channel.pipeline().fireChannelReadComplete();
+    assertEquals(3, flushCounter.flushes);
+    assertEquals(5, channel.outboundMessages().size());
+  }
+
+  @Test
+  @DisplayName("flush deferred for max delay should go through on next flush or read")
+  void testFlushesWhenMaxDelayPassed() throws Exception {
+    EmbeddedChannel channel = channel(16, TimeUnit.MILLISECONDS.toNanos(10));
+
+    channel.pipeline().fireChannelRead("request");
+    writeAndFlush(channel, 1);
+    Thread.sleep(20);
+    channel.pipeline().fireChannelRead("request");
+    assertEquals(1, flushCounter.flushes);
+    assertEquals(1, channel.outboundMessages().size());
+
+    writeAndFlush(channel, 1);
+    Thread.sleep(20);
+    writeAndFlush(channel, 1);
+    assertEquals(2, flushCounter.flushes);
+    assertEquals(3, channel.outboundMessages().size());
+
+    channel.pipeline().fireChannelReadComplete();
+    assertEquals(2, flushCounter.flushes);
+  }
+
+  @Test
+  @DisplayName("pending flush should go through before channel is closed")
+  void testFlushesOnClose() {
+    EmbeddedChannel channel = channel(16);
+
+    writeAndFlush(channel, 1);
+    assertEquals(0, flushCounter.flushes);
+
+    channel.close();
+    assertEquals(1, flushCounter.flushes);
+    assertEquals(1, channel.outboundMessages().size());
+  }
+
+  private EmbeddedChannel channel(int maxFlushes) {
+    return channel(maxFlushes, Long.MAX_VALUE);
+  }
+
+  private EmbeddedChannel channel(int maxFlushes, long maxDelayNanos) {
+    // counter is closer to the head of pipeline, so it sees flushes passed by the handler
+    return new EmbeddedChannel(
+        flushCounter, new ConsolidatingFlushHandler(maxFlushes, maxDelayNanos));
+  }
+
+  private static void writeAndFlush(EmbeddedChannel channel, int count) {
+    for (int i = 0; i < count; i++) {
+      channel.pipeline().writeAndFlush("response" + i);
+    }
+  }
+
+  private static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+    private int flushes;
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+      flushes++;
+      ctx.flush();
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package io.scalecube.services.transport.rsocket;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.util.concurrent.EventExecutor;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventExecutorChooserTest {
+
+  private final EventExecutor[] executors = {
+    new DefaultEventLoop(), new DefaultEventLoop(), new DefaultEventLoop()
+  };
+
+  @AfterEach
+  void tearDown() {
+    for (EventExecutor executor : executors) {
+      executor.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  @DisplayName("least connections chooser should spread channels and reuse loop of closed one")
+  void testLeastConnections() throws Exception {
+    EventExecutorChooser chooser = EventExecutorChooser.leastConnections();
+
+    Channel[] channels = new Channel[executors.length * 2];
+    for (int i = 0; i < channels.length; i++) {
+      channels[i] = register(chooser, new LocalChannel());
+      assertSame(executors[i % executors.length], channels[i].eventLoop());
+    }
+
+    channels[4].close().sync();
+    assertSame(channels[4].eventLoop(), register(chooser, new LocalChannel()).eventLoop());
+  }
+
+  @Test
+  @DisplayName("least pending tasks chooser should skip busy loop even if it has fewer channels")
+  void testLeastPendingTasks() throws Exception {
+    EventExecutorChooser chooser = EventExecutorChooser.leastPendingTasks();
+    register(chooser, new LocalChannel());
+    register(chooser, new LocalChannel());
+    assertSame(executors[2], chooser.getEventExecutor(new LocalChannel(), executors));
+
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    executors[2].execute(
+        () -> {
+          blocked.countDown();
+          awaitUninterruptibly(release);
+        });
+    blocked.await(10, TimeUnit.SECONDS);
+    executors[2].execute(() -> {});
+
+    try {
+      assertSame(executors[0], chooser.getEventExecutor(new LocalChannel(), executors));
+      assertSame(executors[1], chooser.getEventExecutor(new LocalChannel(), executors));
+      assertSame(executors[0], chooser.getEventExecutor(new LocalChannel(), executors));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  @DisplayName("remote address hash chooser should keep the same address on the same loop")
+  void testHashByRemoteAddress() {
+    EventExecutorChooser chooser = EventExecutorChooser.hashByRemoteAddress();
+
+    assertNull(chooser.getEventExecutor(new LocalChannel(), executors));
+
+    Set<EventExecutor> chosen = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      LocalAddress remoteAddress = new LocalAddress("client-" + i);
+      EventExecutor executor = chooser.getEventExecutor(channel(remoteAddress), executors);
+      assertSame(executor, chooser.getEventExecutor(channel(remoteAddress), executors));
+      chosen.add(executor);
+    }
+    assertTrue(chosen.size() > 1, "All addresses are hashed to the same event loop");
+  }
+
+  @Test
+  @DisplayName("remote address hash chooser should keep the same host on the same loop")
+  void testHashByRemoteHost() {
+    EventExecutorChooser chooser = EventExecutorChooser.hashByRemoteAddress();
+
+    Set<EventExecutor> chosen = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      String host = "10.0.0." + i;
+      EventExecutor executor =
+          chooser.getEventExecutor(channel(new InetSocketAddress(host, 50000)), executors);
+      assertSame(
+          executor,
+          chooser.getEventExecutor(channel(new InetSocketAddress(host, 50001 + i)), executors),
+          host);
+      chosen.add(executor);
+    }
+    assertTrue(chosen.size() > 1, "All hosts are hashed to the same event loop");
+  }
+
+  @Test
+  @DisplayName("choosers should prefer event loop of the calling thread")
+  void testPrefersCallingEventLoop() throws Exception {
+    EventExecutorChooser[] choosers = {
+      EventExecutorChooser.DEFAULT_INSTANCE,
+      EventExecutorChooser.leastConnections(),
+      EventExecutorChooser.leastPendingTasks(),
+      EventExecutorChooser.hashByRemoteAddress()
+    };
+    for (EventExecutorChooser chooser : choosers) {
+      EventExecutor chosen =
+          executors[1]
+              .submit(() -> chooser.getEventExecutor(new LocalChannel(), executors))
+              .get(10, TimeUnit.SECONDS);
+      assertSame(executors[1], chosen, chooser.getClass().getName());
+    }
+  }
+
+  private Channel register(EventExecutorChooser chooser, Channel channel) throws Exception {
+    EventLoop eventLoop = (EventLoop) chooser.getEventExecutor(channel, executors);
+    eventLoop.register(channel).sync();
+    return channel;
+  }
+
+  private static Channel channel(SocketAddress remoteAddress) {
+    return new EmbeddedChannel() {
+      @Override
+      public SocketAddress remoteAddress() {
+        return remoteAddress;
+      }
+    };
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package io.scalecube.services.transport.rsocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MappedRingTest {
+
+  private static final int CAPACITY = 64;
+
+  private File file;
+  private MappedRing producer;
+  private MappedRing consumer;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    file = File.createTempFile("mapped-ring", ".ring");
+    producer = MappedRing.create(file, CAPACITY);
+    consumer = MappedRing.open(file);
+  }
+
+  @AfterEach
+  void tearDown() {
+    consumer.unmap();
+    producer.unmap();
+    file.delete();
+  }
+
+  @Test
+  @DisplayName("record which doesn't fit before the end of ring should be written at its start")
+  void testWrapsAroundWithPadding() {
+    assertTrue(write(record('a', 24)));
+    assertTrue(write(record('b', 16)));
+    assertEquals(Arrays.asList(record('a', 24), record('b', 16)), read());
+
+    // 8 bytes are left before the end, record takes 24 with its header
+    assertTrue(write(record('c', 10)));
+    assertEquals(Collections.singletonList(record('c', 10)), read());
+
+    assertTrue(write(record('d', 10)));
+    assertEquals(Collections.singletonList(record('d', 10)), read());
+  }
+
+  @Test
+  @DisplayName("write to full ring should fail until consumer releases space")
+  void testRejectsWriteToFullRing() {
+    assertTrue(write(record('a', 24)));
+    assertTrue(write(record('b', 24)));
+    assertFalse(write(record('c', 1)));
+
+    assertEquals(Collections.singletonList(record('a', 24)), read(1));
+    assertTrue(write(record('c', 24)));
+    assertFalse(write(""));
+    assertEquals(Arrays.asList(record('b', 24), record('c', 24)), read());
+  }
+
+  @Test
+  @DisplayName("write should count padding in front of record against free space")
+  void testRejectsWriteWhichDoesNotFitWithPadding() {
+    assertTrue(write(record('a', 8)));
+    assertTrue(write(record('b', 24)));
+    assertEquals(Collections.singletonList(record('a', 8)), read(1));
+
+    // 32 bytes are free, but 16 of them are before the end, so record of 32 bytes needs 48
+    assertFalse(write(record('c', 24)));
+    assertEquals(Collections.singletonList(record('b', 24)), read());
+    assertTrue(write(record('c', 24)));
+    assertEquals(Collections.singletonList(record('c', 24)), read());
+  }
+
+  @Test
+  @DisplayName("record of max length should fit into empty ring at any position")
+  void testWritesRecordOfMaxLength() throws Exception {
+    int maxLength = producer.maxLength();
+    assertEquals(CAPACITY / 2 - 8, maxLength);
+
+    for (int position = 0; position < CAPACITY; position += 8) {
+      tearDown();
+      setUp();
+      // empty record takes 8 bytes of its header
+      for (int i = 0; i < position; i += 8) {
+        assertTrue(write(""));
+      }
+      read();
+
+      assertTrue(write(record('x', maxLength)), "position " + position);
+      assertEquals(Collections.singletonList(record('x', maxLength)), read());
+    }
+  }
+
+  private boolean write(String record) {
+    ByteBuf buffer = Unpooled.copiedBuffer(record, StandardCharsets.UTF_8);
+    try {
+      return producer.write(buffer);
+    } finally {
+      buffer.release();
+    }
+  }
+
+  private List<String> read() {
+    return read(Integer.MAX_VALUE);
+  }
+
+  private List<String> read(int limit) {
+    List<String> records = new ArrayList<>();
+    consumer.read(
+        ByteBufAllocator.DEFAULT,
+        buffer -> {
+          records.add(buffer.toString(StandardCharsets.UTF_8));
+          buffer.release();
+        },
+        limit);
+    return records;
+  }
+
+  private static String record(char c, int length) {
+    return String.join("", Collections.nCopies(length, String.valueOf(c)));
+  }
+}
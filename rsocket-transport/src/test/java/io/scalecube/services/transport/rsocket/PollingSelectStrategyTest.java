@@ -0,0 +1,72 @@
+package io.scalecube.services.transport.rsocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.channel.SelectStrategy;
+import io.netty.util.IntSupplier;
+import io.scalecube.services.transport.api.IdleStrategy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PollingSelectStrategyTest {
+
+  private static final Duration MAX_PARK = Duration.ofMillis(50);
+
+  private final AtomicInteger selects = new AtomicInteger();
+
+  @Test
+  @DisplayName("strategy should poll channels instead of blocking in select")
+  void testPollsInsteadOfSelect() throws Exception {
+    SelectStrategy strategy =
+        PollingSelectStrategy.factory(IdleStrategy.busySpin()).newSelectStrategy();
+
+    assertEquals(3, strategy.calculateStrategy(readyChannels(3), false));
+    assertEquals(0, strategy.calculateStrategy(readyChannels(0), true));
+    assertEquals(0, strategy.calculateStrategy(readyChannels(0), false));
+    assertEquals(3, selects.get());
+  }
+
+  @Test
+  @DisplayName("busy spin strategy should never park")
+  void testBusySpinNeverParks() throws Exception {
+    SelectStrategy strategy =
+        PollingSelectStrategy.factory(IdleStrategy.busySpin()).newSelectStrategy();
+
+    long elapsed = idle(strategy, 1000);
+    assertTrue(elapsed < MAX_PARK.toNanos(), "Idle polls took " + elapsed + " ns");
+  }
+
+  @Test
+  @DisplayName("backoff strategy should park up to max period and reset on activity")
+  void testBackoffParksAndResets() throws Exception {
+    SelectStrategy strategy =
+        PollingSelectStrategy.factory(IdleStrategy.backoff(10, 10, MAX_PARK)).newSelectStrategy();
+
+    // spins and yields, then parks doubling from 1 microsecond to the max
+    idle(strategy, 20 + 16);
+    long elapsed = idle(strategy, 3);
+    assertTrue(elapsed >= 2 * MAX_PARK.toNanos(), "Parked polls took " + elapsed + " ns");
+
+    strategy.calculateStrategy(readyChannels(1), false);
+    elapsed = idle(strategy, 20 + 1);
+    assertTrue(elapsed < MAX_PARK.toNanos() / 2, "Idle polls took " + elapsed + " ns");
+  }
+
+  private long idle(SelectStrategy strategy, int polls) throws Exception {
+    long start = System.nanoTime();
+    for (int i = 0; i < polls; i++) {
+      assertEquals(0, strategy.calculateStrategy(readyChannels(0), false));
+    }
+    return System.nanoTime() - start;
+  }
+
+  private IntSupplier readyChannels(int count) {
+    return () -> {
+      selects.incrementAndGet();
+      return count;
+    };
+  }
+}
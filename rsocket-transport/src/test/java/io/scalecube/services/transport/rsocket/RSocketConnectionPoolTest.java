@@ -0,0 +1,131 @@
+package io.scalecube.services.transport.rsocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.rsocket.AbstractRSocket;
+import io.rsocket.Payload;
+import io.rsocket.RSocket;
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.BinaryHeadersCodec;
+import io.scalecube.services.codec.ServiceMessageCodec;
+import io.scalecube.transport.Address;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class RSocketConnectionPoolTest {
+
+  private static final Address ADDRESS = Address.create("localhost", 4801);
+
+  private static final ServiceMessage REQUEST =
+      ServiceMessage.builder().qualifier("greeting/hello").build();
+
+  private final ServiceMessageCodec codec = new ServiceMessageCodec(new BinaryHeadersCodec());
+  private final List<StubRSocket> connections = new ArrayList<>();
+  private final AtomicReference<RSocketConnectionPool> emptied = new AtomicReference<>();
+
+  @Test
+  @DisplayName("pool should open new connection only when all connections are busy")
+  void testGrowsWhenAllConnectionsBusy() {
+    RSocketConnectionPool pool = pool(2);
+
+    request(pool);
+    assertEquals(1, connections.size());
+
+    request(pool);
+    assertEquals(2, connections.size());
+    assertEquals(1, connections.get(1).requests);
+
+    // pool is full, busy connections are shared
+    request(pool);
+    request(pool);
+    request(pool);
+    assertEquals(2, connections.size());
+    assertEquals(3, connections.get(0).requests);
+    assertEquals(2, connections.get(1).requests);
+  }
+
+  @Test
+  @DisplayName("pool should send request over connection with least outstanding streams")
+  void testSelectsLeastOutstandingConnection() {
+    RSocketConnectionPool pool = pool(2);
+    request(pool);
+    Disposable second = request(pool);
+    request(pool);
+    request(pool);
+
+    // first connection has two outstanding streams, second one has one left
+    second.dispose();
+    request(pool);
+
+    assertEquals(2, connections.size());
+    assertEquals(2, connections.get(0).requests);
+    assertEquals(3, connections.get(1).requests);
+  }
+
+  @Test
+  @DisplayName("pool should open connections eagerly up to given count")
+  void testOpensConnectionsEagerly() {
+    RSocketConnectionPool pool = pool(2);
+
+    pool.open(2);
+    assertEquals(2, connections.size());
+
+    request(pool);
+    request(pool);
+    assertEquals(2, connections.size());
+    assertEquals(1, connections.get(0).requests);
+    assertEquals(1, connections.get(1).requests);
+  }
+
+  @Test
+  @DisplayName("pool should remove closed connection and grow again on demand")
+  void testRemovesClosedConnection() {
+    RSocketConnectionPool pool = pool(1);
+    request(pool);
+
+    connections.get(0).dispose();
+    assertSame(pool, emptied.get());
+
+    request(pool);
+    assertEquals(2, connections.size());
+    assertEquals(1, connections.get(1).requests);
+  }
+
+  private RSocketConnectionPool pool(int maxSize) {
+    return new RSocketConnectionPool(
+        ADDRESS,
+        maxSize,
+        codec,
+        address ->
+            Mono.fromCallable(
+                () -> {
+                  StubRSocket rsocket = new StubRSocket();
+                  connections.add(rsocket);
+                  return rsocket;
+                }),
+        emptied::set);
+  }
+
+  private static Disposable request(RSocketConnectionPool pool) {
+    return pool.requestResponse(REQUEST).subscribe(null, ex -> {});
+  }
+
+  private static final class StubRSocket extends AbstractRSocket {
+
+    private int requests;
+
+    @Override
+    public Mono<Payload> requestResponse(Payload payload) {
+      payload.release();
+      requests++;
+      // keeps stream outstanding until subscriber cancels it
+      return Mono.never();
+    }
+  }
+}
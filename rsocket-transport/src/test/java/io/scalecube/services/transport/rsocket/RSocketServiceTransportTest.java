@@ -0,0 +1,80 @@
+package io.scalecube.services.transport.rsocket;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+class RSocketServiceTransportTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @Test
+  @DisplayName("transport should use NIO when native transport is not preferred")
+  void testUsesNioWhenNativeNotPreferred() {
+    RSocketServiceTransport transport =
+        new RSocketServiceTransport(RSocketTransportConfig.builder().preferNative(false).build());
+    assertFalse(transport.isNativeSupported());
+
+    EventLoopGroup workerThreadPool = (EventLoopGroup) transport.getWorkerThreadPool(1, null);
+    try {
+      assertTrue(workerThreadPool instanceof ExtendedNioEventLoopGroup);
+
+      DelegatedLoopResources loopResources =
+          new DelegatedLoopResources(transport.isNativeSupported(), workerThreadPool);
+      assertEquals(NioSocketChannel.class, loopResources.onChannel(workerThreadPool));
+      assertEquals(NioServerSocketChannel.class, loopResources.onServerChannel(workerThreadPool));
+    } finally {
+      transport.shutdown(workerThreadPool).block(TIMEOUT);
+    }
+  }
+
+  @Test
+  @DisplayName("transport should use epoll by default when it is available")
+  void testUsesEpollByDefault() {
+    assumeTrue(Epoll.isAvailable(), "Epoll is not available");
+
+    RSocketServiceTransport transport = new RSocketServiceTransport();
+    assertTrue(transport.isNativeSupported());
+
+    EventLoopGroup workerThreadPool = (EventLoopGroup) transport.getWorkerThreadPool(1, null);
+    try {
+      assertTrue(workerThreadPool instanceof ExtendedEpollEventLoopGroup);
+
+      DelegatedLoopResources loopResources =
+          new DelegatedLoopResources(transport.isNativeSupported(), workerThreadPool);
+      assertEquals(EpollSocketChannel.class, loopResources.onChannel(workerThreadPool));
+      assertEquals(EpollServerSocketChannel.class, loopResources.onServerChannel(workerThreadPool));
+    } finally {
+      transport.shutdown(workerThreadPool).block(TIMEOUT);
+    }
+  }
+
+  @Test
+  @DisplayName("worker threads should be non-blocking threads of reactor")
+  void testWorkerThreadsAreNonBlocking() throws Exception {
+    RSocketServiceTransport transport = new RSocketServiceTransport();
+
+    EventLoopGroup workerThreadPool = (EventLoopGroup) transport.getWorkerThreadPool(1, null);
+    try {
+      assertTrue(
+          workerThreadPool
+              .submit(Schedulers::isInNonBlockingThread)
+              .get(TIMEOUT.toMillis(), MILLISECONDS));
+    } finally {
+      transport.shutdown(workerThreadPool).block(TIMEOUT);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package io.scalecube.services.transport.rsocket;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.rsocket.Closeable;
+import io.rsocket.DuplexConnection;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class SharedMemoryClientTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+  private static final int RING_CAPACITY = 64 * 1024;
+
+  @Test
+  @DisplayName("client should connect once server acknowledges connection")
+  void testConnectsToAcceptingServer() {
+    int port = ThreadLocalRandom.current().nextInt(50000, 60000);
+    Closeable server = new SharedMemoryServer(port).start(connection -> Mono.never()).block();
+    try {
+      DuplexConnection connection =
+          new SharedMemoryClient(SharedMemoryServer.directory(port), RING_CAPACITY)
+              .connect()
+              .block(TIMEOUT);
+      assertNotNull(connection);
+      connection.dispose();
+      connection.onClose().block(TIMEOUT);
+    } finally {
+      server.dispose();
+    }
+  }
+
+  @Test
+  @DisplayName("client should fail and clean up when nobody accepts connection")
+  void testFailsWhenServerDoesNotAccept() throws Exception {
+    File directory = Files.createTempDirectory("shm-server").toFile();
+    try {
+      SharedMemoryClient client =
+          new SharedMemoryClient(directory, RING_CAPACITY, Duration.ofMillis(100));
+
+      StepVerifier.create(client.connect()).expectError(IOException.class).verify(TIMEOUT);
+      assertArrayEquals(new String[0], directory.list());
+    } finally {
+      directory.delete();
+    }
+  }
+}
@@ -12,4 +12,16 @@ public @interface Service {
 
   /** Name of the service. If not specified service class result will be used. */
   String value() default "";
+
+  /**
+   * Name of the scheduler which methods of the service are invoked on by the serving side, unless
+   * a method declares its own one, see {@link ServiceMethod#scheduler()}.
+   */
+  String scheduler() default "";
+
+  /**
+   * Whether all methods of the service send their {@code byte[]}, {@code String} and primitive data
+   * by built-in raw codecs, see {@link ServiceMethod#rawData()}.
+   */
+  boolean rawData() default false;
 }
@@ -18,4 +18,24 @@ public @interface ServiceMethod {
    * the code.
    */
   String value() default "";
+
+  /**
+   * Name of the scheduler which the method is invoked on by the serving side, see {@link
+   * io.scalecube.services.methods.MethodSchedulers}. Blocking or CPU-heavy methods should be
+   * assigned a scheduler, so that they don't stall event loop which received the request along
+   * with all other connections of that event loop. In case if not provided the scheduler of the
+   * service is used, if any, otherwise method is invoked on the event loop, unless it's a
+   * synchronous one (returning a plain value or void), which is invoked on {@value
+   * io.scalecube.services.methods.MethodSchedulers#VIRTUAL} scheduler.
+   */
+  String scheduler() default "";
+
+  /**
+   * Whether {@code byte[]}, {@code String} and primitive request and response data of the method
+   * is sent as is by built-in raw codecs (see {@link
+   * io.scalecube.services.codec.DataCodec#rawContentType(Class)}) rather than by the default
+   * codec. It changes data format of the method on the wire, so all nodes calling or serving the
+   * method must have the raw codecs. Method uses raw codecs if either it or its service opts in.
+   */
+  boolean rawData() default false;
 }
@@ -0,0 +1,118 @@
+package io.scalecube.services.api;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable headers map backed by a single array of alternating keys and values. Messages carry
+ * just a few headers, which are found by linear scan faster than by hashing, and the whole map is
+ * two objects instead of a hash table with an entry per header.
+ *
+ * <p>The array is never modified once the map is built, so {@link ServiceMessage.Builder} derives
+ * new maps from it by copying the array only when headers actually change.
+ */
+final class ArrayHeaders extends AbstractMap<String, String> {
+
+  /** Max number of headers kept in array, bigger maps are hash maps. */
+  static final int MAX_SIZE = 8;
+
+  private final String[] entries;
+  private final int size;
+
+  /**
+   * Constructor.
+   *
+   * @param entries alternating keys and values, the map takes ownership of the array
+   * @param size number of headers in the array
+   */
+  ArrayHeaders(String[] entries, int size) {
+    this.entries = entries;
+    this.size = size;
+  }
+
+  /**
+   * Returns copy of the underlying array with room for at least one more header.
+   *
+   * @return alternating keys and values
+   */
+  String[] copyEntries() {
+    String[] copy = new String[Math.max(size + 1, 4) << 1];
+    System.arraycopy(entries, 0, copy, 0, size << 1);
+    return copy;
+  }
+
+  /**
+   * Returns index of the given key in the array of alternating keys and values.
+   *
+   * @param entries alternating keys and values
+   * @param size number of headers in the array
+   * @param key header name
+   * @return index of the key (value is next to it) or -1 if there is no such key
+   */
+  static int indexOf(String[] entries, int size, Object key) {
+    for (int i = 0, length = size << 1; i < length; i += 2) {
+      String k = entries[i];
+      if (k == key || (k != null && k.equals(key))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public String get(Object key) {
+    int index = indexOf(entries, size, key);
+    return index >= 0 ? entries[index + 1] : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(entries, size, key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    return new AbstractSet<Entry<String, String>>() {
+      @Override
+      public Iterator<Entry<String, String>> iterator() {
+        return new Iterator<Entry<String, String>>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return index < size << 1;
+          }
+
+          @Override
+          public Entry<String, String> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Entry<String, String> entry =
+                new SimpleImmutableEntry<>(entries[index], entries[index + 1]);
+            index += 2;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+}
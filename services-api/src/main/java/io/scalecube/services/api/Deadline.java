@@ -0,0 +1,105 @@
+package io.scalecube.services.api;
+
+import io.scalecube.services.exceptions.DeadlineExceededException;
+import java.time.Duration;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deadline of a request on the local monotonic clock. Request carries it over the wire as the
+ * time remaining to it (see {@link ServiceMessage#HEADER_TIMEOUT}), which both the caller and the
+ * serving side turn into a deadline of their own, so it doesn't depend on wall clocks of nodes.
+ */
+public final class Deadline {
+
+  private static final Duration MAX_TIMEOUT = Duration.ofDays(365);
+
+  private final long nanoTime;
+
+  private Deadline(long nanoTime) {
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Returns deadline which passes in the given time from now.
+   *
+   * @param timeout time to the deadline
+   * @return deadline
+   */
+  public static Deadline after(Duration timeout) {
+    // far deadline is capped, so that it neither overflows nor wraps around the clock
+    long nanos = timeout.compareTo(MAX_TIMEOUT) < 0 ? timeout.toNanos() : MAX_TIMEOUT.toNanos();
+    return new Deadline(System.nanoTime() + nanos);
+  }
+
+  /**
+   * Returns deadline of the request, the one set on this node if there is, otherwise the one it
+   * was received with.
+   *
+   * @param request request message
+   * @return deadline or {@code null} if the request has no deadline
+   */
+  public static Deadline of(ServiceMessage request) {
+    if (request.deadline() != null) {
+      return request.deadline();
+    }
+    Duration timeout = request.timeout();
+    return timeout != null ? after(timeout) : null;
+  }
+
+  /**
+   * Returns exception which fails request once its deadline has passed.
+   *
+   * @param qualifier qualifier of the request
+   * @return exception
+   */
+  public static DeadlineExceededException exceeded(String qualifier) {
+    return new DeadlineExceededException("Deadline of request has passed: " + qualifier);
+  }
+
+  public boolean isExpired() {
+    return nanoTime - System.nanoTime() <= 0;
+  }
+
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(nanoTime - System.nanoTime(), 0));
+  }
+
+  /**
+   * Returns copy of the request, which carries this deadline and time remaining to it. Transport
+   * updates the remaining time once it writes the request.
+   *
+   * @param request request message
+   * @return request to send
+   */
+  public ServiceMessage applyTo(ServiceMessage request) {
+    return ServiceMessage.from(request).deadline(this).timeout(remaining()).build();
+  }
+
+  /**
+   * Bounds response of request by this deadline.
+   *
+   * @param response response of request
+   * @param fallback publisher which response is switched to once this deadline passes
+   * @param <T> response type
+   * @return response bounded by this deadline
+   */
+  public <T> Mono<T> bound(Mono<T> response, Mono<? extends T> fallback) {
+    return response.timeout(remaining(), fallback);
+  }
+
+  /**
+   * Bounds responses of request by this deadline, every next response is waited for as long as
+   * remains to this deadline.
+   *
+   * @param responses responses of request
+   * @param fallback publisher which responses are switched to once this deadline passes
+   * @param <T> response type
+   * @return responses bounded by this deadline
+   */
+  public <T> Flux<T> bound(Flux<T> responses, Publisher<? extends T> fallback) {
+    return responses.timeout(
+        Mono.delay(remaining()), response -> Mono.delay(remaining()), fallback);
+  }
+}
@@ -0,0 +1,99 @@
+package io.scalecube.services.api;
+
+import io.scalecube.services.exceptions.MessageCodecException;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only headers map which is decoded on demand from its encoded form. Single header lookups go
+ * to {@link #decodeHeader(String)} (qualifier and data format are also remembered, since they are
+ * read on every message), anything else decodes all headers once via {@link #decodeHeaders()}.
+ *
+ * <p>Being immutable, it's shared between {@link ServiceMessage} copies instead of being copied.
+ */
+public abstract class LazyHeaders extends AbstractMap<String, String> {
+
+  private static final String UNRESOLVED = new String("UNRESOLVED");
+
+  private String qualifier = UNRESOLVED;
+  private String dataFormat = UNRESOLVED;
+  private volatile Map<String, String> headers;
+
+  /**
+   * Decodes value of the given header without decoding the others.
+   *
+   * @param name header name
+   * @return header value or null if there is no such header
+   * @throws IOException in case of decoding error
+   */
+  protected abstract String decodeHeader(String name) throws IOException;
+
+  /**
+   * Decodes all headers.
+   *
+   * @return headers
+   * @throws IOException in case of decoding error
+   */
+  protected abstract Map<String, String> decodeHeaders() throws IOException;
+
+  @Override
+  public String get(Object key) {
+    Map<String, String> headers = this.headers;
+    if (headers != null) {
+      return headers.get(key);
+    }
+    if (ServiceMessage.HEADER_QUALIFIER.equals(key)) {
+      String qualifier = this.qualifier;
+      if (qualifier == UNRESOLVED) {
+        this.qualifier = qualifier = lookup(ServiceMessage.HEADER_QUALIFIER);
+      }
+      return qualifier;
+    }
+    if (ServiceMessage.HEADER_DATA_FORMAT.equals(key)) {
+      String dataFormat = this.dataFormat;
+      if (dataFormat == UNRESOLVED) {
+        this.dataFormat = dataFormat = lookup(ServiceMessage.HEADER_DATA_FORMAT);
+      }
+      return dataFormat;
+    }
+    return key instanceof String ? lookup((String) key) : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return headers().containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return headers().size();
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    return headers().entrySet();
+  }
+
+  private String lookup(String name) {
+    try {
+      return decodeHeader(name);
+    } catch (IOException ex) {
+      throw new MessageCodecException("Failed to decode message header: " + name, ex);
+    }
+  }
+
+  private Map<String, String> headers() {
+    Map<String, String> headers = this.headers;
+    if (headers == null) {
+      try {
+        this.headers = headers = Collections.unmodifiableMap(decodeHeaders());
+      } catch (IOException ex) {
+        throw new MessageCodecException("Failed to decode message headers", ex);
+      }
+    }
+    return headers;
+  }
+}
@@ -1,5 +1,7 @@
 package io.scalecube.services.api;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -13,25 +15,49 @@ public final class ServiceMessage {
    * This header is supposed to be used by application in case if same data type can be reused for
    * several messages so it will allow to qualify the specific message type.
    */
-  static final String HEADER_QUALIFIER = "q";
+  public static final String HEADER_QUALIFIER = "q";
 
   /**
    * This header stands for "Stream Id" and has to be used for Stream multiplexing. Messages within
    * one logical stream have to be signed with equal sid-s.
    */
-  static final String HEADER_STREAM_ID = "sid";
+  public static final String HEADER_STREAM_ID = "sid";
 
   /**
    * This is a system header which used by transport for serialization and deserialization purpose.
    * It is not supposed to be used by application directly and it is subject to changes in future
    * releases.
    */
-  static final String HEADER_DATA_TYPE = "_type";
+  public static final String HEADER_DATA_TYPE = "_type";
 
-  static final String HEADER_DATA_FORMAT = "_data_format";
+  /** This is a system header which stores content type of the message data. */
+  public static final String HEADER_DATA_FORMAT = "_data_format";
+
+  /**
+   * This is a system header which is set by transport when message data is compressed on the wire,
+   * it stores compression algorithm (e.g. {@code deflate}).
+   */
+  public static final String HEADER_DATA_ENCODING = "_data_encoding";
+
+  /**
+   * This is a system header which stores time remaining to the deadline of the request, in
+   * milliseconds as of sending it. Once the deadline has passed, the caller doesn't wait for the
+   * response anymore, so serving side neither starts nor continues handling the request. Each side
+   * turns the remaining time into a deadline of its own monotonic clock on receipt (see {@link
+   * Deadline}), so clocks of nodes don't need to be synchronized.
+   */
+  public static final String HEADER_TIMEOUT = "_timeout";
+
+  /**
+   * This is a system header which is set by transport instead of {@link #HEADER_QUALIFIER} once
+   * both sides of the connection agreed on a short id for the qualifier. It is not supposed to be
+   * used by application directly.
+   */
+  public static final String HEADER_QUALIFIER_ID = "_qid";
 
   private Map<String, String> headers = Collections.emptyMap();
   private Object data;
+  private Deadline deadline;
 
   /** Instantiates empty message for deserialization purpose. */
   ServiceMessage() {}
@@ -39,16 +65,20 @@ public final class ServiceMessage {
   private ServiceMessage(Builder builder) {
     this.data = builder.data();
     this.headers = builder.headers();
+    this.deadline = builder.deadline;
   }
 
   /**
-   * Instantiates new message with the same data and headers as at given message.
+   * Instantiates new message with the same data, headers and deadline as at given message.
    *
    * @param message the message to be copied
-   * @return a new message, with the same data and headers
+   * @return a new message, with the same data, headers and deadline
    */
   public static Builder from(ServiceMessage message) {
-    return ServiceMessage.builder().data(message.data()).headers(message.headers());
+    Builder builder = ServiceMessage.builder().data(message.data());
+    builder.headers = message.headers; // immutable, so it's shared until builder modifies it
+    builder.deadline = message.deadline;
+    return builder;
   }
 
   /**
@@ -124,6 +154,36 @@ public final class ServiceMessage {
     return header(HEADER_DATA_FORMAT);
   }
 
+  /**
+   * Returns time remaining to the deadline of the request, see {@link #HEADER_TIMEOUT}. Header
+   * which isn't a number is ignored, as the request came from a peer which doesn't follow the
+   * protocol and it is better served without deadline than not served at all.
+   *
+   * @return remaining time or {@code null} if the request has no (valid) deadline
+   */
+  public Duration timeout() {
+    String timeout = header(HEADER_TIMEOUT);
+    if (timeout == null) {
+      return null;
+    }
+    try {
+      return Duration.ofMillis(Long.parseLong(timeout));
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns deadline of the request on this node. Unlike {@link #HEADER_TIMEOUT}, it isn't sent
+   * over the wire: transport computes the header from it when it writes the message, so that the
+   * time spent on routing and waiting for connection is accounted.
+   *
+   * @return deadline or {@code null} if it isn't set on this node
+   */
+  public Deadline deadline() {
+    return deadline;
+  }
+
   public String dataFormatOrDefault() {
     String dataFormat = dataFormat();
     return dataFormat != null ? dataFormat : DEFAULT_DATA_FORMAT;
@@ -168,8 +228,13 @@ public final class ServiceMessage {
 
   public static class Builder {
 
-    private Map<String, String> headers = new HashMap<>();
+    private Map<String, String> headers = Collections.emptyMap(); // immutable, may be shared
+    private boolean headersCopied; // true if headers are owned by builder, i.e. modifiable
+    private String[] entries; // owned headers as alternating keys and values
+    private int size;
+    private Map<String, String> map; // owned headers which didn't fit into entries
     private Object data;
+    private Deadline deadline;
 
     private Builder() {}
 
@@ -187,26 +252,95 @@ public final class ServiceMessage {
     }
 
     public Builder dataType(Class<?> data) {
-      headers.put(HEADER_DATA_TYPE, data.getName());
-      return this;
+      return header(HEADER_DATA_TYPE, data.getName());
     }
 
     public Builder dataFormat(String dataFormat) {
-      headers.put(HEADER_DATA_FORMAT, dataFormat);
-      return this;
+      return header(HEADER_DATA_FORMAT, dataFormat);
     }
 
     private Map<String, String> headers() {
       return this.headers;
     }
 
+    /**
+     * Adds all given headers to this builder.
+     *
+     * @param headers headers
+     * @return this builder
+     */
     public Builder headers(Map<String, String> headers) {
-      this.headers.putAll(headers);
+      if (this.headers == Collections.<String, String>emptyMap()
+          && (headers instanceof LazyHeaders || headers instanceof ArrayHeaders)) {
+        this.headers = headers; // immutable, so it's shared until builder modifies it
+      } else {
+        headers.forEach(this::header);
+      }
       return this;
     }
 
+    /**
+     * Adds header to this builder, replacing header with the same name.
+     *
+     * @param key header name
+     * @param value header value
+     * @return this builder
+     */
     public Builder header(String key, String value) {
-      headers.put(key, value);
+      if (!headersCopied) {
+        copyHeaders();
+      }
+      if (map != null) {
+        map.put(key, value);
+        return this;
+      }
+      int index = ArrayHeaders.indexOf(entries, size, key);
+      if (index >= 0) {
+        entries[index + 1] = value;
+      } else if (size == ArrayHeaders.MAX_SIZE) {
+        map = new HashMap<>();
+        for (int i = 0; i < size << 1; i += 2) {
+          map.put(entries[i], entries[i + 1]);
+        }
+        map.put(key, value);
+        entries = null;
+      } else {
+        if (entries.length == size << 1) {
+          entries = Arrays.copyOf(entries, Math.min(size << 2, ArrayHeaders.MAX_SIZE << 1));
+        }
+        entries[size << 1] = key;
+        entries[(size << 1) + 1] = value;
+        size++;
+      }
+      return this;
+    }
+
+    /**
+     * Removes header from this builder.
+     *
+     * @param key header name
+     * @return this builder
+     */
+    public Builder removeHeader(String key) {
+      if (!headers.containsKey(key) && !headersCopied) {
+        return this;
+      }
+      if (!headersCopied) {
+        copyHeaders();
+      }
+      if (map != null) {
+        map.remove(key);
+        return this;
+      }
+      int index = ArrayHeaders.indexOf(entries, size, key);
+      if (index >= 0) {
+        int last = (size - 1) << 1;
+        entries[index] = entries[last];
+        entries[index + 1] = entries[last + 1];
+        entries[last] = null;
+        entries[last + 1] = null;
+        size--;
+      }
       return this;
     }
 
@@ -222,8 +356,51 @@ public final class ServiceMessage {
       return header(HEADER_STREAM_ID, streamId);
     }
 
+    public Builder timeout(Duration timeout) {
+      return header(HEADER_TIMEOUT, Long.toString(timeout.toMillis()));
+    }
+
+    public Builder deadline(Deadline deadline) {
+      this.deadline = deadline;
+      return this;
+    }
+
+    /**
+     * Builds the message. Headers map of the built message is immutable, further modifications of
+     * this builder don't affect it.
+     *
+     * @return new message
+     */
     public ServiceMessage build() {
+      if (headersCopied) {
+        headers =
+            map != null ? Collections.unmodifiableMap(map) : new ArrayHeaders(entries, size);
+        headersCopied = false;
+        entries = null;
+        size = 0;
+        map = null;
+      }
       return new ServiceMessage(this);
     }
+
+    private void copyHeaders() {
+      Map<String, String> headers = this.headers;
+      if (headers instanceof ArrayHeaders) {
+        ArrayHeaders arrayHeaders = (ArrayHeaders) headers;
+        entries = arrayHeaders.copyEntries();
+        size = arrayHeaders.size();
+      } else if (headers.size() <= ArrayHeaders.MAX_SIZE) {
+        entries = new String[Math.max(headers.size() + 1, 4) << 1];
+        size = 0;
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+          entries[size << 1] = entry.getKey();
+          entries[(size << 1) + 1] = entry.getValue();
+          size++;
+        }
+      } else {
+        map = new HashMap<>(headers);
+      }
+      headersCopied = true;
+    }
   }
 }
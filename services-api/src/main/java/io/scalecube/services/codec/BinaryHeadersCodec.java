@@ -0,0 +1,221 @@
+package io.scalecube.services.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.scalecube.services.api.LazyHeaders;
+import io.scalecube.services.api.ServiceMessage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact binary headers codec. Headers are written as a varint count followed by entries, where
+ * well-known header names ({@link ServiceMessage#HEADER_QUALIFIER}, {@link
+ * ServiceMessage#HEADER_STREAM_ID}, {@link ServiceMessage#HEADER_DATA_TYPE}, {@link
+ * ServiceMessage#HEADER_DATA_FORMAT}, {@link ServiceMessage#HEADER_DATA_ENCODING}, {@link
+ * ServiceMessage#HEADER_TIMEOUT} and {@link ServiceMessage#HEADER_QUALIFIER_ID}) are interned
+ * to a single byte tag and all other names and values are written as varint length prefixed UTF-8
+ * strings. Qualifier is always written first.
+ */
+public final class BinaryHeadersCodec implements HeadersCodec {
+
+  public static final String CONTENT_TYPE = "application/x-scalecube-headers";
+
+  private static final int CUSTOM_KEY = 0;
+
+  // Index in this array is a wire tag, never reorder, only append
+  private static final String[] INTERNED_KEYS = {
+    null,
+    ServiceMessage.HEADER_QUALIFIER,
+    ServiceMessage.HEADER_STREAM_ID,
+    ServiceMessage.HEADER_DATA_TYPE,
+    ServiceMessage.HEADER_DATA_FORMAT,
+    ServiceMessage.HEADER_DATA_ENCODING,
+    ServiceMessage.HEADER_TIMEOUT,
+    ServiceMessage.HEADER_QUALIFIER_ID
+  };
+
+  @Override
+  public String contentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void encode(OutputStream stream, Map<String, String> headers) throws IOException {
+    ByteBuf buffer = Unpooled.buffer();
+    encode(buffer, headers);
+    buffer.readBytes(stream, buffer.readableBytes());
+  }
+
+  @Override
+  public void encode(ByteBuf buffer, Map<String, String> headers) {
+    // headers with null values are not written, as if they were absent
+    int count = 0;
+    for (String value : headers.values()) {
+      if (value != null) {
+        count++;
+      }
+    }
+    writeVarInt(buffer, count);
+
+    String qualifier = headers.get(ServiceMessage.HEADER_QUALIFIER);
+    if (qualifier != null) {
+      buffer.writeByte(1);
+      writeString(buffer, qualifier);
+    }
+
+    for (Map.Entry<String, String> entry : headers.entrySet()) {
+      String key = entry.getKey();
+      if (entry.getValue() == null
+          || (qualifier != null && ServiceMessage.HEADER_QUALIFIER.equals(key))) {
+        continue;
+      }
+      int tag = tagOf(key);
+      buffer.writeByte(tag);
+      if (tag == CUSTOM_KEY) {
+        writeString(buffer, key);
+      }
+      writeString(buffer, entry.getValue());
+    }
+  }
+
+  @Override
+  public Map<String, String> decode(InputStream stream) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(32, stream.available()));
+    byte[] chunk = new byte[256];
+    for (int read; (read = stream.read(chunk)) > 0; ) {
+      bytes.write(chunk, 0, read);
+    }
+    return decode(Unpooled.wrappedBuffer(bytes.toByteArray()));
+  }
+
+  @Override
+  public Map<String, String> decode(ByteBuf buffer) throws IOException {
+    if (!buffer.isReadable()) {
+      return Collections.emptyMap();
+    }
+
+    int count = readVarInt(buffer);
+    Map<String, String> headers = new HashMap<>(Math.max(4, (int) (count / .75f) + 1));
+    for (int i = 0; i < count; i++) {
+      int tag = readByte(buffer);
+      String key;
+      if (tag == CUSTOM_KEY) {
+        key = readString(buffer);
+      } else if (tag < INTERNED_KEYS.length) {
+        key = INTERNED_KEYS[tag];
+      } else {
+        throw new IOException("Unknown header tag: " + tag);
+      }
+      headers.put(key, readString(buffer));
+    }
+    return headers;
+  }
+
+  @Override
+  public Map<String, String> decodeLazily(ByteBuf buffer) {
+    return buffer.isReadable()
+        ? new BinaryLazyHeaders(ByteBufUtil.getBytes(buffer))
+        : Collections.emptyMap();
+  }
+
+  private static int tagOf(String key) {
+    for (int tag = 1; tag < INTERNED_KEYS.length; tag++) {
+      if (INTERNED_KEYS[tag].equals(key)) {
+        return tag;
+      }
+    }
+    return CUSTOM_KEY;
+  }
+
+  private static void writeString(ByteBuf buffer, String value) {
+    writeVarInt(buffer, ByteBufUtil.utf8Bytes(value));
+    ByteBufUtil.writeUtf8(buffer, value);
+  }
+
+  private static String readString(ByteBuf buffer) throws IOException {
+    int length = readVarInt(buffer);
+    checkReadable(buffer, length);
+    String value = buffer.toString(buffer.readerIndex(), length, StandardCharsets.UTF_8);
+    buffer.skipBytes(length);
+    return value;
+  }
+
+  private static void writeVarInt(ByteBuf buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer.writeByte(value);
+  }
+
+  private static int readVarInt(ByteBuf buffer) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = readByte(buffer);
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint");
+  }
+
+  private static int readByte(ByteBuf buffer) throws IOException {
+    checkReadable(buffer, 1);
+    return buffer.readUnsignedByte();
+  }
+
+  private static void checkReadable(ByteBuf buffer, int length) throws IOException {
+    if (length < 0 || !buffer.isReadable(length)) {
+      throw new IOException("Truncated headers");
+    }
+  }
+
+  private final class BinaryLazyHeaders extends LazyHeaders {
+
+    private final byte[] bytes;
+
+    private BinaryLazyHeaders(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    protected String decodeHeader(String name) throws IOException {
+      ByteBuf buffer = Unpooled.wrappedBuffer(bytes);
+      int nameTag = tagOf(name);
+      int count = readVarInt(buffer);
+      for (int i = 0; i < count; i++) {
+        int tag = readByte(buffer);
+        boolean matches = tag == nameTag;
+        if (tag == CUSTOM_KEY) {
+          int length = readVarInt(buffer);
+          checkReadable(buffer, length);
+          matches =
+              nameTag == CUSTOM_KEY
+                  && name.equals(
+                      buffer.toString(buffer.readerIndex(), length, StandardCharsets.UTF_8));
+          buffer.skipBytes(length);
+        }
+        if (matches) {
+          return readString(buffer);
+        }
+        int length = readVarInt(buffer);
+        checkReadable(buffer, length);
+        buffer.skipBytes(length);
+      }
+      return null;
+    }
+
+    @Override
+    protected Map<String, String> decodeHeaders() throws IOException {
+      return decode(Unpooled.wrappedBuffer(bytes));
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package io.scalecube.services.codec;
+
+import io.netty.buffer.ByteBuf;
+import java.io.OutputStream;
+
+/**
+ * Lightweight {@link OutputStream} which writes straight into {@link ByteBuf}. Unlike {@link
+ * io.netty.buffer.ByteBufOutputStream} it doesn't allocate {@link java.io.DataOutputStream} per
+ * instance, it's meant for codecs which can only write to {@link OutputStream}.
+ */
+public final class ByteBufSink extends OutputStream {
+
+  private final ByteBuf buffer;
+
+  public ByteBufSink(ByteBuf buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public void write(int b) {
+    buffer.writeByte(b);
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) {
+    buffer.writeBytes(bytes, offset, length);
+  }
+}
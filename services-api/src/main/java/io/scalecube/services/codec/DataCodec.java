@@ -1,5 +1,7 @@
 package io.scalecube.services.codec;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.scalecube.services.ServiceLoaderUtil;
 import java.io.IOException;
 import java.io.InputStream;
@@ -37,9 +39,55 @@ public interface DataCodec {
     return dataCodec;
   }
 
+  /**
+   * Returns content type of the built-in codec which encodes values of the given type without
+   * object mapping: {@link OctetStreamDataCodec} for {@code byte[]}, {@link TextPlainDataCodec} for
+   * {@code String} and {@link PrimitiveDataCodec} for primitives and their wrappers.
+   *
+   * @param type value type, may be null
+   * @return content type or null if values of the type are encoded by a general purpose codec
+   */
+  static String rawContentType(Class<?> type) {
+    if (type == null) {
+      return null;
+    }
+    if (type == byte[].class) {
+      return OctetStreamDataCodec.CONTENT_TYPE;
+    }
+    if (type == String.class) {
+      return TextPlainDataCodec.CONTENT_TYPE;
+    }
+    return PrimitiveDataCodec.supports(type) ? PrimitiveDataCodec.CONTENT_TYPE : null;
+  }
+
   String contentType();
 
   void encode(OutputStream stream, Object value) throws IOException;
 
+  /**
+   * Encodes value straight into the given buffer. Default implementation falls back to {@link
+   * #encode(OutputStream, Object)}.
+   *
+   * @param buffer buffer to write to
+   * @param value value
+   * @throws IOException in case of encoding error
+   */
+  default void encode(ByteBuf buffer, Object value) throws IOException {
+    encode(new ByteBufSink(buffer), value);
+  }
+
   Object decode(InputStream stream, Class<?> type) throws IOException;
+
+  /**
+   * Decodes value from readable bytes of the given buffer. Default implementation falls back to
+   * {@link #decode(InputStream, Class)}.
+   *
+   * @param buffer buffer to read from, its reader index may be advanced
+   * @param type value type
+   * @return value
+   * @throws IOException in case of decoding error
+   */
+  default Object decode(ByteBuf buffer, Class<?> type) throws IOException {
+    return decode(new ByteBufInputStream(buffer), type);
+  }
 }
@@ -0,0 +1,158 @@
+package io.scalecube.services.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.scalecube.services.exceptions.BadRequestException;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate compression of encoded message data. {@link Deflater} and {@link Inflater} hold native
+ * memory and are expensive to create, so they are pooled along with scratch arrays for direct
+ * buffers (JDK 8 (de)compresses only byte arrays). Instances which don't fit into the pool are
+ * ended right away, so native memory isn't left to finalization.
+ */
+final class DataCompression {
+
+  /** Data encoding header value of deflate compressed data. */
+  static final String DEFLATE = "deflate";
+
+  private static final int CHUNK_SIZE = 8 * 1024;
+  private static final int MAX_RETAINED_INPUT_SIZE = 1024 * 1024;
+
+  /**
+   * Max size of decompressed data, same as max length of RSocket frame. Bigger data is rejected
+   * rather than inflated, so that a small malicious message can't exhaust memory.
+   */
+  static final int MAX_DECOMPRESSED_SIZE = 0xFFFFFF;
+
+  private static final BlockingQueue<DataCompression> POOL =
+      new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() << 1);
+
+  private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+  private final Inflater inflater = new Inflater();
+  private final byte[] chunk = new byte[CHUNK_SIZE];
+  private byte[] input = new byte[CHUNK_SIZE];
+
+  private DataCompression() {}
+
+  /**
+   * Compresses given region of the source buffer and appends result to the target buffer, unless
+   * compressed data turns out to be not smaller than the original. Target must not be the source
+   * buffer: deflater reads the array of a heap source as it is, while growing the target may
+   * reallocate that array.
+   *
+   * @param source source buffer
+   * @param index index of the region
+   * @param length length of the region
+   * @param target target buffer, other than the source one
+   * @return true if compressed data was written to the target buffer
+   */
+  static boolean compress(ByteBuf source, int index, int length, ByteBuf target) {
+    if (source == target) {
+      throw new IllegalArgumentException("Can't compress data into its own buffer");
+    }
+    DataCompression compression = acquire();
+    try {
+      return compression.deflate(source, index, length, target);
+    } finally {
+      release(compression);
+    }
+  }
+
+  /**
+   * Decompresses all readable bytes of the source buffer and appends result to the target buffer.
+   *
+   * @param source source buffer
+   * @param target target buffer
+   * @param maxLength max length of decompressed data
+   * @throws IOException if source is not valid deflate data
+   * @throws BadRequestException if decompressed data is longer than max length
+   */
+  static void decompress(ByteBuf source, ByteBuf target, int maxLength) throws IOException {
+    DataCompression compression = acquire();
+    try {
+      compression.inflate(source, target, maxLength);
+    } finally {
+      release(compression);
+    }
+  }
+
+  private static DataCompression acquire() {
+    DataCompression compression = POOL.poll();
+    return compression != null ? compression : new DataCompression();
+  }
+
+  private static void release(DataCompression compression) {
+    if (!POOL.offer(compression)) {
+      compression.deflater.end();
+      compression.inflater.end();
+    }
+  }
+
+  private boolean deflate(ByteBuf source, int index, int length, ByteBuf target) {
+    int writerIndex = target.writerIndex();
+    deflater.reset();
+    setInput(source, index, length, deflater::setInput);
+    deflater.finish();
+    while (!deflater.finished()) {
+      if (target.writerIndex() - writerIndex >= length) {
+        target.writerIndex(writerIndex);
+        return false;
+      }
+      target.writeBytes(chunk, 0, deflater.deflate(chunk));
+    }
+    if (target.writerIndex() - writerIndex >= length) {
+      target.writerIndex(writerIndex);
+      return false;
+    }
+    return true;
+  }
+
+  private void inflate(ByteBuf source, ByteBuf target, int maxLength) throws IOException {
+    int writerIndex = target.writerIndex();
+    inflater.reset();
+    setInput(source, source.readerIndex(), source.readableBytes(), inflater::setInput);
+    try {
+      while (!inflater.finished()) {
+        int length = inflater.inflate(chunk);
+        if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IOException("Truncated deflate data");
+        }
+        if (target.writerIndex() - writerIndex + length > maxLength) {
+          throw new BadRequestException(
+              "Decompressed data exceeds max length of " + maxLength + " bytes");
+        }
+        target.writeBytes(chunk, 0, length);
+      }
+    } catch (DataFormatException ex) {
+      throw new IOException(ex);
+    }
+    source.skipBytes(source.readableBytes());
+  }
+
+  private void setInput(ByteBuf source, int index, int length, InputConsumer consumer) {
+    if (source.hasArray()) {
+      consumer.setInput(source.array(), source.arrayOffset() + index, length);
+      return;
+    }
+    byte[] bytes = input;
+    if (bytes.length < length) {
+      bytes = new byte[Math.max(length, bytes.length << 1)];
+      if (bytes.length <= MAX_RETAINED_INPUT_SIZE) {
+        input = bytes;
+      }
+    }
+    source.getBytes(index, bytes, 0, length);
+    consumer.setInput(bytes, 0, length);
+  }
+
+  @FunctionalInterface
+  private interface InputConsumer {
+
+    void setInput(byte[] bytes, int offset, int length);
+  }
+}
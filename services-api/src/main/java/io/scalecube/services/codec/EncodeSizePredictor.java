@@ -0,0 +1,121 @@
+package io.scalecube.services.codec;
+
+import io.scalecube.services.api.ServiceMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Predicts sizes of encoded data and headers per message qualifier and data type, the way netty's
+ * {@code AdaptiveRecvByteBufAllocator} predicts sizes of inbound reads. Prediction grows right away
+ * to fit the last encoded size and shrinks by one step only after two consecutive encodings which
+ * would fit into a smaller buffer, so occasional small messages don't cause reallocations of the
+ * following large ones.
+ */
+final class EncodeSizePredictor {
+
+  static final int MIN_SIZE = 64;
+  static final int INITIAL_SIZE = 256;
+  static final int MAX_SIZE = 64 * 1024;
+
+  /** Max number of distinct qualifiers tracked, the rest share one prediction. */
+  static final int MAX_QUALIFIERS = 1024;
+
+  private static final int[] SIZE_TABLE;
+
+  static {
+    List<Integer> sizeTable = new ArrayList<>();
+    for (int size = MIN_SIZE; size < 512; size += 64) {
+      sizeTable.add(size);
+    }
+    for (int size = 512; size <= MAX_SIZE; size <<= 1) {
+      sizeTable.add(size);
+      sizeTable.add(size + (size >> 1));
+    }
+    SIZE_TABLE = sizeTable.stream().filter(size -> size <= MAX_SIZE).mapToInt(i -> i).toArray();
+  }
+
+  private final Map<Class<?>, Map<String, Sizes>> sizes = new ConcurrentHashMap<>();
+  private final Sizes sharedSizes = new Sizes();
+
+  /**
+   * Returns size predictions for the given message.
+   *
+   * @param message message to be encoded
+   * @return sizes of data and headers
+   */
+  Sizes sizes(ServiceMessage message) {
+    Class<?> dataType = message.hasData() ? message.data().getClass() : Void.class;
+    String qualifier = message.qualifier() != null ? message.qualifier() : "";
+
+    Map<String, Sizes> sizesByQualifier =
+        sizes.computeIfAbsent(dataType, key -> new ConcurrentHashMap<>());
+    Sizes result = sizesByQualifier.get(qualifier);
+    if (result == null) {
+      if (sizesByQualifier.size() >= MAX_QUALIFIERS) {
+        return sharedSizes;
+      }
+      result = sizesByQualifier.computeIfAbsent(qualifier, key -> new Sizes());
+    }
+    return result;
+  }
+
+  private static int sizeTableIndex(int size) {
+    for (int low = 0, high = SIZE_TABLE.length - 1; ; ) {
+      if (high < low) {
+        return low < SIZE_TABLE.length ? low : SIZE_TABLE.length - 1;
+      }
+      int mid = (low + high) >>> 1;
+      if (SIZE_TABLE[mid] < size) {
+        low = mid + 1;
+      } else if (SIZE_TABLE[mid] > size) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+  }
+
+  /** Predictions for data and headers of one qualifier and data type. */
+  static final class Sizes {
+
+    final Prediction data = new Prediction();
+    final Prediction headers = new Prediction();
+  }
+
+  /**
+   * Single size prediction. Updated without synchronization, racing updates may lose a step but
+   * never leave the size table.
+   */
+  static final class Prediction {
+
+    private int index = sizeTableIndex(INITIAL_SIZE);
+    private int nextSize = SIZE_TABLE[index];
+    private boolean decreaseNow;
+
+    int nextSize() {
+      return nextSize;
+    }
+
+    void record(int actualSize) {
+      int index = this.index;
+      if (actualSize > SIZE_TABLE[index]) {
+        index = sizeTableIndex(actualSize);
+        decreaseNow = false;
+      } else if (index > 0 && actualSize <= SIZE_TABLE[index - 1]) {
+        if (!decreaseNow) {
+          decreaseNow = true;
+          return;
+        }
+        index--;
+        decreaseNow = false;
+      } else {
+        decreaseNow = false;
+        return;
+      }
+      this.index = index;
+      this.nextSize = SIZE_TABLE[index];
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package io.scalecube.services.codec;
+
+import io.netty.buffer.ByteBuf;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Small direct-mapped cache of encoded message data, keyed by identity of the data object and its
+ * content type. It lets the same immutable object emitted to many subscribers (e.g. a snapshot of
+ * a shared {@code Flux}) be encoded once, every subscriber gets a retained duplicate of the same
+ * buffer. Entry is replaced whenever another object maps to its slot, so the cache only holds the
+ * most recent objects and never more than its size of buffers.
+ */
+final class EncodedDataCache {
+
+  private final AtomicReferenceArray<Entry> entries;
+  private final int mask;
+
+  /**
+   * Constructor.
+   *
+   * @param size number of entries, rounded up to a power of two
+   */
+  EncodedDataCache(int size) {
+    int capacity = size > 1 ? Integer.highestOneBit(size - 1) << 1 : 1;
+    this.entries = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Returns cached entry of the given data object.
+   *
+   * @param data data object
+   * @param dataFormat content type of the data
+   * @return entry or null if data is not cached
+   */
+  Entry get(Object data, String dataFormat) {
+    Entry entry = entries.get(index(data));
+    return entry != null && entry.data == data && entry.dataFormat.equals(dataFormat)
+        ? entry
+        : null;
+  }
+
+  /**
+   * Caches encoded data, replacing the entry which maps to the same slot.
+   *
+   * @param data data object
+   * @param dataFormat content type of the data
+   * @param dataEncoding encoding of the data buffer (see {@link
+   *     io.scalecube.services.api.ServiceMessage#HEADER_DATA_ENCODING}), may be null
+   * @param buffer encoded data, cache retains it on its own
+   */
+  void put(Object data, String dataFormat, String dataEncoding, ByteBuf buffer) {
+    Entry previous =
+        entries.getAndSet(index(data), new Entry(data, dataFormat, dataEncoding, buffer));
+    if (previous != null) {
+      previous.release();
+    }
+  }
+
+  private int index(Object data) {
+    int hash = System.identityHashCode(data);
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  static final class Entry {
+
+    private final Object data;
+    private final String dataFormat;
+    private final String dataEncoding;
+    private ByteBuf buffer; // guarded by this
+
+    private Entry(Object data, String dataFormat, String dataEncoding, ByteBuf buffer) {
+      this.data = data;
+      this.dataFormat = dataFormat;
+      this.dataEncoding = dataEncoding;
+      this.buffer = buffer.retainedDuplicate();
+    }
+
+    String dataEncoding() {
+      return dataEncoding;
+    }
+
+    /**
+     * Returns retained duplicate of the cached buffer.
+     *
+     * @return buffer or null if entry has been evicted meanwhile
+     */
+    synchronized ByteBuf retainedBuffer() {
+      return buffer != null ? buffer.retainedDuplicate() : null;
+    }
+
+    private synchronized void release() {
+      if (buffer != null) {
+        buffer.release();
+        buffer = null;
+      }
+    }
+  }
+}
@@ -1,6 +1,9 @@
 package io.scalecube.services.codec;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.scalecube.services.ServiceLoaderUtil;
+import io.scalecube.services.api.LazyHeaders;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -32,5 +35,43 @@ public interface HeadersCodec {
 
   void encode(OutputStream stream, Map<String, String> headers) throws IOException;
 
+  /**
+   * Encodes headers straight into the given buffer. Default implementation falls back to {@link
+   * #encode(OutputStream, Map)}.
+   *
+   * @param buffer buffer to write to
+   * @param headers headers
+   * @throws IOException in case of encoding error
+   */
+  default void encode(ByteBuf buffer, Map<String, String> headers) throws IOException {
+    encode(new ByteBufSink(buffer), headers);
+  }
+
   Map<String, String> decode(InputStream stream) throws IOException;
+
+  /**
+   * Decodes headers from readable bytes of the given buffer. Default implementation falls back to
+   * {@link #decode(InputStream)}.
+   *
+   * @param buffer buffer to read from, its reader index may be advanced
+   * @return headers
+   * @throws IOException in case of decoding error
+   */
+  default Map<String, String> decode(ByteBuf buffer) throws IOException {
+    return decode(new ByteBufInputStream(buffer));
+  }
+
+  /**
+   * Decodes headers from readable bytes of the given buffer, codecs which can decode single header
+   * cheaply return {@link LazyHeaders} over a heap copy of the bytes (the buffer itself is released
+   * right after the call). Default implementation decodes all headers at once, see {@link
+   * #decode(ByteBuf)}.
+   *
+   * @param buffer buffer to read from, its reader index may be advanced
+   * @return headers
+   * @throws IOException in case of decoding error
+   */
+  default Map<String, String> decodeLazily(ByteBuf buffer) throws IOException {
+    return decode(buffer);
+  }
 }
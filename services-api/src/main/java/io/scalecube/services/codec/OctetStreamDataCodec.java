@@ -0,0 +1,36 @@
+package io.scalecube.services.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import java.io.IOException;
+
+/**
+ * Codec of {@code byte[]} data which is sent as is.
+ */
+public final class OctetStreamDataCodec extends RawDataCodec {
+
+  public static final String CONTENT_TYPE = "application/octet-stream";
+
+  @Override
+  public String contentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void encode(ByteBuf buffer, Object value) throws IOException {
+    if (!(value instanceof byte[])) {
+      throw unsupportedType(CONTENT_TYPE, value.getClass());
+    }
+    buffer.writeBytes((byte[]) value);
+  }
+
+  @Override
+  public Object decode(ByteBuf buffer, Class<?> type) throws IOException {
+    if (!type.isAssignableFrom(byte[].class)) {
+      throw unsupportedType(CONTENT_TYPE, type);
+    }
+    byte[] bytes = ByteBufUtil.getBytes(buffer);
+    buffer.skipBytes(bytes.length);
+    return bytes;
+  }
+}
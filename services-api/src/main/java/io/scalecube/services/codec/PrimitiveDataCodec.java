@@ -0,0 +1,131 @@
+package io.scalecube.services.codec;
+
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+
+/**
+ * Codec of primitive wrappers. Value is written without any type information, since the receiving
+ * side knows expected type: {@code Short}, {@code Integer} and {@code Long} as zigzag varints (so
+ * small numbers take one byte), {@code Boolean} and {@code Byte} as one byte, {@code Character}
+ * as two bytes, {@code Float} and {@code Double} as their IEEE 754 bits.
+ */
+public final class PrimitiveDataCodec extends RawDataCodec {
+
+  public static final String CONTENT_TYPE = "application/x-scalecube-primitive";
+
+  /**
+   * Returns whether values of the given type are handled by this codec.
+   *
+   * @param type value type
+   * @return true for primitives (except void) and their wrappers
+   */
+  public static boolean supports(Class<?> type) {
+    Class<?> wrapper = wrap(type);
+    return wrapper == Integer.class
+        || wrapper == Long.class
+        || wrapper == Double.class
+        || wrapper == Boolean.class
+        || wrapper == Float.class
+        || wrapper == Short.class
+        || wrapper == Byte.class
+        || wrapper == Character.class;
+  }
+
+  @Override
+  public String contentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void encode(ByteBuf buffer, Object value) throws IOException {
+    Class<?> type = value.getClass();
+    if (type == Integer.class) {
+      writeVarLong(buffer, (Integer) value);
+    } else if (type == Long.class) {
+      writeVarLong(buffer, (Long) value);
+    } else if (type == Double.class) {
+      buffer.writeLong(Double.doubleToRawLongBits((Double) value));
+    } else if (type == Boolean.class) {
+      buffer.writeBoolean((Boolean) value);
+    } else if (type == Float.class) {
+      buffer.writeInt(Float.floatToRawIntBits((Float) value));
+    } else if (type == Short.class) {
+      writeVarLong(buffer, (Short) value);
+    } else if (type == Byte.class) {
+      buffer.writeByte((Byte) value);
+    } else if (type == Character.class) {
+      buffer.writeChar((Character) value);
+    } else {
+      throw unsupportedType(CONTENT_TYPE, type);
+    }
+  }
+
+  @Override
+  public Object decode(ByteBuf buffer, Class<?> type) throws IOException {
+    Class<?> wrapper = wrap(type);
+    if (wrapper == Integer.class) {
+      return (int) readVarLong(buffer);
+    } else if (wrapper == Long.class) {
+      return readVarLong(buffer);
+    } else if (wrapper == Double.class) {
+      return Double.longBitsToDouble(buffer.readLong());
+    } else if (wrapper == Boolean.class) {
+      return buffer.readBoolean();
+    } else if (wrapper == Float.class) {
+      return Float.intBitsToFloat(buffer.readInt());
+    } else if (wrapper == Short.class) {
+      return (short) readVarLong(buffer);
+    } else if (wrapper == Byte.class) {
+      return buffer.readByte();
+    } else if (wrapper == Character.class) {
+      return buffer.readChar();
+    } else {
+      throw unsupportedType(CONTENT_TYPE, type);
+    }
+  }
+
+  private static Class<?> wrap(Class<?> type) {
+    if (!type.isPrimitive()) {
+      return type;
+    }
+    if (type == int.class) {
+      return Integer.class;
+    } else if (type == long.class) {
+      return Long.class;
+    } else if (type == double.class) {
+      return Double.class;
+    } else if (type == boolean.class) {
+      return Boolean.class;
+    } else if (type == float.class) {
+      return Float.class;
+    } else if (type == short.class) {
+      return Short.class;
+    } else if (type == byte.class) {
+      return Byte.class;
+    } else if (type == char.class) {
+      return Character.class;
+    }
+    return type;
+  }
+
+  private static void writeVarLong(ByteBuf buffer, long value) {
+    long zigzag = (value << 1) ^ (value >> 63);
+    while ((zigzag & ~0x7FL) != 0) {
+      buffer.writeByte((int) ((zigzag & 0x7F) | 0x80));
+      zigzag >>>= 7;
+    }
+    buffer.writeByte((int) zigzag);
+  }
+
+  private static long readVarLong(ByteBuf buffer) throws IOException {
+    long zigzag = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer.readByte();
+      zigzag |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+      }
+    }
+    throw new IOException("Malformed varint");
+  }
+}
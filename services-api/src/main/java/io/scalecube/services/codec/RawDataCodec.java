@@ -0,0 +1,48 @@
+package io.scalecube.services.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Base class of built-in codecs which write values straight into {@link ByteBuf} without object
+ * mapping. Stream based methods are implemented on top of buffer based ones.
+ */
+abstract class RawDataCodec implements DataCodec {
+
+  @Override
+  public final void encode(OutputStream stream, Object value) throws IOException {
+    ByteBuf buffer = ByteBufAllocator.DEFAULT.buffer();
+    try {
+      encode(buffer, value);
+      buffer.readBytes(stream, buffer.readableBytes());
+    } finally {
+      buffer.release();
+    }
+  }
+
+  @Override
+  public abstract void encode(ByteBuf buffer, Object value) throws IOException;
+
+  @Override
+  public final Object decode(InputStream stream, Class<?> type) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(stream.available(), 32));
+    byte[] chunk = new byte[1024];
+    int length;
+    while ((length = stream.read(chunk)) != -1) {
+      bytes.write(chunk, 0, length);
+    }
+    return decode(Unpooled.wrappedBuffer(bytes.toByteArray()), type);
+  }
+
+  @Override
+  public abstract Object decode(ByteBuf buffer, Class<?> type) throws IOException;
+
+  static IOException unsupportedType(String contentType, Class<?> type) {
+    return new IOException("Type " + type.getName() + " is not supported by " + contentType);
+  }
+}
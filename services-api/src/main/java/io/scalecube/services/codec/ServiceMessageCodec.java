@@ -2,15 +2,18 @@ package io.scalecube.services.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import io.netty.buffer.ByteBufInputStream;
-import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.util.ReferenceCountUtil;
 import io.scalecube.services.api.ErrorData;
 import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.exceptions.BadRequestException;
 import io.scalecube.services.exceptions.ExceptionProcessor;
 import io.scalecube.services.exceptions.MessageCodecException;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.BiFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,13 +23,143 @@ public final class ServiceMessageCodec {
   private static final Logger LOGGER = LoggerFactory.getLogger(ServiceMessageCodec.class);
 
   private final HeadersCodec headersCodec;
+  private final boolean singleBuffer;
+  private final int compressionThreshold;
+  private final int dataCacheSize;
+  private final EncodeSizePredictor sizePredictor;
+  private final EncodedDataCache dataCache;
 
   public ServiceMessageCodec(HeadersCodec headersCodec) {
+    this(headersCodec, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param headersCodec headers codec
+   * @param singleBuffer whether to encode data and headers into one buffer, see {@link
+   *     #isSingleBuffer()}
+   */
+  public ServiceMessageCodec(HeadersCodec headersCodec, boolean singleBuffer) {
+    this(headersCodec, singleBuffer, -1);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param headersCodec headers codec
+   * @param singleBuffer whether to encode data and headers into one buffer, see {@link
+   *     #isSingleBuffer()}
+   * @param compressionThreshold min size of encoded data to be compressed, negative value disables
+   *     compression, see {@link #compressionThreshold()}
+   */
+  public ServiceMessageCodec(
+      HeadersCodec headersCodec, boolean singleBuffer, int compressionThreshold) {
+    this(headersCodec, singleBuffer, compressionThreshold, 0);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param headersCodec headers codec
+   * @param singleBuffer whether to encode data and headers into one buffer, see {@link
+   *     #isSingleBuffer()}
+   * @param compressionThreshold min size of encoded data to be compressed, negative value disables
+   *     compression, see {@link #compressionThreshold()}
+   * @param dataCacheSize number of recently encoded data objects to keep encoded, zero disables
+   *     the cache, see {@link #dataCacheSize()}
+   */
+  public ServiceMessageCodec(
+      HeadersCodec headersCodec,
+      boolean singleBuffer,
+      int compressionThreshold,
+      int dataCacheSize) {
+    this(
+        headersCodec,
+        singleBuffer,
+        compressionThreshold,
+        dataCacheSize,
+        new EncodeSizePredictor(),
+        dataCacheSize > 0 ? new EncodedDataCache(dataCacheSize) : null);
+  }
+
+  private ServiceMessageCodec(
+      HeadersCodec headersCodec,
+      boolean singleBuffer,
+      int compressionThreshold,
+      int dataCacheSize,
+      EncodeSizePredictor sizePredictor,
+      EncodedDataCache dataCache) {
     this.headersCodec = headersCodec;
+    this.singleBuffer = singleBuffer;
+    this.compressionThreshold = compressionThreshold;
+    this.dataCacheSize = dataCacheSize;
+    this.sizePredictor = sizePredictor;
+    this.dataCache = dataCache;
   }
 
   /**
-   * Encode a message, transform it to T.
+   * Returns codec with the same settings, encode buffer sizes and data cache as this one, but with
+   * the given headers codec.
+   *
+   * @param headersCodec headers codec
+   * @return new message codec
+   */
+  public ServiceMessageCodec withHeadersCodec(HeadersCodec headersCodec) {
+    return new ServiceMessageCodec(
+        headersCodec, singleBuffer, compressionThreshold, dataCacheSize, sizePredictor, dataCache);
+  }
+
+  /**
+   * Returns content type of the headers produced by this codec.
+   *
+   * @return headers content type
+   */
+  public String headersFormat() {
+    return headersCodec.contentType();
+  }
+
+  /**
+   * Returns whether data and headers are encoded into one pooled buffer, which is then sliced into
+   * data and headers buffers, instead of two separate buffers. It halves allocator calls per
+   * message, but both parts stay in memory until both are released. Data cache takes precedence
+   * over it: when {@link #dataCacheSize()} is positive, data is always encoded into a buffer of
+   * its own, so that the buffer can be shared by many messages, and this setting has no effect.
+   *
+   * @return true if data and headers share one buffer
+   */
+  public boolean isSingleBuffer() {
+    return singleBuffer;
+  }
+
+  /**
+   * Returns min size of encoded data which gets deflate compressed, or negative value if
+   * compression is disabled. Compressed messages carry {@link
+   * ServiceMessage#HEADER_DATA_ENCODING} header, so they are decompressed by any codec regardless
+   * of its own setting. Data which doesn't get smaller is sent as is.
+   *
+   * @return compression threshold in bytes
+   */
+  public int compressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Returns number of recently encoded data objects kept encoded, so that the same object sent in
+   * many messages (e.g. broadcast to many subscribers) is encoded only once. Objects are matched
+   * by identity, so they must not be modified once sent. Zero means no caching. Cached data is
+   * kept in a buffer of its own, so data cache turns off {@link #isSingleBuffer() single buffer}
+   * encoding.
+   *
+   * @return data cache size
+   */
+  public int dataCacheSize() {
+    return dataCacheSize;
+  }
+
+  /**
+   * Encode a message, transform it to T. Encode buffers are pre-sized according to recently
+   * encoded messages with the same qualifier and data type.
    *
    * @param message the message to transform
    * @param transformer a function that accepts data and header {@link ByteBuf} and return the
@@ -37,45 +170,151 @@ public final class ServiceMessageCodec {
   public <T> T encodeAndTransform(
       ServiceMessage message, BiFunction<ByteBuf, ByteBuf, T> transformer)
       throws MessageCodecException {
+    EncodeSizePredictor.Sizes sizes = sizePredictor.sizes(message);
+    Map<String, String> headers = message.headers();
+    if (message.deadline() != null) {
+      // time remaining to the deadline is taken as late as possible
+      headers = withTimeout(headers, message.deadline().remaining());
+    }
+
+    if (singleBuffer
+        && dataCache == null
+        && message.hasData()
+        && !message.hasData(ByteBuf.class)) {
+      ByteBuf buffer =
+          ByteBufAllocator.DEFAULT.buffer(sizes.data.nextSize() + sizes.headers.nextSize());
+      int dataIndex = buffer.writerIndex();
+      int dataLength = encodeData(message, buffer, sizes.data);
+      if (shouldCompress(dataLength)) {
+        ByteBuf compressedBuffer = ByteBufAllocator.DEFAULT.buffer(dataLength >> 1);
+        if (compress(buffer, dataIndex, dataLength, compressedBuffer)) {
+          // compressed data is shorter, so it replaces the original one without growing buffer
+          dataLength = compressedBuffer.readableBytes();
+          buffer.writerIndex(dataIndex).writeBytes(compressedBuffer);
+          headers = withDataEncoding(headers, DataCompression.DEFLATE);
+        }
+        compressedBuffer.release();
+      }
+      int headersIndex = buffer.writerIndex();
+      int headersLength = encodeHeaders(message, headers, buffer, sizes.headers);
+      ByteBuf dataBuffer = buffer.retainedSlice(dataIndex, dataLength);
+      ByteBuf headersBuffer = buffer.retainedSlice(headersIndex, headersLength);
+      buffer.release();
+      return transformer.apply(dataBuffer, headersBuffer);
+    }
+
     ByteBuf dataBuffer = Unpooled.EMPTY_BUFFER;
     ByteBuf headersBuffer = Unpooled.EMPTY_BUFFER;
 
     if (message.hasData(ByteBuf.class)) {
       dataBuffer = message.data();
     } else if (message.hasData()) {
-      dataBuffer = ByteBufAllocator.DEFAULT.buffer();
-      try {
-        DataCodec dataCodec = DataCodec.getInstance(message.dataFormatOrDefault());
-        dataCodec.encode(new ByteBufOutputStream(dataBuffer), message.data());
-      } catch (Throwable ex) {
-        ReferenceCountUtil.safeRelease(dataBuffer);
-        LOGGER.error("Failed to encode data on: {}, cause: {}", message, ex);
-        throw new MessageCodecException(
-            "Failed to encode data on message q=" + message.qualifier(), ex);
+      Object data = message.data();
+      String dataFormat = message.dataFormatOrDefault();
+      EncodedDataCache.Entry entry = dataCache != null ? dataCache.get(data, dataFormat) : null;
+      dataBuffer = entry != null ? entry.retainedBuffer() : null;
+      String dataEncoding = entry != null ? entry.dataEncoding() : null;
+
+      if (dataBuffer == null) {
+        dataBuffer = ByteBufAllocator.DEFAULT.buffer(sizes.data.nextSize());
+        int dataLength = encodeData(message, dataBuffer, sizes.data);
+        dataEncoding = null;
+        if (shouldCompress(dataLength)) {
+          ByteBuf compressedBuffer = ByteBufAllocator.DEFAULT.buffer(dataLength >> 1);
+          if (compress(dataBuffer, dataBuffer.readerIndex(), dataLength, compressedBuffer)) {
+            dataBuffer.release();
+            dataBuffer = compressedBuffer;
+            dataEncoding = DataCompression.DEFLATE;
+          } else {
+            compressedBuffer.release();
+          }
+        }
+        if (dataCache != null) {
+          dataCache.put(data, dataFormat, dataEncoding, dataBuffer);
+        }
       }
-    }
 
-    if (!message.headers().isEmpty()) {
-      headersBuffer = ByteBufAllocator.DEFAULT.buffer();
-      try {
-        headersCodec.encode(new ByteBufOutputStream(headersBuffer), message.headers());
-      } catch (Throwable ex) {
-        ReferenceCountUtil.safeRelease(headersBuffer);
-        LOGGER.error("Failed to encode headers on: {}, cause: {}", message, ex);
-        throw new MessageCodecException(
-            "Failed to encode headers on message q=" + message.qualifier(), ex);
+      if (dataEncoding != null) {
+        headers = withDataEncoding(headers, dataEncoding);
       }
     }
 
+    if (!headers.isEmpty()) {
+      headersBuffer = ByteBufAllocator.DEFAULT.buffer(sizes.headers.nextSize());
+      encodeHeaders(message, headers, headersBuffer, sizes.headers);
+    }
+
     return transformer.apply(dataBuffer, headersBuffer);
   }
 
+  private boolean shouldCompress(int dataLength) {
+    return compressionThreshold >= 0 && dataLength >= compressionThreshold;
+  }
+
+  private static boolean compress(ByteBuf source, int index, int length, ByteBuf target) {
+    try {
+      return DataCompression.compress(source, index, length, target);
+    } catch (Throwable ex) {
+      ReferenceCountUtil.safeRelease(source);
+      ReferenceCountUtil.safeRelease(target);
+      throw new MessageCodecException("Failed to compress data", ex);
+    }
+  }
+
+  private static Map<String, String> withTimeout(Map<String, String> headers, Duration timeout) {
+    return ServiceMessage.builder().headers(headers).timeout(timeout).build().headers();
+  }
+
+  private static Map<String, String> withDataEncoding(
+      Map<String, String> headers, String dataEncoding) {
+    Map<String, String> result = new HashMap<>(headers);
+    result.put(ServiceMessage.HEADER_DATA_ENCODING, dataEncoding);
+    return result;
+  }
+
+  private static int encodeData(
+      ServiceMessage message, ByteBuf buffer, EncodeSizePredictor.Prediction prediction) {
+    int writerIndex = buffer.writerIndex();
+    try {
+      DataCodec dataCodec = DataCodec.getInstance(message.dataFormatOrDefault());
+      dataCodec.encode(buffer, message.data());
+    } catch (Throwable ex) {
+      ReferenceCountUtil.safeRelease(buffer);
+      LOGGER.error("Failed to encode data on: {}, cause: {}", message, ex);
+      throw new MessageCodecException(
+          "Failed to encode data on message q=" + message.qualifier(), ex);
+    }
+    int length = buffer.writerIndex() - writerIndex;
+    prediction.record(length);
+    return length;
+  }
+
+  private int encodeHeaders(
+      ServiceMessage message,
+      Map<String, String> headers,
+      ByteBuf buffer,
+      EncodeSizePredictor.Prediction prediction) {
+    int writerIndex = buffer.writerIndex();
+    try {
+      headersCodec.encode(buffer, headers);
+    } catch (Throwable ex) {
+      ReferenceCountUtil.safeRelease(buffer);
+      LOGGER.error("Failed to encode headers on: {}, cause: {}", message, ex);
+      throw new MessageCodecException(
+          "Failed to encode headers on message q=" + message.qualifier(), ex);
+    }
+    int length = buffer.writerIndex() - writerIndex;
+    prediction.record(length);
+    return length;
+  }
+
   /**
    * Decode buffers.
    *
    * @param dataBuffer the buffer of the data (payload)
    * @param headersBuffer the buffer of the headers
-   * @return a new Service message with {@link ByteBuf} data and with parsed headers.
+   * @return a new Service message with {@link ByteBuf} data and with headers which may be parsed
+   *     on demand, see {@link HeadersCodec#decodeLazily(ByteBuf)}.
    * @throws MessageCodecException when decode fails
    */
   public ServiceMessage decode(ByteBuf dataBuffer, ByteBuf headersBuffer)
@@ -85,12 +324,14 @@ public final class ServiceMessageCodec {
       builder.data(dataBuffer);
     }
     if (headersBuffer.isReadable()) {
-      try (ByteBufInputStream stream = new ByteBufInputStream(headersBuffer.slice())) {
-        builder.headers(headersCodec.decode(stream));
+      int readerIndex = headersBuffer.readerIndex();
+      try {
+        builder.headers(headersCodec.decodeLazily(headersBuffer));
       } catch (Throwable ex) {
         LOGGER.error(
             "Failed to decode message headers: {}, cause: {}",
-            headersBuffer.toString(StandardCharsets.UTF_8),
+            headersBuffer.toString(
+                readerIndex, headersBuffer.writerIndex() - readerIndex, StandardCharsets.UTF_8),
             ex);
         throw new MessageCodecException("Failed to decode message headers", ex);
       } finally {
@@ -108,6 +349,7 @@ public final class ServiceMessageCodec {
    * @return a new Service message that upon {@link ServiceMessage#data()} returns the actual data
    *     (of type data type)
    * @throws MessageCodecException when decode fails
+   * @throws BadRequestException when compressed data inflates beyond max frame length
    */
   public static ServiceMessage decodeData(ServiceMessage message, Class<?> dataType)
       throws MessageCodecException {
@@ -119,25 +361,73 @@ public final class ServiceMessageCodec {
     Class<?> targetType = ExceptionProcessor.isError(message) ? ErrorData.class : dataType;
 
     ByteBuf dataBuffer = message.data();
-    try (ByteBufInputStream inputStream = new ByteBufInputStream(dataBuffer.slice())) {
+    int readerIndex = dataBuffer.readerIndex();
+    ByteBuf decodeBuffer = dataBuffer;
+    String dataEncoding = message.header(ServiceMessage.HEADER_DATA_ENCODING);
+    try {
+      if (dataEncoding != null) {
+        decodeBuffer = decompress(dataBuffer, dataEncoding);
+      }
       DataCodec dataCodec = DataCodec.getInstance(message.dataFormatOrDefault());
-      data = dataCodec.decode(inputStream, targetType);
+      data = dataCodec.decode(decodeBuffer, targetType);
+    } catch (BadRequestException ex) {
+      LOGGER.error("Failed to decode data on: {}, cause: {}", message, ex.getMessage());
+      throw ex;
     } catch (Throwable ex) {
       LOGGER.error(
           "Failed to decode data on: {}, cause: {}, data buffer: {}",
           message,
           ex,
-          dataBuffer.toString(StandardCharsets.UTF_8));
+          dataBuffer.toString(
+              readerIndex, dataBuffer.writerIndex() - readerIndex, StandardCharsets.UTF_8));
       throw new MessageCodecException(
           "Failed to decode data on message q=" + message.qualifier(), ex);
     } finally {
       ReferenceCountUtil.safeRelease(dataBuffer);
+      if (decodeBuffer != dataBuffer) {
+        ReferenceCountUtil.safeRelease(decodeBuffer);
+      }
     }
 
     if (targetType == ErrorData.class) {
       throw ExceptionProcessor.toException(message.qualifier(), (ErrorData) data);
     }
 
+    if (dataEncoding != null) {
+      Map<String, String> headers = new HashMap<>(message.headers());
+      headers.remove(ServiceMessage.HEADER_DATA_ENCODING);
+      return ServiceMessage.builder().headers(headers).data(data).build();
+    }
+
     return ServiceMessage.from(message).data(data).build();
   }
+
+  private static ByteBuf decompress(ByteBuf dataBuffer, String dataEncoding) throws IOException {
+    if (!DataCompression.DEFLATE.equals(dataEncoding)) {
+      throw new IOException("Unsupported data encoding: " + dataEncoding);
+    }
+    ByteBuf buffer =
+        ByteBufAllocator.DEFAULT.buffer(
+            Math.min(dataBuffer.readableBytes() << 2, DataCompression.MAX_DECOMPRESSED_SIZE));
+    try {
+      DataCompression.decompress(dataBuffer, buffer, DataCompression.MAX_DECOMPRESSED_SIZE);
+    } catch (Throwable ex) {
+      buffer.release();
+      throw ex;
+    }
+    return buffer;
+  }
+
+  @Override
+  public String toString() {
+    return "ServiceMessageCodec{headersFormat="
+        + headersFormat()
+        + ", singleBuffer="
+        + singleBuffer
+        + ", compressionThreshold="
+        + compressionThreshold
+        + ", dataCacheSize="
+        + dataCacheSize
+        + '}';
+  }
 }
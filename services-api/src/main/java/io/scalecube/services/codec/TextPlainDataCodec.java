@@ -0,0 +1,37 @@
+package io.scalecube.services.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codec of {@code String} data which is sent as UTF-8 text, without quoting and escaping.
+ */
+public final class TextPlainDataCodec extends RawDataCodec {
+
+  public static final String CONTENT_TYPE = "text/plain";
+
+  @Override
+  public String contentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void encode(ByteBuf buffer, Object value) throws IOException {
+    if (!(value instanceof CharSequence)) {
+      throw unsupportedType(CONTENT_TYPE, value.getClass());
+    }
+    ByteBufUtil.writeUtf8(buffer, (CharSequence) value);
+  }
+
+  @Override
+  public Object decode(ByteBuf buffer, Class<?> type) throws IOException {
+    if (!type.isAssignableFrom(String.class)) {
+      throw unsupportedType(CONTENT_TYPE, type);
+    }
+    String text = buffer.toString(StandardCharsets.UTF_8);
+    buffer.skipBytes(buffer.readableBytes());
+    return text;
+  }
+}
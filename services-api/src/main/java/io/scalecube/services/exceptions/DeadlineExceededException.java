@@ -0,0 +1,14 @@
+package io.scalecube.services.exceptions;
+
+public class DeadlineExceededException extends ServiceException {
+
+  public static final int ERROR_TYPE = 504;
+
+  public DeadlineExceededException(String message) {
+    this(ERROR_TYPE, message);
+  }
+
+  public DeadlineExceededException(int errorCode, String message) {
+    super(errorCode, message);
+  }
+}
@@ -31,6 +31,8 @@ public class ExceptionProcessor {
         errorType = UnauthorizedException.ERROR_TYPE;
       } else if (throwable instanceof ServiceUnavailableException) {
         errorType = ServiceUnavailableException.ERROR_TYPE;
+      } else if (throwable instanceof DeadlineExceededException) {
+        errorType = DeadlineExceededException.ERROR_TYPE;
       } else if (throwable instanceof InternalServiceException) {
         errorType = InternalServiceException.ERROR_TYPE;
       }
@@ -62,6 +64,8 @@ public class ExceptionProcessor {
         return new UnauthorizedException(errorCode, errorMessage);
       case ServiceUnavailableException.ERROR_TYPE:
         return new ServiceUnavailableException(errorCode, errorMessage);
+      case DeadlineExceededException.ERROR_TYPE:
+        return new DeadlineExceededException(errorCode, errorMessage);
       case InternalServiceException.ERROR_TYPE:
         return new InternalServiceException(errorCode, errorMessage);
         // Handle other types of Service Exceptions here
@@ -3,6 +3,7 @@ package io.scalecube.services.methods;
 import io.scalecube.services.CommunicationMode;
 import io.scalecube.services.api.Qualifier;
 import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.DataCodec;
 
 public final class MethodInfo {
 
@@ -13,6 +14,8 @@ public final class MethodInfo {
   private final CommunicationMode communicationMode;
   private final int parameterCount;
   private final Class<?> requestType;
+  private final String requestDataFormat;
+  private final String responseDataFormat;
 
   /**
    * Create a new service info.
@@ -31,6 +34,36 @@ public final class MethodInfo {
       CommunicationMode communicationMode,
       int parameterCount,
       Class<?> requestType) {
+    this(
+        serviceName,
+        methodName,
+        parameterizedReturnType,
+        communicationMode,
+        parameterCount,
+        requestType,
+        false);
+  }
+
+  /**
+   * Create a new service info.
+   *
+   * @param serviceName the name of the service
+   * @param methodName the name of the methof
+   * @param parameterizedReturnType the return type (with generics support)
+   * @param communicationMode the directions of the method
+   * @param parameterCount amount of parameters
+   * @param requestType the type of the request
+   * @param rawData whether raw data types are sent by built-in raw codecs, see {@link
+   *     io.scalecube.services.annotations.ServiceMethod#rawData()}
+   */
+  public MethodInfo(
+      String serviceName,
+      String methodName,
+      Class<?> parameterizedReturnType,
+      CommunicationMode communicationMode,
+      int parameterCount,
+      Class<?> requestType,
+      boolean rawData) {
 
     this.parameterizedReturnType = parameterizedReturnType;
     this.communicationMode = communicationMode;
@@ -39,6 +72,8 @@ public final class MethodInfo {
     this.qualifier = Qualifier.asString(serviceName, methodName);
     this.parameterCount = parameterCount;
     this.requestType = requestType;
+    this.requestDataFormat = rawData ? DataCodec.rawContentType(requestType) : null;
+    this.responseDataFormat = rawData ? DataCodec.rawContentType(parameterizedReturnType) : null;
   }
 
   public String serviceName() {
@@ -77,6 +112,26 @@ public final class MethodInfo {
     return requestType;
   }
 
+  /**
+   * Returns data format of the request data, if the method opted in to send it by one of the
+   * built-in raw codecs, see {@link DataCodec#rawContentType(Class)}.
+   *
+   * @return request data format or null for the default one
+   */
+  public String requestDataFormat() {
+    return requestDataFormat;
+  }
+
+  /**
+   * Returns data format of the response data, if the method opted in to send it by one of the
+   * built-in raw codecs, see {@link DataCodec#rawContentType(Class)}.
+   *
+   * @return response data format or null for the default one
+   */
+  public String responseDataFormat() {
+    return responseDataFormat;
+  }
+
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("MethodInfo{");
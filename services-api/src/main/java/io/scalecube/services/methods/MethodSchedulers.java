@@ -0,0 +1,150 @@
+package io.scalecube.services.methods;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Schedulers which service methods are invoked on, looked up by names given in {@link
+ * io.scalecube.services.annotations.ServiceMethod#scheduler()}. Besides schedulers registered by
+ * name, two built-in ones are always available: {@value #BLOCKING}, a bounded pool of threads for
+ * blocking calls (e.g. JDBC), and {@value #VIRTUAL}, virtual threads when the JVM has them (falls
+ * back to {@value #BLOCKING} otherwise). Built-in schedulers are shared by all nodes of the JVM.
+ */
+public final class MethodSchedulers {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MethodSchedulers.class);
+
+  /** Name of the built-in scheduler for blocking calls. */
+  public static final String BLOCKING = "blocking";
+
+  /** Name of the built-in scheduler running on virtual threads. */
+  public static final String VIRTUAL = "virtual";
+
+  private static final int BLOCKING_POOL_SIZE =
+      Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+  private static final int BLOCKING_QUEUE_CAPACITY = 1024;
+
+  private final Map<String, Scheduler> schedulers;
+
+  /** Creates schedulers with built-in ones only. */
+  public MethodSchedulers() {
+    this(Collections.emptyMap());
+  }
+
+  /**
+   * Creates schedulers with the given named ones along with built-in ones. Schedulers given here
+   * are owned by the caller and are not disposed.
+   *
+   * @param schedulers schedulers by names, which may override built-in ones
+   */
+  public MethodSchedulers(Map<String, Scheduler> schedulers) {
+    this.schedulers = new HashMap<>(schedulers);
+  }
+
+  /**
+   * Returns scheduler of the given name.
+   *
+   * @param name scheduler name
+   * @return scheduler
+   * @throws IllegalArgumentException if there's no scheduler of such name
+   */
+  public Scheduler get(String name) {
+    Scheduler scheduler = schedulers.get(name);
+    if (scheduler != null) {
+      return scheduler;
+    }
+    switch (name) {
+      case BLOCKING:
+        return blocking();
+      case VIRTUAL:
+        return virtual();
+      default:
+        throw new IllegalArgumentException("Unknown service method scheduler: " + name);
+    }
+  }
+
+  /**
+   * Returns built-in scheduler for blocking calls. It's backed by a pool of daemon threads, which
+   * is bounded by 4 threads per CPU (16 at least) and shrinks when idle. Calls beyond the bound
+   * wait in the queue of the pool, which holds up to {@value #BLOCKING_QUEUE_CAPACITY} calls. Calls
+   * beyond that are rejected, and service method invoker fails them with {@link
+   * io.scalecube.services.exceptions.ServiceUnavailableException}.
+   *
+   * @return blocking scheduler
+   */
+  public static Scheduler blocking() {
+    return BlockingScheduler.INSTANCE;
+  }
+
+  /**
+   * Returns built-in scheduler which runs every task on a new virtual thread, if the JVM supports
+   * them (Java 21+), otherwise {@link #blocking()} one.
+   *
+   * @return virtual threads scheduler
+   */
+  public static Scheduler virtual() {
+    return VirtualScheduler.INSTANCE;
+  }
+
+  /**
+   * Creates executor of the blocking scheduler, which rejects tasks when its queue is full.
+   *
+   * @param poolSize max number of threads
+   * @param queueCapacity max number of tasks waiting for a thread
+   * @return executor
+   */
+  static ExecutorService newBlockingExecutor(int poolSize, int queueCapacity) {
+    AtomicInteger counter = new AtomicInteger();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            runnable -> {
+              Thread thread = new Thread(runnable, "sc-blocking-" + counter.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static final class BlockingScheduler {
+
+    private static final Scheduler INSTANCE =
+        Schedulers.fromExecutorService(
+            newBlockingExecutor(BLOCKING_POOL_SIZE, BLOCKING_QUEUE_CAPACITY));
+  }
+
+  private static final class VirtualScheduler {
+
+    private static final Scheduler INSTANCE = newScheduler();
+
+    private static Scheduler newScheduler() {
+      try {
+        ExecutorService executor =
+            (ExecutorService)
+                Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        return Schedulers.fromExecutorService(executor);
+      } catch (Exception ex) {
+        LOGGER.warn(
+            "Virtual threads are not supported by this JVM, '{}' scheduler will be used", BLOCKING);
+        return blocking();
+      }
+    }
+  }
+}
@@ -2,23 +2,29 @@ package io.scalecube.services.methods;
 
 import io.scalecube.services.api.ServiceMessage;
 import io.scalecube.services.exceptions.BadRequestException;
+import io.scalecube.services.exceptions.ServiceUnavailableException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiFunction;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * Invoker of service method. Prepares service message request before call as well as doing some
- * handling of a product of the service call.
+ * handling of a product of the service call. Synchronous service method, i.e. one returning a
+ * plain value or void, is treated as returning a mono of its value.
  */
 public final class ServiceMethodInvoker {
 
   private final Method method;
   private final Object service;
   private final MethodInfo methodInfo;
+  private final Scheduler scheduler;
+  private final boolean synchronous;
 
   /**
    * Constructs a service method invoker out of real service object instance and method info.
@@ -28,36 +34,120 @@ public final class ServiceMethodInvoker {
    * @param methodInfo method information
    */
   public ServiceMethodInvoker(Method method, Object service, MethodInfo methodInfo) {
+    this(method, service, methodInfo, null);
+  }
+
+  /**
+   * Constructs a service method invoker out of real service object instance and method info, which
+   * invokes the method on the given scheduler.
+   *
+   * @param method service method
+   * @param service service instance
+   * @param methodInfo method information
+   * @param scheduler scheduler to decode request and invoke the method on, {@code null} means the
+   *     calling thread. Calls rejected by the scheduler (e.g. its queue is full) fail with {@link
+   *     ServiceUnavailableException}
+   */
+  public ServiceMethodInvoker(
+      Method method, Object service, MethodInfo methodInfo, Scheduler scheduler) {
     this.method = method;
     this.service = service;
     this.methodInfo = methodInfo;
+    this.scheduler = scheduler;
+    this.synchronous = !Publisher.class.isAssignableFrom(method.getReturnType());
   }
 
+  public MethodInfo methodInfo() {
+    return methodInfo;
+  }
+
+  /**
+   * Returns scheduler the method is invoked on. Responses are emitted on its threads too, unless
+   * the method switches threads itself.
+   *
+   * @return scheduler or {@code null} if the method is invoked on the calling thread
+   */
+  public Scheduler scheduler() {
+    return scheduler;
+  }
+
+  /**
+   * Invokes service method of request-response type. When the method is assigned a scheduler, it's
+   * invoked on the scheduler, and so are signals of the response until the caller switches threads.
+   *
+   * @param message request message
+   * @param dataDecoder decoder of request data
+   * @return response message
+   */
   public Mono<ServiceMessage> invokeOne(
       ServiceMessage message, BiFunction<ServiceMessage, Class<?>, ServiceMessage> dataDecoder) {
-    return Mono.from(invoke(toRequest(message, dataDecoder))).map(this::toResponse);
+    if (scheduler == null) {
+      return Mono.from(invoke(toRequest(message, dataDecoder))).map(this::toResponse);
+    }
+    return Mono.defer(() -> Mono.from(invoke(toRequest(message, dataDecoder))))
+        .subscribeOn(scheduler)
+        .onErrorMap(RejectedExecutionException.class, this::toUnavailable)
+        .map(this::toResponse);
   }
 
+  /**
+   * Invokes service method of request-stream type. When the method is assigned a scheduler, it's
+   * invoked on the scheduler, and so are signals of the response until the caller switches threads.
+   *
+   * @param message request message
+   * @param dataDecoder decoder of request data
+   * @return response messages
+   */
   public Flux<ServiceMessage> invokeMany(
       ServiceMessage message, BiFunction<ServiceMessage, Class<?>, ServiceMessage> dataDecoder) {
-    return Flux.from(invoke(toRequest(message, dataDecoder))).map(this::toResponse);
+    if (scheduler == null) {
+      return Flux.from(invoke(toRequest(message, dataDecoder))).map(this::toResponse);
+    }
+    return Flux.defer(() -> invoke(toRequest(message, dataDecoder)))
+        .subscribeOn(scheduler)
+        .onErrorMap(RejectedExecutionException.class, this::toUnavailable)
+        .map(this::toResponse);
   }
 
+  /**
+   * Invokes service method of request-channel type. When the method is assigned a scheduler, it's
+   * invoked on the scheduler, and so are signals of the response until the caller switches threads.
+   *
+   * @param publisher request messages
+   * @param dataDecoder decoder of request data
+   * @return response messages
+   */
   public Flux<ServiceMessage> invokeBidirectional(
       Publisher<ServiceMessage> publisher,
       BiFunction<ServiceMessage, Class<?>, ServiceMessage> dataDecoder) {
-    return Flux.from(invoke(Flux.from(publisher).map(message -> toRequest(message, dataDecoder))))
+    if (scheduler == null) {
+      return Flux.from(invoke(Flux.from(publisher).map(message -> toRequest(message, dataDecoder))))
+          .map(this::toResponse);
+    }
+    Flux<Object> requests = Flux.from(publisher).map(message -> toRequest(message, dataDecoder));
+    return Flux.defer(() -> invoke(requests))
+        .subscribeOn(scheduler)
+        .onErrorMap(RejectedExecutionException.class, this::toUnavailable)
         .map(this::toResponse);
   }
 
+  private ServiceUnavailableException toUnavailable(RejectedExecutionException ex) {
+    return new ServiceUnavailableException(
+        "Service method " + methodInfo.qualifier() + " is overloaded, its scheduler rejected call");
+  }
+
   private Publisher<?> invoke(Object arguments) {
     Publisher<?> result = null;
     Throwable throwable = null;
     try {
-      if (method.getParameterCount() == 0) {
-        result = (Publisher<?>) method.invoke(service);
+      Object value =
+          method.getParameterCount() == 0
+              ? method.invoke(service)
+              : method.invoke(service, arguments);
+      if (synchronous) {
+        result = Mono.justOrEmpty(value);
       } else {
-        result = (Publisher<?>) method.invoke(service, arguments);
+        result = (Publisher<?>) value;
       }
       if (result == null) {
         result = Mono.empty();
@@ -89,8 +179,14 @@ public final class ServiceMethodInvoker {
   }
 
   private ServiceMessage toResponse(Object response) {
-    return (response instanceof ServiceMessage)
-        ? (ServiceMessage) response
-        : ServiceMessage.builder().qualifier(methodInfo.qualifier()).data(response).build();
+    if (response instanceof ServiceMessage) {
+      return (ServiceMessage) response;
+    }
+    ServiceMessage.Builder builder =
+        ServiceMessage.builder().qualifier(methodInfo.qualifier()).data(response);
+    if (methodInfo.responseDataFormat() != null) {
+      builder.dataFormat(methodInfo.responseDataFormat());
+    }
+    return builder.build();
   }
 }
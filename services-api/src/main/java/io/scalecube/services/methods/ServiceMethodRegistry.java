@@ -4,6 +4,19 @@ public interface ServiceMethodRegistry {
 
   void registerService(Object serviceInstance);
 
+  /**
+   * Registers methods of the service instance, which are invoked on the scheduler of the given
+   * name unless they declare their own one (see {@link
+   * io.scalecube.services.annotations.ServiceMethod#scheduler()}). Registries which don't support
+   * schedulers ignore the name.
+   *
+   * @param serviceInstance service instance
+   * @param scheduler name of the scheduler, {@code null} means the one declared by the service
+   */
+  default void registerService(Object serviceInstance, String scheduler) {
+    registerService(serviceInstance);
+  }
+
   boolean containsInvoker(String qualifier);
 
   ServiceMethodInvoker getInvoker(String qualifier);
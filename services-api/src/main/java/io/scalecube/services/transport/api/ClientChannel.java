@@ -8,6 +8,14 @@ import reactor.core.publisher.Mono;
 /** Client channel interface. */
 public interface ClientChannel {
 
+  /**
+   * Sends request without waiting for any reply from the remote side.
+   *
+   * @param message request message
+   * @return mono completing once request is sent, or with error if it couldn't be sent
+   */
+  Mono<Void> fireAndForget(ServiceMessage message);
+
   Mono<ServiceMessage> requestResponse(ServiceMessage message);
 
   Flux<ServiceMessage> requestStream(ServiceMessage message);
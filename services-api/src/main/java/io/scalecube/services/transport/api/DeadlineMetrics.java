@@ -0,0 +1,49 @@
+package io.scalecube.services.transport.api;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of work which server transport dropped because deadline of the request (see {@link
+ * io.scalecube.services.api.ServiceMessage#HEADER_TIMEOUT}) has passed, i.e. the caller doesn't
+ * wait for it anymore. Counters grow monotonically.
+ */
+public final class DeadlineMetrics {
+
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder cancelled = new LongAdder();
+
+  /** Records request rejected on arrival, without invoking the service. */
+  public void onRejected() {
+    rejected.increment();
+  }
+
+  /** Records service invocation cancelled when deadline of its request passed. */
+  public void onCancelled() {
+    cancelled.increment();
+  }
+
+  /**
+   * Returns number of requests which had already expired on arrival, so the service wasn't
+   * invoked.
+   *
+   * @return number of rejected requests
+   */
+  public long rejected() {
+    return rejected.sum();
+  }
+
+  /**
+   * Returns number of service invocations which were cancelled when deadline of their requests
+   * passed.
+   *
+   * @return number of cancelled invocations
+   */
+  public long cancelled() {
+    return cancelled.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "DeadlineMetrics{rejected=" + rejected() + ", cancelled=" + cancelled() + '}';
+  }
+}
@@ -0,0 +1,73 @@
+package io.scalecube.services.transport.api;
+
+import java.time.Duration;
+
+/**
+ * Strategy of service transport worker threads for polling I/O when there is nothing to do.
+ * Instead of blocking in the OS until a socket becomes ready (which costs a wake-up on every
+ * message), worker thread keeps polling: first it spins, then yields its CPU between polls, then
+ * parks for periods doubling from 1 microsecond up to the given max. Any I/O or task resets it back
+ * to spinning. Polling trades CPU (a core per worker thread while spinning) for lower latency.
+ */
+public final class IdleStrategy {
+
+  private final int spins;
+  private final int yields;
+  private final long maxParkNanos;
+
+  private IdleStrategy(int spins, int yields, long maxParkNanos) {
+    this.spins = spins;
+    this.yields = yields;
+    this.maxParkNanos = maxParkNanos;
+  }
+
+  /**
+   * Creates strategy which never stops spinning, for the lowest latency at the cost of a fully
+   * busy core per worker thread.
+   *
+   * @return idle strategy
+   */
+  public static IdleStrategy busySpin() {
+    return new IdleStrategy(Integer.MAX_VALUE, 0, 0);
+  }
+
+  /**
+   * Creates strategy which spins, then yields, then parks.
+   *
+   * @param spins number of polls before starting to yield
+   * @param yields number of yielding polls before starting to park
+   * @param maxPark max period of parking between polls, must be positive
+   * @return idle strategy
+   */
+  public static IdleStrategy backoff(int spins, int yields, Duration maxPark) {
+    if (spins < 0 || yields < 0 || maxPark.isNegative() || maxPark.isZero()) {
+      throw new IllegalArgumentException(
+          "Invalid idle strategy: spins=" + spins + ", yields=" + yields + ", maxPark=" + maxPark);
+    }
+    return new IdleStrategy(spins, yields, maxPark.toNanos());
+  }
+
+  public int spins() {
+    return spins;
+  }
+
+  public int yields() {
+    return yields;
+  }
+
+  public long maxParkNanos() {
+    return maxParkNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "IdleStrategy{"
+        + "spins="
+        + spins
+        + ", yields="
+        + yields
+        + ", maxParkNanos="
+        + maxParkNanos
+        + '}';
+  }
+}
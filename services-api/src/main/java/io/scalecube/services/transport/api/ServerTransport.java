@@ -2,6 +2,8 @@ package io.scalecube.services.transport.api;
 
 import io.scalecube.services.methods.ServiceMethodRegistry;
 import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Map;
 import reactor.core.publisher.Mono;
 
 /** Server service transport interface. */
@@ -16,6 +18,26 @@ public interface ServerTransport {
    */
   InetSocketAddress bindAwait(InetSocketAddress address, ServiceMethodRegistry methodRegistry);
 
+  /**
+   * Returns tags which service endpoint of this node advertises on behalf of the transport once
+   * it's bound, such as additional addresses the transport accepts connections on.
+   *
+   * @return endpoint tags
+   */
+  default Map<String, String> tags() {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Returns counters of work dropped by the transport because of passed request deadlines.
+   * Transport which doesn't enforce deadlines returns counters which stay zero.
+   *
+   * @return deadline metrics
+   */
+  default DeadlineMetrics deadlineMetrics() {
+    return new DeadlineMetrics();
+  }
+
   /**
    * Stops server transport.
    *
@@ -49,6 +49,20 @@ public interface ServiceTransport {
    */
   Executor getWorkerThreadPool(int numOfThreads, WorkerThreadChooser workerThreadChooser);
 
+  /**
+   * Getting new service transport worker thread pool, whose threads poll I/O with the given idle
+   * strategy. Transports which don't support polling ignore the strategy.
+   *
+   * @param numOfThreads number of threads for worker thread pool
+   * @param workerThreadChooser worker thread chooser function
+   * @param idleStrategy idle strategy of worker threads, {@code null} means blocking wait for I/O
+   * @return executor
+   */
+  default Executor getWorkerThreadPool(
+      int numOfThreads, WorkerThreadChooser workerThreadChooser, IdleStrategy idleStrategy) {
+    return getWorkerThreadPool(numOfThreads, workerThreadChooser);
+  }
+
   /**
    * Shutdowns service transport.
    *
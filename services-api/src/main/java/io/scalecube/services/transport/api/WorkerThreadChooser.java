@@ -13,7 +13,7 @@ public interface WorkerThreadChooser {
    * @param id an identifier of connection
    * @param localAddress local address of connection
    * @param remoteAddress remote address of connection
-   * @param executors array of available executors
+   * @param executors array of available executors, must not be modified
    * @return chosen executor from the available executors
    */
   Executor getWorker(
@@ -0,0 +1,76 @@
+package io.scalecube.services.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.services.exceptions.DeadlineExceededException;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class DeadlineTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private final ServiceMessage request = ServiceMessage.builder().qualifier("q1").build();
+
+  @Test
+  @DisplayName("request should carry time remaining to deadline rather than deadline itself")
+  void testCarriesRemainingTime() throws Exception {
+    Deadline deadline = Deadline.after(Duration.ofSeconds(3));
+    Thread.sleep(100);
+
+    Duration timeout = deadline.applyTo(request).timeout();
+    assertTrue(timeout.compareTo(Duration.ofMillis(2900)) <= 0, timeout.toString());
+    assertTrue(timeout.compareTo(Duration.ofSeconds(2)) > 0, timeout.toString());
+
+    Duration remaining = Deadline.of(deadline.applyTo(request)).remaining();
+    assertTrue(remaining.compareTo(timeout) <= 0, remaining.toString());
+    assertNull(Deadline.of(request));
+  }
+
+  @Test
+  @DisplayName("far deadline should neither overflow nor expire")
+  void testFarDeadline() {
+    ServiceMessage message =
+        ServiceMessage.from(request)
+            .header(ServiceMessage.HEADER_TIMEOUT, Long.toString(Long.MAX_VALUE))
+            .build();
+
+    assertFalse(Deadline.of(message).isExpired());
+    assertTrue(Deadline.of(message).remaining().compareTo(TIMEOUT) > 0);
+  }
+
+  @Test
+  @DisplayName("deadline should expire once remaining time is over")
+  void testExpires() {
+    Deadline deadline = Deadline.of(ServiceMessage.from(request).timeout(Duration.ZERO).build());
+
+    assertTrue(deadline.isExpired());
+    assertEquals(Duration.ZERO, deadline.remaining());
+    assertEquals(Duration.ZERO, deadline.applyTo(request).timeout());
+    assertFalse(Deadline.after(TIMEOUT).isExpired());
+  }
+
+  @Test
+  @DisplayName("deadline should bound every next response by the remaining time")
+  void testBoundsResponses() {
+    Mono<String> exceeded = Mono.error(Deadline.exceeded(request.qualifier()));
+
+    StepVerifier.create(Deadline.after(Duration.ofMillis(100)).bound(Mono.never(), exceeded))
+        .expectErrorMessage("Deadline of request has passed: q1")
+        .verify(TIMEOUT);
+
+    Flux<String> responses = Flux.interval(Duration.ofMillis(30)).map(String::valueOf);
+    StepVerifier.create(Deadline.after(Duration.ofMillis(200)).bound(responses, exceeded))
+        .expectNextCount(3)
+        .thenConsumeWhile(response -> true)
+        .expectError(DeadlineExceededException.class)
+        .verify(TIMEOUT);
+  }
+}
@@ -0,0 +1,103 @@
+package io.scalecube.services.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ServiceMessageTest {
+
+  @Test
+  @DisplayName("headers should behave as regular immutable map")
+  void testHeaders() {
+    ServiceMessage message =
+        ServiceMessage.builder().qualifier("q1").streamId("1").header("h", "v").build();
+
+    Map<String, String> expected = new HashMap<>();
+    expected.put(ServiceMessage.HEADER_QUALIFIER, "q1");
+    expected.put(ServiceMessage.HEADER_STREAM_ID, "1");
+    expected.put("h", "v");
+
+    assertEquals(expected, message.headers());
+    assertEquals(expected.hashCode(), message.headers().hashCode());
+    assertEquals("q1", message.qualifier());
+    assertNull(message.header("missing"));
+    assertThrows(UnsupportedOperationException.class, () -> message.headers().put("h", "v2"));
+  }
+
+  @Test
+  @DisplayName("copy should share headers until they are modified")
+  void testCopyOnWrite() {
+    ServiceMessage message = ServiceMessage.builder().qualifier("q1").streamId("1").build();
+
+    ServiceMessage copy = ServiceMessage.from(message).data("data").build();
+    assertSame(message.headers(), copy.headers());
+
+    ServiceMessage.Builder builder = ServiceMessage.from(message).streamId("2");
+    ServiceMessage modified = builder.build();
+    ServiceMessage modifiedAgain = builder.header("h", "v").build();
+
+    assertEquals("1", message.streamId());
+    assertEquals(2, message.headers().size());
+    assertEquals("2", modified.streamId());
+    assertEquals(2, modified.headers().size());
+    assertEquals("v", modifiedAgain.header("h"));
+    assertNull(modified.header("h"));
+  }
+
+  @Test
+  @DisplayName("builder should keep any number of headers")
+  void testManyHeaders() {
+    ServiceMessage.Builder builder = ServiceMessage.builder();
+    Map<String, String> expected = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      builder.header("h" + i, "v" + i);
+      expected.put("h" + i, "v" + i);
+      assertEquals(expected, builder.build().headers());
+    }
+    assertEquals(
+        expected, ServiceMessage.from(builder.build()).header("h0", "v0").build().headers());
+  }
+
+  @Test
+  @DisplayName("builder should remove header without touching source message")
+  void testRemoveHeader() {
+    ServiceMessage message = ServiceMessage.builder().qualifier("q1").header("h", "v").build();
+    ServiceMessage removed = ServiceMessage.from(message).removeHeader("h").build();
+    ServiceMessage unchanged = ServiceMessage.from(message).removeHeader("absent").build();
+
+    assertEquals("v", message.header("h"));
+    assertNull(removed.header("h"));
+    assertEquals("q1", removed.qualifier());
+    assertEquals(1, removed.headers().size());
+    assertSame(message.headers(), unchanged.headers());
+  }
+
+  @Test
+  @DisplayName("timeout should be kept as millis header")
+  void testTimeout() {
+    ServiceMessage message = ServiceMessage.builder().qualifier("q1").build();
+    ServiceMessage withTimeout =
+        ServiceMessage.from(message).timeout(Duration.ofSeconds(3)).build();
+
+    assertNull(message.timeout());
+    assertEquals(Duration.ofSeconds(3), withTimeout.timeout());
+    assertEquals("3000", withTimeout.header(ServiceMessage.HEADER_TIMEOUT));
+  }
+
+  @Test
+  @DisplayName("malformed timeout header should be ignored")
+  void testMalformedTimeout() {
+    ServiceMessage message =
+        ServiceMessage.builder().qualifier("q1").header(ServiceMessage.HEADER_TIMEOUT, "1s").build();
+
+    assertNull(message.timeout());
+    assertNull(Deadline.of(message));
+  }
+}
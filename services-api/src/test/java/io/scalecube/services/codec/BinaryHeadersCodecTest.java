@@ -0,0 +1,51 @@
+package io.scalecube.services.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.scalecube.services.api.ServiceMessage;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BinaryHeadersCodecTest {
+
+  private final BinaryHeadersCodec codec = new BinaryHeadersCodec();
+
+  @Test
+  @DisplayName("headers should be decoded as encoded")
+  void testEncodeAndDecode() throws Exception {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(ServiceMessage.HEADER_QUALIFIER, "greetings/greeting");
+    headers.put(ServiceMessage.HEADER_DATA_FORMAT, "application/json");
+    headers.put("custom", "value");
+
+    ByteBuf buffer = Unpooled.buffer();
+    codec.encode(buffer, headers);
+
+    assertEquals(headers, codec.decode(buffer.duplicate()));
+    assertEquals(headers, codec.decodeLazily(buffer.duplicate()));
+  }
+
+  @Test
+  @DisplayName("headers with null values should be skipped")
+  void testNullValues() throws Exception {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(ServiceMessage.HEADER_QUALIFIER, "greetings/greeting");
+    headers.put(ServiceMessage.HEADER_STREAM_ID, null);
+    headers.put("custom", null);
+
+    ByteBuf buffer = Unpooled.buffer();
+    codec.encode(buffer, headers);
+
+    Map<String, String> expected = new HashMap<>();
+    expected.put(ServiceMessage.HEADER_QUALIFIER, "greetings/greeting");
+    assertEquals(expected, codec.decode(buffer.duplicate()));
+    Map<String, String> lazyHeaders = codec.decodeLazily(buffer.duplicate());
+    assertEquals("greetings/greeting", lazyHeaders.get(ServiceMessage.HEADER_QUALIFIER));
+    assertNull(lazyHeaders.get("custom"));
+  }
+}
@@ -0,0 +1,70 @@
+package io.scalecube.services.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.scalecube.services.api.ServiceMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EncodeSizePredictorTest {
+
+  private final EncodeSizePredictor predictor = new EncodeSizePredictor();
+
+  @Test
+  @DisplayName("prediction should grow at once to fit encoded size")
+  void testGrowsAtOnce() {
+    EncodeSizePredictor.Prediction prediction = new EncodeSizePredictor.Prediction();
+    assertEquals(EncodeSizePredictor.INITIAL_SIZE, prediction.nextSize());
+
+    prediction.record(5000);
+
+    assertTrue(prediction.nextSize() >= 5000);
+    assertTrue(prediction.nextSize() < 5000 * 2);
+  }
+
+  @Test
+  @DisplayName("prediction should shrink by one step after two smaller encoded sizes")
+  void testShrinksSlowly() {
+    EncodeSizePredictor.Prediction prediction = new EncodeSizePredictor.Prediction();
+    prediction.record(5000);
+    int size = prediction.nextSize();
+
+    prediction.record(100);
+    assertEquals(size, prediction.nextSize());
+
+    prediction.record(100);
+    assertTrue(prediction.nextSize() < size);
+    assertTrue(prediction.nextSize() >= 5000 / 2);
+  }
+
+  @Test
+  @DisplayName("prediction should stay within bounds")
+  void testBounds() {
+    EncodeSizePredictor.Prediction prediction = new EncodeSizePredictor.Prediction();
+    prediction.record(Integer.MAX_VALUE);
+    assertEquals(EncodeSizePredictor.MAX_SIZE, prediction.nextSize());
+
+    for (int i = 0; i < 100; i++) {
+      prediction.record(0);
+    }
+    assertEquals(EncodeSizePredictor.MIN_SIZE, prediction.nextSize());
+  }
+
+  @Test
+  @DisplayName("sizes should be tracked per qualifier and data type")
+  void testSizesPerQualifierAndDataType() {
+    ServiceMessage message = ServiceMessage.builder().qualifier("a").data("data").build();
+
+    assertSame(predictor.sizes(message), predictor.sizes(ServiceMessage.from(message).build()));
+    assertNotSame(
+        predictor.sizes(message), predictor.sizes(ServiceMessage.from(message).data(1).build()));
+    assertNotSame(
+        predictor.sizes(message),
+        predictor.sizes(ServiceMessage.from(message).qualifier("b").build()));
+    assertNotSame(
+        predictor.sizes(message), predictor.sizes(ServiceMessage.builder().qualifier("a").build()));
+  }
+}
@@ -0,0 +1,64 @@
+package io.scalecube.services.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EncodedDataCacheTest {
+
+  private static final String FORMAT = "application/json";
+
+  @Test
+  @DisplayName("cache should match data by identity and content type")
+  void testMatchesByIdentityAndFormat() {
+    EncodedDataCache cache = new EncodedDataCache(16);
+    String data = new String("data");
+    ByteBuf buffer = encoded("\"data\"");
+
+    cache.put(data, FORMAT, null, buffer);
+
+    assertNotNull(cache.get(data, FORMAT));
+    assertNull(cache.get(new String("data"), FORMAT));
+    assertNull(cache.get(data, "application/protostuff"));
+    buffer.release();
+  }
+
+  @Test
+  @DisplayName("cached buffer should be shared and released on eviction")
+  void testRetainsAndReleases() {
+    EncodedDataCache cache = new EncodedDataCache(1);
+    Object data = new Object();
+    ByteBuf buffer = encoded("\"data\"");
+
+    cache.put(data, FORMAT, "deflate", buffer);
+    buffer.release();
+    EncodedDataCache.Entry entry = cache.get(data, FORMAT);
+    ByteBuf cached = entry.retainedBuffer();
+
+    assertEquals("deflate", entry.dataEncoding());
+    assertSame(buffer, cached.unwrap());
+    assertEquals("\"data\"", cached.toString(StandardCharsets.UTF_8));
+    assertEquals(2, buffer.refCnt());
+
+    ByteBuf other = encoded("\"other\"");
+    cache.put(new Object(), FORMAT, null, other);
+    other.release();
+    assertNull(cache.get(data, FORMAT));
+    assertNull(entry.retainedBuffer());
+    assertEquals(1, buffer.refCnt());
+
+    cached.release();
+    assertEquals(0, buffer.refCnt());
+  }
+
+  private static ByteBuf encoded(String value) {
+    return Unpooled.copiedBuffer(value, StandardCharsets.UTF_8);
+  }
+}
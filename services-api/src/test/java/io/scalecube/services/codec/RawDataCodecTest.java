@@ -0,0 +1,109 @@
+package io.scalecube.services.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class RawDataCodecTest {
+
+  private static Stream<Arguments> values() {
+    return Stream.of(
+        Arguments.of("", String.class),
+        Arguments.of("hello \"world\" é世", String.class),
+        Arguments.of(0, Integer.class),
+        Arguments.of(-1, int.class),
+        Arguments.of(Integer.MIN_VALUE, Integer.class),
+        Arguments.of(Long.MAX_VALUE, Long.class),
+        Arguments.of(Long.MIN_VALUE, long.class),
+        Arguments.of((short) -300, Short.class),
+        Arguments.of((byte) -7, Byte.class),
+        Arguments.of(true, boolean.class),
+        Arguments.of('世', Character.class),
+        Arguments.of(Double.NaN, Double.class),
+        Arguments.of(-0.5f, float.class));
+  }
+
+  @ParameterizedTest
+  @MethodSource("values")
+  @DisplayName("value should be encoded by raw codec of its type and decoded back")
+  void testEncodeAndDecode(Object value, Class<?> type) throws IOException {
+    DataCodec codec = DataCodec.getInstance(DataCodec.rawContentType(type));
+    ByteBuf buffer = Unpooled.buffer();
+
+    codec.encode(buffer, value);
+
+    assertEquals(value, codec.decode(buffer, type));
+    assertEquals(0, buffer.readableBytes());
+  }
+
+  @ParameterizedTest
+  @MethodSource("values")
+  @DisplayName("value should be encoded and decoded with streams")
+  void testEncodeAndDecodeWithStreams(Object value, Class<?> type) throws IOException {
+    DataCodec codec = DataCodec.getInstance(DataCodec.rawContentType(type));
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+    codec.encode(stream, value);
+
+    assertEquals(value, codec.decode(new ByteArrayInputStream(stream.toByteArray()), type));
+  }
+
+  @Test
+  @DisplayName("byte array should be sent as is")
+  void testOctetStream() throws IOException {
+    byte[] bytes = {1, 2, 3, -1};
+    DataCodec codec = DataCodec.getInstance(DataCodec.rawContentType(byte[].class));
+    ByteBuf buffer = Unpooled.buffer();
+
+    codec.encode(buffer, bytes);
+
+    assertEquals(OctetStreamDataCodec.CONTENT_TYPE, codec.contentType());
+    assertEquals(bytes.length, buffer.readableBytes());
+    assertArrayEquals(bytes, (byte[]) codec.decode(buffer, byte[].class));
+  }
+
+  @Test
+  @DisplayName("small integers should take one byte")
+  void testCompactIntegers() throws IOException {
+    ByteBuf buffer = Unpooled.buffer();
+
+    new PrimitiveDataCodec().encode(buffer, -64);
+    new PrimitiveDataCodec().encode(buffer, 63L);
+
+    assertEquals(2, buffer.readableBytes());
+  }
+
+  @Test
+  @DisplayName("only types with raw codec should be resolved")
+  void testRawContentType() {
+    assertEquals(TextPlainDataCodec.CONTENT_TYPE, DataCodec.rawContentType(String.class));
+    assertEquals(PrimitiveDataCodec.CONTENT_TYPE, DataCodec.rawContentType(long.class));
+    assertNull(DataCodec.rawContentType(Object.class));
+    assertNull(DataCodec.rawContentType(Number.class));
+    assertNull(DataCodec.rawContentType(void.class));
+    assertNull(DataCodec.rawContentType(Void.class));
+    assertNull(DataCodec.rawContentType(null));
+  }
+
+  @Test
+  @DisplayName("codecs should fail on unsupported types")
+  void testUnsupportedTypes() {
+    assertThrows(IOException.class, () -> new TextPlainDataCodec().encode(Unpooled.buffer(), 1));
+    assertThrows(IOException.class, () -> new PrimitiveDataCodec().encode(Unpooled.buffer(), ""));
+    assertThrows(
+        IOException.class, () -> new OctetStreamDataCodec().decode(Unpooled.buffer(), int.class));
+  }
+}
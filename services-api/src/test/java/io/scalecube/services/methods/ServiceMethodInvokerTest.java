@@ -1,13 +1,19 @@
 package io.scalecube.services.methods;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import io.scalecube.services.CommunicationMode;
 import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.exceptions.ServiceUnavailableException;
 import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiFunction;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 class ServiceMethodInvokerTest {
@@ -173,4 +179,76 @@ class ServiceMethodInvokerTest {
 
     StepVerifier.create(invokeOne).verifyError(RuntimeException.class);
   }
+
+  @Test
+  @DisplayName("invokeOne should invoke service method on the given scheduler")
+  void testInvokeOneOnScheduler() throws Exception {
+    final String methodName = "currentThreadName";
+    final Class<? extends StubService> serviceClass = stubService.getClass();
+    final Method method = serviceClass.getMethod(methodName);
+
+    final MethodInfo methodInfo =
+        new MethodInfo(
+            serviceClass.getName(),
+            methodName,
+            method.getReturnType(),
+            CommunicationMode.REQUEST_RESPONSE,
+            method.getParameterCount(),
+            Void.TYPE);
+
+    serviceMethodInvoker =
+        new ServiceMethodInvoker(method, stubService, methodInfo, MethodSchedulers.blocking());
+
+    ServiceMessage message =
+        ServiceMessage.builder().qualifier(qualifierPrefix + methodName).streamId("1").build();
+
+    StepVerifier.create(serviceMethodInvoker.invokeOne(message, dataDecoder))
+        .assertNext(response -> assertTrue(response.<String>data().startsWith("sc-blocking-")))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("invokeOne should fail with service unavailable when scheduler queue is full")
+  void testInvokeOneOnOverloadedScheduler() throws Exception {
+    final String methodName = "currentThreadName";
+    final Class<? extends StubService> serviceClass = stubService.getClass();
+    final Method method = serviceClass.getMethod(methodName);
+
+    final MethodInfo methodInfo =
+        new MethodInfo(
+            serviceClass.getName(),
+            methodName,
+            method.getReturnType(),
+            CommunicationMode.REQUEST_RESPONSE,
+            method.getParameterCount(),
+            Void.TYPE);
+
+    ExecutorService executor = MethodSchedulers.newBlockingExecutor(1, 1);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      // one call occupies the only thread and another one the only place in the queue
+      executor.execute(
+          () -> {
+            try {
+              release.await();
+            } catch (InterruptedException ex) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      executor.execute(() -> {});
+
+      serviceMethodInvoker =
+          new ServiceMethodInvoker(
+              method, stubService, methodInfo, Schedulers.fromExecutorService(executor));
+
+      ServiceMessage message =
+          ServiceMessage.builder().qualifier(qualifierPrefix + methodName).streamId("1").build();
+
+      StepVerifier.create(serviceMethodInvoker.invokeOne(message, dataDecoder))
+          .verifyError(ServiceUnavailableException.class);
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
 }
@@ -34,4 +34,9 @@ public class StubServiceImpl implements StubService {
   public Flux<String> throwException3(Flux<String> request) {
     throw new RuntimeException();
   }
+
+  @Override
+  public Mono<String> currentThreadName() {
+    return Mono.just(Thread.currentThread().getName());
+  }
 }
@@ -0,0 +1,162 @@
+package io.scalecube.services.codec.generated;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.scalecube.services.api.ErrorData;
+import io.scalecube.services.codec.DataCodec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Data codec backed by serializers generated at compile time by {@link
+ * io.scalecube.services.codec.generated.processor.SerializerProcessor} for request and response
+ * types of service methods. A serializer is looked up once per type by name (see {@link
+ * #serializerClassName(String)}), after that encoding and decoding are plain method calls without
+ * reflection or schema lookups. Besides generated types the codec supports strings, byte arrays,
+ * boxed primitives and {@link ErrorData}.
+ */
+public final class GeneratedCodec implements DataCodec {
+
+  public static final String CONTENT_TYPE = "application/x-scalecube-generated";
+
+  private static final String SERIALIZER_SUFFIX = "_Serializer";
+
+  private static final Serializer<ErrorData> ERROR_DATA =
+      new Serializer<ErrorData>() {
+        @Override
+        public void write(ByteBuf buffer, ErrorData value) {
+          SerializerSupport.writeInt(buffer, value.getErrorCode());
+          SerializerSupport.writeString(buffer, value.getErrorMessage());
+        }
+
+        @Override
+        public ErrorData read(ByteBuf buffer) {
+          int errorCode = SerializerSupport.readInt(buffer);
+          return new ErrorData(errorCode, SerializerSupport.readString(buffer));
+        }
+      };
+
+  private static final ClassValue<Serializer<?>> SERIALIZERS =
+      new ClassValue<Serializer<?>>() {
+        @Override
+        protected Serializer<?> computeValue(Class<?> type) {
+          return findSerializer(type);
+        }
+      };
+
+  /**
+   * Returns name of the serializer class generated for the given type. Serializer is placed in the
+   * package of the type and named after its binary name, so that {@code a.b.Outer$Inner} gets
+   * {@code a.b.Outer_Inner_Serializer}.
+   *
+   * @param typeName binary name of the type
+   * @return binary name of the serializer class
+   */
+  public static String serializerClassName(String typeName) {
+    int packageEnd = typeName.lastIndexOf('.') + 1;
+    return typeName.substring(0, packageEnd)
+        + typeName.substring(packageEnd).replace('$', '_')
+        + SERIALIZER_SUFFIX;
+  }
+
+  @Override
+  public String contentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void encode(OutputStream stream, Object value) throws IOException {
+    ByteBuf buffer = Unpooled.buffer();
+    encode(buffer, value);
+    buffer.readBytes(stream, buffer.readableBytes());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void encode(ByteBuf buffer, Object value) throws IOException {
+    Serializer<Object> serializer = (Serializer<Object>) serializer(value.getClass());
+    try {
+      serializer.write(buffer, value);
+    } catch (RuntimeException ex) {
+      throw new IOException("Failed to encode " + value.getClass().getName(), ex);
+    }
+  }
+
+  @Override
+  public Object decode(InputStream stream, Class<?> type) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(32, stream.available()));
+    byte[] chunk = new byte[256];
+    int read;
+    while ((read = stream.read(chunk)) != -1) {
+      bytes.write(chunk, 0, read);
+    }
+    return decode(Unpooled.wrappedBuffer(bytes.toByteArray()), type);
+  }
+
+  @Override
+  public Object decode(ByteBuf buffer, Class<?> type) throws IOException {
+    Serializer<?> serializer = serializer(type);
+    try {
+      return serializer.read(buffer);
+    } catch (RuntimeException ex) {
+      throw new IOException("Failed to decode " + type.getName(), ex);
+    }
+  }
+
+  private static Serializer<?> serializer(Class<?> type) throws IOException {
+    Serializer<?> serializer = SERIALIZERS.get(type);
+    if (serializer == null) {
+      throw new IOException(
+          "No generated serializer for "
+              + type.getName()
+              + ", is it used by a service method compiled with "
+              + "scalecube-services-generated on the annotation processor path?");
+    }
+    return serializer;
+  }
+
+  private static Serializer<?> findSerializer(Class<?> type) {
+    if (type == String.class) {
+      return SerializerSupport.STRING;
+    }
+    if (type == byte[].class) {
+      return SerializerSupport.BYTE_ARRAY;
+    }
+    if (type == Boolean.class) {
+      return SerializerSupport.BOOLEAN;
+    }
+    if (type == Byte.class) {
+      return SerializerSupport.BYTE;
+    }
+    if (type == Short.class) {
+      return SerializerSupport.SHORT;
+    }
+    if (type == Character.class) {
+      return SerializerSupport.CHARACTER;
+    }
+    if (type == Integer.class) {
+      return SerializerSupport.INTEGER;
+    }
+    if (type == Long.class) {
+      return SerializerSupport.LONG;
+    }
+    if (type == Float.class) {
+      return SerializerSupport.FLOAT;
+    }
+    if (type == Double.class) {
+      return SerializerSupport.DOUBLE;
+    }
+    if (type == ErrorData.class) {
+      return ERROR_DATA;
+    }
+    try {
+      Class<?> serializerClass =
+          Class.forName(serializerClassName(type.getName()), true, type.getClassLoader());
+      return (Serializer<?>) serializerClass.getField("INSTANCE").get(null);
+    } catch (ReflectiveOperationException | LinkageError ex) {
+      return null;
+    }
+  }
+}
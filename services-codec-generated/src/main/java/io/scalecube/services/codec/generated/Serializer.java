@@ -0,0 +1,30 @@
+package io.scalecube.services.codec.generated;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Serializer of a single type. Implementations of service request and response types are
+ * generated at compile time by {@link
+ * io.scalecube.services.codec.generated.processor.SerializerProcessor}, serializers of common JDK
+ * types are available in {@link SerializerSupport}.
+ *
+ * @param <T> serialized type
+ */
+public interface Serializer<T> {
+
+  /**
+   * Writes value to the buffer.
+   *
+   * @param buffer buffer to write to
+   * @param value value, generated serializers of service types expect it to be non null
+   */
+  void write(ByteBuf buffer, T value);
+
+  /**
+   * Reads value from the buffer.
+   *
+   * @param buffer buffer to read from, its reader index is advanced past the value
+   * @return value
+   */
+  T read(ByteBuf buffer);
+}
@@ -0,0 +1,952 @@
+package io.scalecube.services.codec.generated;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Wire format primitives used by generated serializers. Values are written in declaration order of
+ * the properties without any names or tags, so both sides must be compiled against the same version
+ * of a type. Integral numbers are zigzag varints, lengths and sizes are varints incremented by one
+ * so that zero stands for null, other nullable values are preceded by a presence byte.
+ */
+public final class SerializerSupport {
+
+  public static final Serializer<Boolean> BOOLEAN =
+      new Serializer<Boolean>() {
+        @Override
+        public void write(ByteBuf buffer, Boolean value) {
+          writeNullableBoolean(buffer, value);
+        }
+
+        @Override
+        public Boolean read(ByteBuf buffer) {
+          return readNullableBoolean(buffer);
+        }
+      };
+
+  public static final Serializer<Byte> BYTE =
+      new Serializer<Byte>() {
+        @Override
+        public void write(ByteBuf buffer, Byte value) {
+          writeNullableByte(buffer, value);
+        }
+
+        @Override
+        public Byte read(ByteBuf buffer) {
+          return readNullableByte(buffer);
+        }
+      };
+
+  public static final Serializer<Short> SHORT =
+      new Serializer<Short>() {
+        @Override
+        public void write(ByteBuf buffer, Short value) {
+          writeNullableShort(buffer, value);
+        }
+
+        @Override
+        public Short read(ByteBuf buffer) {
+          return readNullableShort(buffer);
+        }
+      };
+
+  public static final Serializer<Character> CHARACTER =
+      new Serializer<Character>() {
+        @Override
+        public void write(ByteBuf buffer, Character value) {
+          writeNullableChar(buffer, value);
+        }
+
+        @Override
+        public Character read(ByteBuf buffer) {
+          return readNullableChar(buffer);
+        }
+      };
+
+  public static final Serializer<Integer> INTEGER =
+      new Serializer<Integer>() {
+        @Override
+        public void write(ByteBuf buffer, Integer value) {
+          writeNullableInt(buffer, value);
+        }
+
+        @Override
+        public Integer read(ByteBuf buffer) {
+          return readNullableInt(buffer);
+        }
+      };
+
+  public static final Serializer<Long> LONG =
+      new Serializer<Long>() {
+        @Override
+        public void write(ByteBuf buffer, Long value) {
+          writeNullableLong(buffer, value);
+        }
+
+        @Override
+        public Long read(ByteBuf buffer) {
+          return readNullableLong(buffer);
+        }
+      };
+
+  public static final Serializer<Float> FLOAT =
+      new Serializer<Float>() {
+        @Override
+        public void write(ByteBuf buffer, Float value) {
+          writeNullableFloat(buffer, value);
+        }
+
+        @Override
+        public Float read(ByteBuf buffer) {
+          return readNullableFloat(buffer);
+        }
+      };
+
+  public static final Serializer<Double> DOUBLE =
+      new Serializer<Double>() {
+        @Override
+        public void write(ByteBuf buffer, Double value) {
+          writeNullableDouble(buffer, value);
+        }
+
+        @Override
+        public Double read(ByteBuf buffer) {
+          return readNullableDouble(buffer);
+        }
+      };
+
+  public static final Serializer<String> STRING =
+      new Serializer<String>() {
+        @Override
+        public void write(ByteBuf buffer, String value) {
+          writeString(buffer, value);
+        }
+
+        @Override
+        public String read(ByteBuf buffer) {
+          return readString(buffer);
+        }
+      };
+
+  public static final Serializer<byte[]> BYTE_ARRAY =
+      new Serializer<byte[]>() {
+        @Override
+        public void write(ByteBuf buffer, byte[] value) {
+          writeByteArray(buffer, value);
+        }
+
+        @Override
+        public byte[] read(ByteBuf buffer) {
+          return readByteArray(buffer);
+        }
+      };
+
+  public static final Serializer<BigInteger> BIG_INTEGER =
+      new Serializer<BigInteger>() {
+        @Override
+        public void write(ByteBuf buffer, BigInteger value) {
+          writeBigInteger(buffer, value);
+        }
+
+        @Override
+        public BigInteger read(ByteBuf buffer) {
+          return readBigInteger(buffer);
+        }
+      };
+
+  public static final Serializer<BigDecimal> BIG_DECIMAL =
+      new Serializer<BigDecimal>() {
+        @Override
+        public void write(ByteBuf buffer, BigDecimal value) {
+          writeBigDecimal(buffer, value);
+        }
+
+        @Override
+        public BigDecimal read(ByteBuf buffer) {
+          return readBigDecimal(buffer);
+        }
+      };
+
+  public static final Serializer<java.util.UUID> UUID =
+      new Serializer<java.util.UUID>() {
+        @Override
+        public void write(ByteBuf buffer, java.util.UUID value) {
+          writeUuid(buffer, value);
+        }
+
+        @Override
+        public java.util.UUID read(ByteBuf buffer) {
+          return readUuid(buffer);
+        }
+      };
+
+  public static final Serializer<Instant> INSTANT =
+      new Serializer<Instant>() {
+        @Override
+        public void write(ByteBuf buffer, Instant value) {
+          writeInstant(buffer, value);
+        }
+
+        @Override
+        public Instant read(ByteBuf buffer) {
+          return readInstant(buffer);
+        }
+      };
+
+  public static final Serializer<Duration> DURATION =
+      new Serializer<Duration>() {
+        @Override
+        public void write(ByteBuf buffer, Duration value) {
+          writeDuration(buffer, value);
+        }
+
+        @Override
+        public Duration read(ByteBuf buffer) {
+          return readDuration(buffer);
+        }
+      };
+
+  public static final Serializer<LocalDate> LOCAL_DATE =
+      new Serializer<LocalDate>() {
+        @Override
+        public void write(ByteBuf buffer, LocalDate value) {
+          writeLocalDate(buffer, value);
+        }
+
+        @Override
+        public LocalDate read(ByteBuf buffer) {
+          return readLocalDate(buffer);
+        }
+      };
+
+  public static final Serializer<LocalTime> LOCAL_TIME =
+      new Serializer<LocalTime>() {
+        @Override
+        public void write(ByteBuf buffer, LocalTime value) {
+          writeLocalTime(buffer, value);
+        }
+
+        @Override
+        public LocalTime read(ByteBuf buffer) {
+          return readLocalTime(buffer);
+        }
+      };
+
+  public static final Serializer<LocalDateTime> LOCAL_DATE_TIME =
+      new Serializer<LocalDateTime>() {
+        @Override
+        public void write(ByteBuf buffer, LocalDateTime value) {
+          writeLocalDateTime(buffer, value);
+        }
+
+        @Override
+        public LocalDateTime read(ByteBuf buffer) {
+          return readLocalDateTime(buffer);
+        }
+      };
+
+  private SerializerSupport() {
+    // Do not instantiate
+  }
+
+  /**
+   * Returns serializer which writes presence byte before values of the given serializer.
+   *
+   * @param serializer serializer of non null values
+   * @param <T> value type
+   * @return serializer of nullable values
+   */
+  public static <T> Serializer<T> nullable(Serializer<T> serializer) {
+    return new Serializer<T>() {
+      @Override
+      public void write(ByteBuf buffer, T value) {
+        if (value == null) {
+          buffer.writeByte(0);
+        } else {
+          buffer.writeByte(1);
+          serializer.write(buffer, value);
+        }
+      }
+
+      @Override
+      public T read(ByteBuf buffer) {
+        return buffer.readByte() != 0 ? serializer.read(buffer) : null;
+      }
+    };
+  }
+
+  /**
+   * Returns serializer of enum constants, which are written as ordinals.
+   *
+   * @param type enum type
+   * @param <E> enum type
+   * @return serializer of nullable values
+   */
+  public static <E extends Enum<E>> Serializer<E> enumOf(Class<E> type) {
+    E[] constants = type.getEnumConstants();
+    return new Serializer<E>() {
+      @Override
+      public void write(ByteBuf buffer, E value) {
+        writeVarInt(buffer, value != null ? value.ordinal() + 1 : 0);
+      }
+
+      @Override
+      public E read(ByteBuf buffer) {
+        int ordinal = readVarInt(buffer) - 1;
+        return ordinal >= 0 ? constants[ordinal] : null;
+      }
+    };
+  }
+
+  /**
+   * Returns serializer of lists, which are read as {@link ArrayList}.
+   *
+   * @param serializer serializer of elements
+   * @param <T> element type
+   * @return serializer of nullable lists
+   */
+  public static <T> Serializer<List<T>> list(Serializer<T> serializer) {
+    return new Serializer<List<T>>() {
+      @Override
+      public void write(ByteBuf buffer, List<T> value) {
+        writeElements(buffer, value, serializer);
+      }
+
+      @Override
+      public List<T> read(ByteBuf buffer) {
+        int size = readLength(buffer);
+        return size >= 0 ? readElements(buffer, new ArrayList<>(size), size, serializer) : null;
+      }
+    };
+  }
+
+  /**
+   * Returns serializer of sets, which are read as {@link LinkedHashSet}.
+   *
+   * @param serializer serializer of elements
+   * @param <T> element type
+   * @return serializer of nullable sets
+   */
+  public static <T> Serializer<Set<T>> set(Serializer<T> serializer) {
+    return new Serializer<Set<T>>() {
+      @Override
+      public void write(ByteBuf buffer, Set<T> value) {
+        writeElements(buffer, value, serializer);
+      }
+
+      @Override
+      public Set<T> read(ByteBuf buffer) {
+        int size = readLength(buffer);
+        return size >= 0
+            ? readElements(buffer, new LinkedHashSet<>(capacity(size)), size, serializer)
+            : null;
+      }
+    };
+  }
+
+  /**
+   * Returns serializer of collections, which are read as {@link ArrayList}.
+   *
+   * @param serializer serializer of elements
+   * @param <T> element type
+   * @return serializer of nullable collections
+   */
+  public static <T> Serializer<Collection<T>> collection(Serializer<T> serializer) {
+    return new Serializer<Collection<T>>() {
+      @Override
+      public void write(ByteBuf buffer, Collection<T> value) {
+        writeElements(buffer, value, serializer);
+      }
+
+      @Override
+      public Collection<T> read(ByteBuf buffer) {
+        int size = readLength(buffer);
+        return size >= 0 ? readElements(buffer, new ArrayList<>(size), size, serializer) : null;
+      }
+    };
+  }
+
+  /**
+   * Returns serializer of maps, which are read as {@link LinkedHashMap}.
+   *
+   * @param keySerializer serializer of keys
+   * @param valueSerializer serializer of values
+   * @param <K> key type
+   * @param <V> value type
+   * @return serializer of nullable maps
+   */
+  public static <K, V> Serializer<Map<K, V>> map(
+      Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+    return new Serializer<Map<K, V>>() {
+      @Override
+      public void write(ByteBuf buffer, Map<K, V> value) {
+        if (value == null) {
+          buffer.writeByte(0);
+          return;
+        }
+        writeVarInt(buffer, value.size() + 1);
+        for (Map.Entry<K, V> entry : value.entrySet()) {
+          keySerializer.write(buffer, entry.getKey());
+          valueSerializer.write(buffer, entry.getValue());
+        }
+      }
+
+      @Override
+      public Map<K, V> read(ByteBuf buffer) {
+        int size = readLength(buffer);
+        if (size < 0) {
+          return null;
+        }
+        Map<K, V> map = new LinkedHashMap<>(capacity(size));
+        for (int i = 0; i < size; i++) {
+          map.put(keySerializer.read(buffer), valueSerializer.read(buffer));
+        }
+        return map;
+      }
+    };
+  }
+
+  private static <T> void writeElements(
+      ByteBuf buffer, Collection<T> value, Serializer<T> serializer) {
+    if (value == null) {
+      buffer.writeByte(0);
+      return;
+    }
+    writeVarInt(buffer, value.size() + 1);
+    for (T element : value) {
+      serializer.write(buffer, element);
+    }
+  }
+
+  private static <T, C extends Collection<T>> C readElements(
+      ByteBuf buffer, C collection, int size, Serializer<T> serializer) {
+    for (int i = 0; i < size; i++) {
+      collection.add(serializer.read(buffer));
+    }
+    return collection;
+  }
+
+  /**
+   * Reads length of string or byte array, or size of collection or map. It's checked against
+   * readable bytes before anything is allocated for it, as every byte, element or entry takes at
+   * least one byte, so that a malformed message can't exhaust memory.
+   *
+   * @param buffer buffer
+   * @return length or -1 for null
+   */
+  private static int readLength(ByteBuf buffer) {
+    int length = readVarInt(buffer) - 1;
+    if (length < -1 || length > buffer.readableBytes()) {
+      throw new IllegalStateException(
+          "Malformed length " + length + ", " + buffer.readableBytes() + " bytes are left");
+    }
+    return length;
+  }
+
+  private static int capacity(int size) {
+    return size < 3 ? size + 1 : (int) (size / 0.75f + 1);
+  }
+
+  /**
+   * Writes unsigned varint.
+   *
+   * @param buffer buffer
+   * @param value value
+   */
+  public static void writeVarInt(ByteBuf buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer.writeByte(value);
+  }
+
+  /**
+   * Reads unsigned varint.
+   *
+   * @param buffer buffer
+   * @return value
+   */
+  public static int readVarInt(ByteBuf buffer) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = buffer.readByte();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed varint");
+  }
+
+  /**
+   * Writes unsigned varlong.
+   *
+   * @param buffer buffer
+   * @param value value
+   */
+  public static void writeVarLong(ByteBuf buffer, long value) {
+    while ((value & ~0x7FL) != 0) {
+      buffer.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.writeByte((int) value);
+  }
+
+  /**
+   * Reads unsigned varlong.
+   *
+   * @param buffer buffer
+   * @return value
+   */
+  public static long readVarLong(ByteBuf buffer) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed varlong");
+  }
+
+  public static void writeBoolean(ByteBuf buffer, boolean value) {
+    buffer.writeBoolean(value);
+  }
+
+  public static boolean readBoolean(ByteBuf buffer) {
+    return buffer.readBoolean();
+  }
+
+  public static void writeByte(ByteBuf buffer, byte value) {
+    buffer.writeByte(value);
+  }
+
+  public static byte readByte(ByteBuf buffer) {
+    return buffer.readByte();
+  }
+
+  public static void writeShort(ByteBuf buffer, short value) {
+    writeInt(buffer, value);
+  }
+
+  public static short readShort(ByteBuf buffer) {
+    return (short) readInt(buffer);
+  }
+
+  public static void writeChar(ByteBuf buffer, char value) {
+    writeVarInt(buffer, value);
+  }
+
+  public static char readChar(ByteBuf buffer) {
+    return (char) readVarInt(buffer);
+  }
+
+  public static void writeInt(ByteBuf buffer, int value) {
+    writeVarInt(buffer, (value << 1) ^ (value >> 31));
+  }
+
+  public static int readInt(ByteBuf buffer) {
+    int value = readVarInt(buffer);
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  public static void writeLong(ByteBuf buffer, long value) {
+    writeVarLong(buffer, (value << 1) ^ (value >> 63));
+  }
+
+  public static long readLong(ByteBuf buffer) {
+    long value = readVarLong(buffer);
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  public static void writeFloat(ByteBuf buffer, float value) {
+    buffer.writeFloat(value);
+  }
+
+  public static float readFloat(ByteBuf buffer) {
+    return buffer.readFloat();
+  }
+
+  public static void writeDouble(ByteBuf buffer, double value) {
+    buffer.writeDouble(value);
+  }
+
+  public static double readDouble(ByteBuf buffer) {
+    return buffer.readDouble();
+  }
+
+  public static void writeNullableBoolean(ByteBuf buffer, Boolean value) {
+    buffer.writeByte(value == null ? 0 : value ? 2 : 1);
+  }
+
+  /**
+   * Reads nullable boolean.
+   *
+   * @param buffer buffer
+   * @return value or null
+   */
+  public static Boolean readNullableBoolean(ByteBuf buffer) {
+    byte value = buffer.readByte();
+    return value == 0 ? null : value == 2;
+  }
+
+  /**
+   * Writes nullable byte.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeNullableByte(ByteBuf buffer, Byte value) {
+    if (writePresence(buffer, value)) {
+      writeByte(buffer, value);
+    }
+  }
+
+  public static Byte readNullableByte(ByteBuf buffer) {
+    return readPresence(buffer) ? readByte(buffer) : null;
+  }
+
+  /**
+   * Writes nullable short.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeNullableShort(ByteBuf buffer, Short value) {
+    if (writePresence(buffer, value)) {
+      writeShort(buffer, value);
+    }
+  }
+
+  public static Short readNullableShort(ByteBuf buffer) {
+    return readPresence(buffer) ? readShort(buffer) : null;
+  }
+
+  /**
+   * Writes nullable char.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeNullableChar(ByteBuf buffer, Character value) {
+    if (writePresence(buffer, value)) {
+      writeChar(buffer, value);
+    }
+  }
+
+  public static Character readNullableChar(ByteBuf buffer) {
+    return readPresence(buffer) ? readChar(buffer) : null;
+  }
+
+  /**
+   * Writes nullable int.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeNullableInt(ByteBuf buffer, Integer value) {
+    if (writePresence(buffer, value)) {
+      writeInt(buffer, value);
+    }
+  }
+
+  public static Integer readNullableInt(ByteBuf buffer) {
+    return readPresence(buffer) ? readInt(buffer) : null;
+  }
+
+  /**
+   * Writes nullable long.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeNullableLong(ByteBuf buffer, Long value) {
+    if (writePresence(buffer, value)) {
+      writeLong(buffer, value);
+    }
+  }
+
+  public static Long readNullableLong(ByteBuf buffer) {
+    return readPresence(buffer) ? readLong(buffer) : null;
+  }
+
+  /**
+   * Writes nullable float.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeNullableFloat(ByteBuf buffer, Float value) {
+    if (writePresence(buffer, value)) {
+      writeFloat(buffer, value);
+    }
+  }
+
+  public static Float readNullableFloat(ByteBuf buffer) {
+    return readPresence(buffer) ? readFloat(buffer) : null;
+  }
+
+  /**
+   * Writes nullable double.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeNullableDouble(ByteBuf buffer, Double value) {
+    if (writePresence(buffer, value)) {
+      writeDouble(buffer, value);
+    }
+  }
+
+  public static Double readNullableDouble(ByteBuf buffer) {
+    return readPresence(buffer) ? readDouble(buffer) : null;
+  }
+
+  /**
+   * Writes string as length prefixed UTF-8 straight into the buffer.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeString(ByteBuf buffer, String value) {
+    if (value == null) {
+      buffer.writeByte(0);
+      return;
+    }
+    int length = ByteBufUtil.utf8Bytes(value);
+    writeVarInt(buffer, length + 1);
+    ByteBufUtil.reserveAndWriteUtf8(buffer, value, length);
+  }
+
+  /**
+   * Reads string.
+   *
+   * @param buffer buffer
+   * @return value or null
+   */
+  public static String readString(ByteBuf buffer) {
+    int length = readLength(buffer);
+    if (length < 0) {
+      return null;
+    }
+    String value = buffer.toString(buffer.readerIndex(), length, StandardCharsets.UTF_8);
+    buffer.skipBytes(length);
+    return value;
+  }
+
+  /**
+   * Writes length prefixed byte array.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeByteArray(ByteBuf buffer, byte[] value) {
+    if (value == null) {
+      buffer.writeByte(0);
+      return;
+    }
+    writeVarInt(buffer, value.length + 1);
+    buffer.writeBytes(value);
+  }
+
+  /**
+   * Reads byte array.
+   *
+   * @param buffer buffer
+   * @return value or null
+   */
+  public static byte[] readByteArray(ByteBuf buffer) {
+    int length = readLength(buffer);
+    if (length < 0) {
+      return null;
+    }
+    byte[] value = new byte[length];
+    buffer.readBytes(value);
+    return value;
+  }
+
+  public static void writeBigInteger(ByteBuf buffer, BigInteger value) {
+    writeByteArray(buffer, value != null ? value.toByteArray() : null);
+  }
+
+  /**
+   * Reads big integer.
+   *
+   * @param buffer buffer
+   * @return value or null
+   */
+  public static BigInteger readBigInteger(ByteBuf buffer) {
+    byte[] value = readByteArray(buffer);
+    return value != null ? new BigInteger(value) : null;
+  }
+
+  /**
+   * Writes big decimal as unscaled value followed by scale.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeBigDecimal(ByteBuf buffer, BigDecimal value) {
+    if (value == null) {
+      buffer.writeByte(0);
+      return;
+    }
+    writeBigInteger(buffer, value.unscaledValue());
+    writeInt(buffer, value.scale());
+  }
+
+  /**
+   * Reads big decimal.
+   *
+   * @param buffer buffer
+   * @return value or null
+   */
+  public static BigDecimal readBigDecimal(ByteBuf buffer) {
+    BigInteger unscaledValue = readBigInteger(buffer);
+    return unscaledValue != null ? new BigDecimal(unscaledValue, readInt(buffer)) : null;
+  }
+
+  /**
+   * Writes nullable uuid.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeUuid(ByteBuf buffer, java.util.UUID value) {
+    if (writePresence(buffer, value)) {
+      buffer.writeLong(value.getMostSignificantBits());
+      buffer.writeLong(value.getLeastSignificantBits());
+    }
+  }
+
+  public static java.util.UUID readUuid(ByteBuf buffer) {
+    return readPresence(buffer) ? new java.util.UUID(buffer.readLong(), buffer.readLong()) : null;
+  }
+
+  /**
+   * Writes nullable instant as seconds and nanos.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeInstant(ByteBuf buffer, Instant value) {
+    if (writePresence(buffer, value)) {
+      writeLong(buffer, value.getEpochSecond());
+      writeVarInt(buffer, value.getNano());
+    }
+  }
+
+  /**
+   * Reads nullable instant.
+   *
+   * @param buffer buffer
+   * @return value or null
+   */
+  public static Instant readInstant(ByteBuf buffer) {
+    return readPresence(buffer)
+        ? Instant.ofEpochSecond(readLong(buffer), readVarInt(buffer))
+        : null;
+  }
+
+  /**
+   * Writes nullable duration as seconds and nanos.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeDuration(ByteBuf buffer, Duration value) {
+    if (writePresence(buffer, value)) {
+      writeLong(buffer, value.getSeconds());
+      writeVarInt(buffer, value.getNano());
+    }
+  }
+
+  public static Duration readDuration(ByteBuf buffer) {
+    return readPresence(buffer) ? Duration.ofSeconds(readLong(buffer), readVarInt(buffer)) : null;
+  }
+
+  /**
+   * Writes nullable local date as epoch day.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeLocalDate(ByteBuf buffer, LocalDate value) {
+    if (writePresence(buffer, value)) {
+      writeLong(buffer, value.toEpochDay());
+    }
+  }
+
+  public static LocalDate readLocalDate(ByteBuf buffer) {
+    return readPresence(buffer) ? LocalDate.ofEpochDay(readLong(buffer)) : null;
+  }
+
+  /**
+   * Writes nullable local time as nano of day.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeLocalTime(ByteBuf buffer, LocalTime value) {
+    if (writePresence(buffer, value)) {
+      writeVarLong(buffer, value.toNanoOfDay());
+    }
+  }
+
+  public static LocalTime readLocalTime(ByteBuf buffer) {
+    return readPresence(buffer) ? LocalTime.ofNanoOfDay(readVarLong(buffer)) : null;
+  }
+
+  /**
+   * Writes nullable local date time as epoch day and nano of day.
+   *
+   * @param buffer buffer
+   * @param value value or null
+   */
+  public static void writeLocalDateTime(ByteBuf buffer, LocalDateTime value) {
+    if (writePresence(buffer, value)) {
+      writeLong(buffer, value.toLocalDate().toEpochDay());
+      writeVarLong(buffer, value.toLocalTime().toNanoOfDay());
+    }
+  }
+
+  /**
+   * Reads nullable local date time.
+   *
+   * @param buffer buffer
+   * @return value or null
+   */
+  public static LocalDateTime readLocalDateTime(ByteBuf buffer) {
+    if (!readPresence(buffer)) {
+      return null;
+    }
+    LocalDate date = LocalDate.ofEpochDay(readLong(buffer));
+    return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong(buffer)));
+  }
+
+  private static boolean writePresence(ByteBuf buffer, Object value) {
+    buffer.writeByte(value != null ? 1 : 0);
+    return value != null;
+  }
+
+  private static boolean readPresence(ByteBuf buffer) {
+    return buffer.readByte() != 0;
+  }
+}
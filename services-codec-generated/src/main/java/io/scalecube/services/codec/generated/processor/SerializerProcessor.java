@@ -0,0 +1,246 @@
+package io.scalecube.services.codec.generated.processor;
+
+import io.scalecube.services.annotations.RequestType;
+import io.scalecube.services.annotations.ResponseType;
+import io.scalecube.services.annotations.ServiceMethod;
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.generated.GeneratedCodec;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * Annotation processor which generates a {@link
+ * io.scalecube.services.codec.generated.Serializer} for every request and response type of
+ * {@link ServiceMethod} methods, including types given by {@link RequestType} and {@link
+ * ResponseType}, and for types referenced by their properties. Reactive wrappers ({@code Mono},
+ * {@code Flux} and other publishers) are unwrapped, JDK types and {@link ServiceMessage} are
+ * skipped.
+ *
+ * <p>Processor runs when {@code scalecube-services-generated} is on the compile classpath. Types
+ * it cannot handle (see {@link SerializerSource}) are reported as warnings and left to other
+ * codecs.
+ */
+public final class SerializerProcessor extends AbstractProcessor {
+
+  private static final String PUBLISHER = "org.reactivestreams.Publisher";
+
+  // Qualified type name -> whether serializer is generated or already exists
+  private final Map<String, Boolean> supported = new HashMap<>();
+  private final Map<String, String> failures = new HashMap<>();
+  private final Map<String, SerializerSource> pending = new LinkedHashMap<>();
+  // Qualified names of top level classes compiled along with the processor
+  private final Set<String> compiled = new HashSet<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return new HashSet<>(
+        Arrays.asList(
+            ServiceMethod.class.getName(),
+            RequestType.class.getName(),
+            ResponseType.class.getName()));
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getRootElements()) {
+      if (element instanceof TypeElement) {
+        compiled.add(((TypeElement) element).getQualifiedName().toString());
+      }
+    }
+    for (Element element : roundEnv.getElementsAnnotatedWith(ServiceMethod.class)) {
+      if (element.getKind() == ElementKind.METHOD) {
+        ExecutableElement method = (ExecutableElement) element;
+        for (VariableElement parameter : method.getParameters()) {
+          addRoot(parameter.asType(), method);
+        }
+        addRoot(method.getReturnType(), method);
+      }
+    }
+    for (Element element : roundEnv.getElementsAnnotatedWith(RequestType.class)) {
+      addRoot(annotationValue(element, RequestType.class.getName()), element);
+    }
+    for (Element element : roundEnv.getElementsAnnotatedWith(ResponseType.class)) {
+      addRoot(annotationValue(element, ResponseType.class.getName()), element);
+    }
+    writePending();
+    return false;
+  }
+
+  /**
+   * Analyzes the type and schedules generation of its serializer.
+   *
+   * @param type type element
+   * @return true if serializer is or will be available for the type
+   */
+  boolean analyze(TypeElement type) {
+    String name = type.getQualifiedName().toString();
+    Boolean known = supported.get(name);
+    if (known != null) {
+      return known;
+    }
+    if (!compiled.contains(topLevelName(type))
+        && processingEnv.getElementUtils().getTypeElement(serializerName(type)) != null) {
+      // class and its serializer come from the classpath
+      supported.put(name, true);
+      return true;
+    }
+    // optimistic to let types reference each other, revisited in writePending()
+    supported.put(name, true);
+    try {
+      pending.put(name, SerializerSource.create(type, processingEnv, this));
+      return true;
+    } catch (SerializerSource.UnsupportedTypeException ex) {
+      supported.put(name, false);
+      failures.put(name, ex.getMessage());
+      return false;
+    }
+  }
+
+  String serializerName(TypeElement type) {
+    return GeneratedCodec.serializerClassName(
+        processingEnv.getElementUtils().getBinaryName(type).toString());
+  }
+
+  private static String topLevelName(TypeElement type) {
+    Element element = type;
+    while (element.getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+      element = element.getEnclosingElement();
+    }
+    return ((TypeElement) element).getQualifiedName().toString();
+  }
+
+  private void addRoot(TypeMirror type, Element origin) {
+    TypeMirror valueType = unwrapPublisher(type);
+    if (valueType == null || valueType.getKind() != TypeKind.DECLARED) {
+      return;
+    }
+    TypeElement typeElement = (TypeElement) ((DeclaredType) valueType).asElement();
+    String name = typeElement.getQualifiedName().toString();
+    if (typeElement.getKind() != ElementKind.CLASS
+        || typeElement.getModifiers().contains(Modifier.ABSTRACT)
+        || name.startsWith("java.")
+        || name.equals(ServiceMessage.class.getName())) {
+      return;
+    }
+    if (!analyze(typeElement)) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Kind.WARNING,
+              "No serializer generated for " + name + ": " + failures.get(name),
+              origin);
+    }
+  }
+
+  private TypeMirror unwrapPublisher(TypeMirror type) {
+    if (type == null || type.getKind() != TypeKind.DECLARED) {
+      return type;
+    }
+    TypeElement publisher = processingEnv.getElementUtils().getTypeElement(PUBLISHER);
+    DeclaredType declaredType = (DeclaredType) type;
+    if (publisher != null
+        && declaredType.getTypeArguments().size() == 1
+        && processingEnv
+            .getTypeUtils()
+            .isAssignable(
+                processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(publisher.asType()))) {
+      return declaredType.getTypeArguments().get(0);
+    }
+    return type;
+  }
+
+  private TypeMirror annotationValue(Element element, String annotationName) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+      if (!annotationType.getQualifiedName().contentEquals(annotationName)) {
+        continue;
+      }
+      for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+          mirror.getElementValues().entrySet()) {
+        Object value = entry.getValue().getValue();
+        if (entry.getKey().getSimpleName().contentEquals("value")
+            && value instanceof TypeMirror) {
+          return (TypeMirror) value;
+        }
+      }
+    }
+    return null;
+  }
+
+  private void writePending() {
+    // drop serializers which optimistically referenced types turned out to be unsupported
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (Iterator<SerializerSource> it = pending.values().iterator(); it.hasNext(); ) {
+        SerializerSource source = it.next();
+        for (String reference : source.references()) {
+          if (Boolean.FALSE.equals(supported.get(reference))) {
+            supported.put(source.typeName(), false);
+            failures.put(
+                source.typeName(), "property type " + reference + ": " + failures.get(reference));
+            processingEnv
+                .getMessager()
+                .printMessage(
+                    Kind.WARNING,
+                    "No serializer generated for "
+                        + source.typeName()
+                        + ": "
+                        + failures.get(source.typeName()),
+                    source.type());
+            it.remove();
+            changed = true;
+            break;
+          }
+        }
+      }
+    }
+
+    for (SerializerSource source : pending.values()) {
+      try {
+        JavaFileObject file =
+            processingEnv.getFiler().createSourceFile(source.serializerName(), source.type());
+        try (Writer writer = file.openWriter()) {
+          writer.write(source.render());
+        }
+      } catch (IOException ex) {
+        processingEnv
+            .getMessager()
+            .printMessage(
+                Kind.ERROR,
+                "Failed to write serializer of " + source.typeName() + ": " + ex,
+                source.type());
+      }
+    }
+    pending.clear();
+  }
+}
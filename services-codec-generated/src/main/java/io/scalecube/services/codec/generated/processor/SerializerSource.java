@@ -0,0 +1,528 @@
+package io.scalecube.services.codec.generated.processor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+
+/**
+ * Source of a serializer generated for a single class. Properties are the instance non transient
+ * fields of the class, in declaration order. Generated serializer lives in the package of the
+ * class, so each property is read through a non private field or getter ({@code getX()}, {@code
+ * isX()} or {@code x()}) and written either through a non private constructor taking all
+ * properties (matched by parameter names) or through non private fields and setters after a no-arg
+ * constructor. Class must be a non generic, non abstract top level or static nested class without
+ * a superclass.
+ *
+ * <p>Supported property types are primitives and their wrappers, {@code String}, {@code byte[]},
+ * {@code BigInteger}, {@code BigDecimal}, {@code UUID}, {@code Instant}, {@code Duration}, {@code
+ * LocalDate}, {@code LocalTime}, {@code LocalDateTime}, enums, other classes satisfying the rules
+ * above and {@code List}, {@code Set}, {@code Collection} and {@code Map} of supported types.
+ */
+final class SerializerSource {
+
+  private static final String SERIALIZER = "io.scalecube.services.codec.generated.Serializer";
+  private static final String SUPPORT = "io.scalecube.services.codec.generated.SerializerSupport";
+  private static final String BYTE_BUF = "io.netty.buffer.ByteBuf";
+
+  // Qualified type name -> {suffix of SerializerSupport read/write methods, serializer constant}
+  private static final Map<String, String[]> BUILT_IN_TYPES = new HashMap<>();
+
+  static {
+    BUILT_IN_TYPES.put("java.lang.Boolean", new String[] {"NullableBoolean", "BOOLEAN"});
+    BUILT_IN_TYPES.put("java.lang.Byte", new String[] {"NullableByte", "BYTE"});
+    BUILT_IN_TYPES.put("java.lang.Short", new String[] {"NullableShort", "SHORT"});
+    BUILT_IN_TYPES.put("java.lang.Character", new String[] {"NullableChar", "CHARACTER"});
+    BUILT_IN_TYPES.put("java.lang.Integer", new String[] {"NullableInt", "INTEGER"});
+    BUILT_IN_TYPES.put("java.lang.Long", new String[] {"NullableLong", "LONG"});
+    BUILT_IN_TYPES.put("java.lang.Float", new String[] {"NullableFloat", "FLOAT"});
+    BUILT_IN_TYPES.put("java.lang.Double", new String[] {"NullableDouble", "DOUBLE"});
+    BUILT_IN_TYPES.put("java.lang.String", new String[] {"String", "STRING"});
+    BUILT_IN_TYPES.put("java.math.BigInteger", new String[] {"BigInteger", "BIG_INTEGER"});
+    BUILT_IN_TYPES.put("java.math.BigDecimal", new String[] {"BigDecimal", "BIG_DECIMAL"});
+    BUILT_IN_TYPES.put("java.util.UUID", new String[] {"Uuid", "UUID"});
+    BUILT_IN_TYPES.put("java.time.Instant", new String[] {"Instant", "INSTANT"});
+    BUILT_IN_TYPES.put("java.time.Duration", new String[] {"Duration", "DURATION"});
+    BUILT_IN_TYPES.put("java.time.LocalDate", new String[] {"LocalDate", "LOCAL_DATE"});
+    BUILT_IN_TYPES.put("java.time.LocalTime", new String[] {"LocalTime", "LOCAL_TIME"});
+    BUILT_IN_TYPES.put(
+        "java.time.LocalDateTime", new String[] {"LocalDateTime", "LOCAL_DATE_TIME"});
+  }
+
+  private final TypeElement type;
+  private final String typeName;
+  private final String serializerName;
+  private final ProcessingEnvironment env;
+  private final SerializerProcessor processor;
+  private final List<Property> properties = new ArrayList<>();
+  // Serializer expression -> name of static field holding it
+  private final Map<String, String> serializerFields = new LinkedHashMap<>();
+  private final Map<String, String> serializerFieldTypes = new HashMap<>();
+  private final Set<String> references = new LinkedHashSet<>();
+  private ExecutableElement constructor;
+
+  private SerializerSource(
+      TypeElement type, ProcessingEnvironment env, SerializerProcessor processor) {
+    this.type = type;
+    this.typeName = type.getQualifiedName().toString();
+    this.serializerName = processor.serializerName(type);
+    this.env = env;
+    this.processor = processor;
+  }
+
+  /**
+   * Analyzes the class and prepares source of its serializer.
+   *
+   * @param type class
+   * @param env processing environment
+   * @param processor processor, analyzes classes of properties
+   * @return serializer source
+   * @throws UnsupportedTypeException if serializer cannot be generated for the class
+   */
+  static SerializerSource create(
+      TypeElement type, ProcessingEnvironment env, SerializerProcessor processor)
+      throws UnsupportedTypeException {
+    SerializerSource source = new SerializerSource(type, env, processor);
+    source.analyze();
+    return source;
+  }
+
+  TypeElement type() {
+    return type;
+  }
+
+  String typeName() {
+    return typeName;
+  }
+
+  String serializerName() {
+    return serializerName;
+  }
+
+  /**
+   * Returns qualified names of classes whose generated serializers are used by this one.
+   *
+   * @return class names
+   */
+  Set<String> references() {
+    return references;
+  }
+
+  private void analyze() throws UnsupportedTypeException {
+    if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+      throw new UnsupportedTypeException("not a concrete class");
+    }
+    if (!type.getTypeParameters().isEmpty()) {
+      throw new UnsupportedTypeException("generic class");
+    }
+    for (Element element = type;
+        element.getKind().isClass() || element.getKind().isInterface();
+        element = element.getEnclosingElement()) {
+      if (element.getModifiers().contains(Modifier.PRIVATE)) {
+        throw new UnsupportedTypeException("private class");
+      }
+      if (element.getEnclosingElement().getKind() != ElementKind.PACKAGE
+          && !element.getModifiers().contains(Modifier.STATIC)) {
+        throw new UnsupportedTypeException("inner class");
+      }
+    }
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() == TypeKind.DECLARED
+        && !qualifiedName(superclass).equals(Object.class.getName())) {
+      throw new UnsupportedTypeException("class extends " + superclass);
+    }
+
+    List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      Set<Modifier> modifiers = field.getModifiers();
+      if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)) {
+        properties.add(new Property(field, getter(field, methods)));
+      }
+    }
+
+    constructor = propertiesConstructor();
+    if (constructor == null) {
+      if (!hasNoArgConstructor()) {
+        throw new UnsupportedTypeException(
+            "no accessible constructor taking all properties or no-arg constructor");
+      }
+      for (Property property : properties) {
+        property.setter = setter(property.field, methods);
+      }
+    }
+
+    for (Property property : properties) {
+      property.resolveCodec();
+    }
+  }
+
+  private String getter(VariableElement field, List<ExecutableElement> methods)
+      throws UnsupportedTypeException {
+    String name = field.getSimpleName().toString();
+    if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+      return "value." + name;
+    }
+    String capitalized = capitalize(name);
+    for (ExecutableElement method : methods) {
+      String methodName = method.getSimpleName().toString();
+      if ((methodName.equals("get" + capitalized)
+              || methodName.equals(name)
+              || (methodName.equals("is" + capitalized)
+                  && field.asType().getKind() == TypeKind.BOOLEAN))
+          && method.getParameters().isEmpty()
+          && isAccessible(method)
+          && types().isSameType(method.getReturnType(), field.asType())) {
+        return "value." + methodName + "()";
+      }
+    }
+    throw new UnsupportedTypeException("no accessible field or getter of '" + name + "'");
+  }
+
+  private String setter(VariableElement field, List<ExecutableElement> methods)
+      throws UnsupportedTypeException {
+    String name = field.getSimpleName().toString();
+    if (!field.getModifiers().contains(Modifier.PRIVATE)
+        && !field.getModifiers().contains(Modifier.FINAL)) {
+      return "result." + name + " = ";
+    }
+    String setterName = "set" + capitalize(name);
+    for (ExecutableElement method : methods) {
+      if (method.getSimpleName().contentEquals(setterName)
+          && method.getParameters().size() == 1
+          && isAccessible(method)
+          && types().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+        return "result." + setterName + "(";
+      }
+    }
+    throw new UnsupportedTypeException("no accessible field or setter of '" + name + "'");
+  }
+
+  private ExecutableElement propertiesConstructor() {
+    for (ExecutableElement candidate : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (!isAccessible(candidate) || candidate.getParameters().size() != properties.size()) {
+        continue;
+      }
+      boolean matches = true;
+      for (VariableElement parameter : candidate.getParameters()) {
+        Property property = property(parameter.getSimpleName().toString());
+        if (property == null || !types().isSameType(property.field.asType(), parameter.asType())) {
+          matches = false;
+          break;
+        }
+      }
+      if (matches) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private boolean hasNoArgConstructor() {
+    for (ExecutableElement candidate : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+      if (isAccessible(candidate) && candidate.getParameters().isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Property property(String name) {
+    for (Property property : properties) {
+      if (property.name.equals(name)) {
+        return property;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns expression evaluating to a serializer of nullable values of the given type.
+   *
+   * @param typeMirror type
+   * @return java expression
+   * @throws UnsupportedTypeException if type is not supported
+   */
+  private String serializerOf(TypeMirror typeMirror) throws UnsupportedTypeException {
+    if (isByteArray(typeMirror)) {
+      return SUPPORT + ".BYTE_ARRAY";
+    }
+    if (typeMirror.getKind() != TypeKind.DECLARED) {
+      throw new UnsupportedTypeException("unsupported type " + typeMirror);
+    }
+    DeclaredType declaredType = (DeclaredType) typeMirror;
+    TypeElement element = (TypeElement) declaredType.asElement();
+    String name = element.getQualifiedName().toString();
+    String[] builtIn = BUILT_IN_TYPES.get(name);
+    if (builtIn != null) {
+      return SUPPORT + "." + builtIn[1];
+    }
+
+    List<? extends TypeMirror> arguments = declaredType.getTypeArguments();
+    switch (name) {
+      case "java.util.List":
+        return SUPPORT + ".list(" + serializerOf(arguments.get(0)) + ")";
+      case "java.util.Set":
+        return SUPPORT + ".set(" + serializerOf(arguments.get(0)) + ")";
+      case "java.util.Collection":
+        return SUPPORT + ".collection(" + serializerOf(arguments.get(0)) + ")";
+      case "java.util.Map":
+        return SUPPORT
+            + ".map("
+            + serializerOf(arguments.get(0))
+            + ", "
+            + serializerOf(arguments.get(1))
+            + ")";
+      default:
+        break;
+    }
+
+    if (!isAccessible(element)) {
+      throw new UnsupportedTypeException("type " + name + " is not accessible");
+    }
+    if (element.getKind() == ElementKind.ENUM) {
+      return SUPPORT + ".enumOf(" + name + ".class)";
+    }
+    if (name.startsWith("java.") || !processor.analyze(element)) {
+      throw new UnsupportedTypeException("unsupported type " + name);
+    }
+    references.add(name);
+    return SUPPORT + ".nullable(" + processor.serializerName(element) + ".INSTANCE)";
+  }
+
+  private String serializerField(TypeMirror typeMirror) throws UnsupportedTypeException {
+    String expression = serializerOf(typeMirror);
+    String field = serializerFields.get(expression);
+    if (field == null) {
+      field = "SERIALIZER_" + serializerFields.size();
+      serializerFields.put(expression, field);
+      serializerFieldTypes.put(field, typeMirror.toString());
+    }
+    return field;
+  }
+
+  private boolean isAccessible(Element element) {
+    PackageElement targetPackage = env.getElementUtils().getPackageOf(type);
+    boolean samePackage = env.getElementUtils().getPackageOf(element).equals(targetPackage);
+    for (Element current = element;
+        current.getKind() != ElementKind.PACKAGE;
+        current = current.getEnclosingElement()) {
+      Set<Modifier> modifiers = current.getModifiers();
+      if (modifiers.contains(Modifier.PRIVATE)
+          || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isByteArray(TypeMirror typeMirror) {
+    return typeMirror.getKind() == TypeKind.ARRAY
+        && ((ArrayType) typeMirror).getComponentType().getKind() == TypeKind.BYTE;
+  }
+
+  private static String qualifiedName(TypeMirror typeMirror) {
+    return ((TypeElement) ((DeclaredType) typeMirror).asElement()).getQualifiedName().toString();
+  }
+
+  private static String capitalize(String name) {
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private Types types() {
+    return env.getTypeUtils();
+  }
+
+  /**
+   * Renders java source of the serializer.
+   *
+   * @return source
+   */
+  String render() {
+    int packageEnd = serializerName.lastIndexOf('.');
+    String simpleName = serializerName.substring(packageEnd + 1);
+    StringBuilder source = new StringBuilder();
+    if (packageEnd > 0) {
+      source.append("package ").append(serializerName, 0, packageEnd).append(";\n\n");
+    }
+    source
+        .append("/** Serializer of {@link ")
+        .append(typeName)
+        .append("}, generated by SerializerProcessor. */\n")
+        .append("public final class ")
+        .append(simpleName)
+        .append(" implements ")
+        .append(SERIALIZER)
+        .append('<')
+        .append(typeName)
+        .append("> {\n\n");
+
+    source
+        .append("  public static final ")
+        .append(simpleName)
+        .append(" INSTANCE = new ")
+        .append(simpleName)
+        .append("();\n\n");
+    for (Map.Entry<String, String> entry : serializerFields.entrySet()) {
+      source
+          .append("  private static final ")
+          .append(SERIALIZER)
+          .append('<')
+          .append(serializerFieldTypes.get(entry.getValue()))
+          .append("> ")
+          .append(entry.getValue())
+          .append(" =\n      ")
+          .append(entry.getKey())
+          .append(";\n\n");
+    }
+    source.append("  private ").append(simpleName).append("() {}\n\n");
+
+    source
+        .append("  @Override\n  public void write(")
+        .append(BYTE_BUF)
+        .append(" buffer, ")
+        .append(typeName)
+        .append(" value) {\n");
+    for (Property property : properties) {
+      source
+          .append("    ")
+          .append(property.writePrefix)
+          .append(property.getter)
+          .append(");\n");
+    }
+    source.append("  }\n\n");
+
+    source
+        .append("  @Override\n  public ")
+        .append(typeName)
+        .append(" read(")
+        .append(BYTE_BUF)
+        .append(" buffer) {\n");
+    if (constructor != null) {
+      for (int i = 0; i < properties.size(); i++) {
+        Property property = properties.get(i);
+        source
+            .append("    ")
+            .append(property.field.asType())
+            .append(" p")
+            .append(i)
+            .append(" = ")
+            .append(property.readExpression)
+            .append(";\n");
+      }
+      source.append("    return new ").append(typeName).append('(');
+      List<? extends VariableElement> parameters = constructor.getParameters();
+      for (int i = 0; i < parameters.size(); i++) {
+        source
+            .append(i > 0 ? ", " : "")
+            .append('p')
+            .append(properties.indexOf(property(parameters.get(i).getSimpleName().toString())));
+      }
+      source.append(");\n");
+    } else {
+      source
+          .append("    ")
+          .append(typeName)
+          .append(" result = new ")
+          .append(typeName)
+          .append("();\n");
+      for (Property property : properties) {
+        source
+            .append("    ")
+            .append(property.setter)
+            .append(property.readExpression)
+            .append(property.setter.endsWith("(") ? ");\n" : ";\n");
+      }
+      source.append("    return result;\n");
+    }
+    source.append("  }\n}\n");
+    return source.toString();
+  }
+
+  private final class Property {
+
+    private final VariableElement field;
+    private final String name;
+    private final String getter;
+    private String setter;
+    private String writePrefix;
+    private String readExpression;
+
+    private Property(VariableElement field, String getter) {
+      this.field = field;
+      this.name = field.getSimpleName().toString();
+      this.getter = getter;
+    }
+
+    private void resolveCodec() throws UnsupportedTypeException {
+      String suffix = primitiveSuffix(field.asType());
+      if (suffix == null && isByteArray(field.asType())) {
+        suffix = "ByteArray";
+      }
+      if (suffix == null && field.asType().getKind() == TypeKind.DECLARED) {
+        String[] builtIn = BUILT_IN_TYPES.get(qualifiedName(field.asType()));
+        suffix = builtIn != null ? builtIn[0] : null;
+      }
+      if (suffix != null) {
+        writePrefix = SUPPORT + ".write" + suffix + "(buffer, ";
+        readExpression = SUPPORT + ".read" + suffix + "(buffer)";
+        return;
+      }
+      try {
+        String serializerField = serializerField(field.asType());
+        writePrefix = serializerField + ".write(buffer, ";
+        readExpression = serializerField + ".read(buffer)";
+      } catch (UnsupportedTypeException ex) {
+        throw new UnsupportedTypeException("property '" + name + "': " + ex.getMessage());
+      }
+    }
+
+    private String primitiveSuffix(TypeMirror typeMirror) {
+      switch (typeMirror.getKind()) {
+        case BOOLEAN:
+          return "Boolean";
+        case BYTE:
+          return "Byte";
+        case SHORT:
+          return "Short";
+        case CHAR:
+          return "Char";
+        case INT:
+          return "Int";
+        case LONG:
+          return "Long";
+        case FLOAT:
+          return "Float";
+        case DOUBLE:
+          return "Double";
+        default:
+          return null;
+      }
+    }
+  }
+
+  static final class UnsupportedTypeException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    UnsupportedTypeException(String message) {
+      super(message);
+    }
+  }
+}
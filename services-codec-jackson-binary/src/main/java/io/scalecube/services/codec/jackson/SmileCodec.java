@@ -0,0 +1,61 @@
+package io.scalecube.services.codec.jackson;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.netty.buffer.ByteBuf;
+import io.scalecube.services.codec.DataCodec;
+import io.scalecube.services.codec.HeadersCodec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Jackson codec of Smile binary JSON, configured the same way as {@link JacksonCodec}.
+ */
+public final class SmileCodec implements DataCodec, HeadersCodec {
+
+  public static final String CONTENT_TYPE = "application/x-jackson-smile";
+
+  private final JacksonCodec delegate =
+      new JacksonCodec(CONTENT_TYPE, JacksonCodec.initMapper(new SmileFactory()));
+
+  @Override
+  public String contentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void encode(OutputStream stream, Map<String, String> headers) throws IOException {
+    delegate.encode(stream, headers);
+  }
+
+  @Override
+  public void encode(OutputStream stream, Object value) throws IOException {
+    delegate.encode(stream, value);
+  }
+
+  @Override
+  public Map<String, String> decode(InputStream stream) throws IOException {
+    return delegate.decode(stream);
+  }
+
+  @Override
+  public Object decode(InputStream stream, Class<?> type) throws IOException {
+    return delegate.decode(stream, type);
+  }
+
+  @Override
+  public Map<String, String> decode(ByteBuf buffer) throws IOException {
+    return delegate.decode(buffer);
+  }
+
+  @Override
+  public Object decode(ByteBuf buffer, Class<?> type) throws IOException {
+    return delegate.decode(buffer, type);
+  }
+
+  @Override
+  public Map<String, String> decodeLazily(ByteBuf buffer) {
+    return delegate.decodeLazily(buffer);
+  }
+}
@@ -3,10 +3,17 @@ package io.scalecube.services.codec.jackson;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.scalecube.services.api.LazyHeaders;
 import io.scalecube.services.codec.DataCodec;
 import io.scalecube.services.codec.HeadersCodec;
 import java.io.IOException;
@@ -20,19 +27,32 @@ public final class JacksonCodec implements DataCodec, HeadersCodec {
 
   public static final String CONTENT_TYPE = "application/json";
 
+  private final String contentType;
   private final ObjectMapper mapper;
 
   public JacksonCodec() {
-    this(initMapper());
+    this(initMapper(null));
   }
 
   public JacksonCodec(ObjectMapper mapper) {
+    this(CONTENT_TYPE, mapper);
+  }
+
+  /**
+   * Constructor for codecs of other Jackson data formats (e.g. Smile, CBOR), which delegate to
+   * this codec.
+   *
+   * @param contentType content type of the data format
+   * @param mapper object mapper of the data format
+   */
+  JacksonCodec(String contentType, ObjectMapper mapper) {
+    this.contentType = contentType;
     this.mapper = mapper;
   }
 
   @Override
   public String contentType() {
-    return CONTENT_TYPE;
+    return contentType;
   }
 
   @Override
@@ -57,8 +77,44 @@ public final class JacksonCodec implements DataCodec, HeadersCodec {
     return mapper.readValue(stream, type);
   }
 
-  private static ObjectMapper initMapper() {
-    ObjectMapper mapper = new ObjectMapper();
+  @Override
+  public Map<String, String> decode(ByteBuf buffer) throws IOException {
+    return buffer.isReadable() ? readValue(buffer, HashMap.class) : Collections.emptyMap();
+  }
+
+  @Override
+  public Object decode(ByteBuf buffer, Class<?> type) throws IOException {
+    return readValue(buffer, type);
+  }
+
+  @Override
+  public Map<String, String> decodeLazily(ByteBuf buffer) {
+    return buffer.isReadable()
+        ? new JsonLazyHeaders(ByteBufUtil.getBytes(buffer))
+        : Collections.emptyMap();
+  }
+
+  private <T> T readValue(ByteBuf buffer, Class<T> type) throws IOException {
+    if (buffer.hasArray()) {
+      // Heap buffer: let parser read backing array in place
+      int length = buffer.readableBytes();
+      T value =
+          mapper.readValue(
+              buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), length, type);
+      buffer.skipBytes(length);
+      return value;
+    }
+    return mapper.readValue((InputStream) new ByteBufInputStream(buffer), type);
+  }
+
+  /**
+   * Creates object mapper with configuration used by this codec.
+   *
+   * @param factory factory of the data format, null stands for JSON
+   * @return object mapper
+   */
+  static ObjectMapper initMapper(JsonFactory factory) {
+    ObjectMapper mapper = new ObjectMapper(factory);
     mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
     mapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
@@ -69,4 +125,36 @@ public final class JacksonCodec implements DataCodec, HeadersCodec {
     mapper.registerModule(new JavaTimeModule());
     return mapper;
   }
+
+  private final class JsonLazyHeaders extends LazyHeaders {
+
+    private final byte[] bytes;
+
+    private JsonLazyHeaders(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    protected String decodeHeader(String name) throws IOException {
+      try (JsonParser parser = mapper.getFactory().createParser(bytes)) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+          return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          boolean matches = name.equals(parser.getCurrentName());
+          JsonToken token = parser.nextToken();
+          if (matches) {
+            return token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+          }
+          parser.skipChildren();
+        }
+        return null;
+      }
+    }
+
+    @Override
+    protected Map<String, String> decodeHeaders() throws IOException {
+      return mapper.readValue(bytes, HashMap.class);
+    }
+  }
 }
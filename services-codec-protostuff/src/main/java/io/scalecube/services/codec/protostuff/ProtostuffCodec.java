@@ -1,5 +1,7 @@
 package io.scalecube.services.codec.protostuff;
 
+import io.netty.buffer.ByteBuf;
+import io.protostuff.ByteBufferInput;
 import io.protostuff.ProtobufIOUtil;
 import io.protostuff.ProtostuffIOUtil;
 import io.protostuff.Schema;
@@ -58,4 +60,38 @@ public class ProtostuffCodec implements HeadersCodec, DataCodec {
     }
     return map;
   }
+
+  @Override
+  public Object decode(ByteBuf buffer, Class<?> type) throws IOException {
+    Schema schema = RuntimeSchema.getSchema(type);
+    Object result = schema.newMessage();
+    mergeFrom(buffer, result, schema, false);
+    return result;
+  }
+
+  @Override
+  public Map<String, String> decode(ByteBuf buffer) throws IOException {
+    HashMap<String, String> map = new HashMap<>();
+    mergeFrom(buffer, map, StringMapSchema.VALUE_STRING, true);
+    return map;
+  }
+
+  private static <T> void mergeFrom(
+      ByteBuf buffer, T message, Schema<T> schema, boolean protostuffMessage) throws IOException {
+    int length = buffer.readableBytes();
+    if (buffer.hasArray()) {
+      int offset = buffer.arrayOffset() + buffer.readerIndex();
+      if (protostuffMessage) {
+        ProtostuffIOUtil.mergeFrom(buffer.array(), offset, length, message, schema);
+      } else {
+        ProtobufIOUtil.mergeFrom(buffer.array(), offset, length, message, schema);
+      }
+    } else {
+      ByteBufferInput input =
+          new ByteBufferInput(buffer.nioBuffer(buffer.readerIndex(), length), protostuffMessage);
+      schema.mergeFrom(input, message);
+      input.checkLastTagWas(0);
+    }
+    buffer.skipBytes(length);
+  }
 }
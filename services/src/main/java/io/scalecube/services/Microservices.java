@@ -8,12 +8,15 @@ import io.scalecube.services.discovery.api.DiscoveryConfig;
 import io.scalecube.services.discovery.api.ServiceDiscovery;
 import io.scalecube.services.gateway.Gateway;
 import io.scalecube.services.gateway.GatewayConfig;
+import io.scalecube.services.methods.MethodSchedulers;
 import io.scalecube.services.methods.ServiceMethodRegistry;
 import io.scalecube.services.methods.ServiceMethodRegistryImpl;
 import io.scalecube.services.metrics.Metrics;
 import io.scalecube.services.registry.ServiceRegistryImpl;
 import io.scalecube.services.registry.api.ServiceRegistry;
 import io.scalecube.services.transport.api.ClientTransport;
+import io.scalecube.services.transport.api.DeadlineMetrics;
+import io.scalecube.services.transport.api.IdleStrategy;
 import io.scalecube.services.transport.api.ServerTransport;
 import io.scalecube.services.transport.api.ServiceTransport;
 import io.scalecube.services.transport.api.WorkerThreadChooser;
@@ -35,6 +38,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * The ScaleCube-Services module enables to provision and consuming microservices in a cluster.
@@ -120,7 +124,16 @@ public class Microservices {
 
     this.serviceProviders = new ArrayList<>(builder.serviceProviders);
     this.serviceRegistry = builder.serviceRegistry;
-    this.methodRegistry = builder.methodRegistry;
+    if (builder.methodRegistry != null && !builder.schedulers.isEmpty()) {
+      throw new IllegalArgumentException(
+          "Schedulers "
+              + builder.schedulers.keySet()
+              + " can't be applied to custom method registry, pass them to the registry instead");
+    }
+    this.methodRegistry =
+        Optional.ofNullable(builder.methodRegistry)
+            .orElseGet(
+                () -> new ServiceMethodRegistryImpl(new MethodSchedulers(builder.schedulers)));
 
     this.transportBootstrap = builder.transportBootstrap;
     this.gatewayBootstrap = builder.gatewayBootstrap;
@@ -143,6 +156,10 @@ public class Microservices {
               Call call =
                   new Call(clientTransport, methodRegistry, serviceRegistry).metrics(metrics);
 
+              if (metrics != null) {
+                registerDeadlineMetrics(transportBootstrap.serverTransport().deadlineMetrics());
+              }
+
               // invoke service providers and register services
               serviceProviders
                   .stream()
@@ -154,8 +171,11 @@ public class Microservices {
                 String serviceHost = serviceAddress.getHostString();
                 int servicePort = serviceAddress.getPort();
 
+                Map<String, String> endpointTags = new HashMap<>(tags);
+                endpointTags.putAll(transportBootstrap.serverTransport().tags());
+
                 ServiceEndpoint endpoint =
-                    ServiceScanner.scan(serviceInfos, id, serviceHost, servicePort, tags);
+                    ServiceScanner.scan(serviceInfos, id, serviceHost, servicePort, endpointTags);
 
                 serviceRegistry.registerService(endpoint);
                 discoveryConfig.endpoint(endpoint);
@@ -179,6 +199,11 @@ public class Microservices {
             });
   }
 
+  private void registerDeadlineMetrics(DeadlineMetrics deadlineMetrics) {
+    metrics.register(ServerTransport.class, "deadline.rejected", deadlineMetrics::rejected);
+    metrics.register(ServerTransport.class, "deadline.cancelled", deadlineMetrics::cancelled);
+  }
+
   private Mono<GatewayBootstrap> startGateway(Call call) {
     Executor workerThreadPool = transportBootstrap.workerThreadPool();
     boolean preferNative = transportBootstrap.transport().isNativeSupported();
@@ -199,7 +224,7 @@ public class Microservices {
             : ServiceInfo.fromServiceInstance(serviceInstance).build();
     serviceInfos.add(serviceInfo);
     // register service object
-    methodRegistry.registerService(serviceInfo.serviceInstance());
+    methodRegistry.registerService(serviceInfo.serviceInstance(), serviceInfo.scheduler());
   }
 
   public Metrics metrics() {
@@ -212,7 +237,8 @@ public class Microservices {
     private Map<String, String> tags = new HashMap<>();
     private List<Function<Call, Collection<Object>>> serviceProviders = new ArrayList<>();
     private ServiceRegistry serviceRegistry = new ServiceRegistryImpl();
-    private ServiceMethodRegistry methodRegistry = new ServiceMethodRegistryImpl();
+    private ServiceMethodRegistry methodRegistry;
+    private Map<String, Scheduler> schedulers = new HashMap<>();
     private ServiceDiscovery discovery = ServiceDiscovery.getDiscovery();
     private DiscoveryConfig.Builder discoveryConfig = DiscoveryConfig.builder();
     private ServiceTransportBootstrap transportBootstrap = new ServiceTransportBootstrap();
@@ -246,6 +272,20 @@ public class Microservices {
       return this;
     }
 
+    /**
+     * Registers named scheduler which service methods can be assigned to. Schedulers are applied to
+     * the default method registry, so they can't be combined with {@link
+     * #methodRegistry(ServiceMethodRegistry)}.
+     *
+     * @param name scheduler name
+     * @param scheduler scheduler
+     * @return builder
+     */
+    public Builder scheduler(String name, Scheduler scheduler) {
+      this.schedulers.put(name, scheduler);
+      return this;
+    }
+
     public Builder discovery(ServiceDiscovery discovery) {
       this.discovery = discovery;
       return this;
@@ -271,6 +311,16 @@ public class Microservices {
       return this;
     }
 
+    public Builder workerThreadChooser(WorkerThreadChooser workerThreadChooser) {
+      this.transportBootstrap.workerThreadChooser(workerThreadChooser);
+      return this;
+    }
+
+    public Builder idleStrategy(IdleStrategy idleStrategy) {
+      this.transportBootstrap.idleStrategy(idleStrategy);
+      return this;
+    }
+
     public Builder seeds(Address... seeds) {
       this.discoveryConfig.seeds(seeds);
       return this;
@@ -422,6 +472,7 @@ public class Microservices {
 
     private int listenPort; // config
     private WorkerThreadChooser workerThreadChooser; // config
+    private IdleStrategy idleStrategy; // config
     private ServiceTransport transport; // config or calculated
     private ClientTransport clientTransport; // calculated
     private ServerTransport serverTransport; // calculated
@@ -447,11 +498,25 @@ public class Microservices {
       return clientTransport;
     }
 
+    private ServerTransport serverTransport() {
+      return serverTransport;
+    }
+
     public ServiceTransportBootstrap numOfThreads(int numOfThreads) {
       this.numOfThreads = numOfThreads;
       return this;
     }
 
+    private ServiceTransportBootstrap workerThreadChooser(WorkerThreadChooser workerThreadChooser) {
+      this.workerThreadChooser = workerThreadChooser;
+      return this;
+    }
+
+    private ServiceTransportBootstrap idleStrategy(IdleStrategy idleStrategy) {
+      this.idleStrategy = idleStrategy;
+      return this;
+    }
+
     private Executor workerThreadPool() {
       return workerThreadPool;
     }
@@ -467,7 +532,9 @@ public class Microservices {
                 Optional.ofNullable(this.transport).orElseGet(ServiceTransport::getTransport);
 
             this.workerThreadPool =
-                transport.getWorkerThreadPool(numOfThreads, workerThreadChooser);
+                idleStrategy != null
+                    ? transport.getWorkerThreadPool(numOfThreads, workerThreadChooser, idleStrategy)
+                    : transport.getWorkerThreadPool(numOfThreads, workerThreadChooser);
             this.clientTransport = transport.getClientTransport(workerThreadPool);
             this.serverTransport = transport.getServerTransport(workerThreadPool);
 
@@ -13,7 +13,9 @@ import io.scalecube.services.annotations.ServiceMethod;
 import io.scalecube.services.api.Qualifier;
 import io.scalecube.services.api.ServiceMessage;
 import io.scalecube.services.methods.MethodInfo;
+import io.scalecube.services.methods.MethodSchedulers;
 import io.scalecube.services.routing.Router;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -63,11 +65,17 @@ public final class Reflect {
    * @return the generic type of the return value or object.
    */
   public static Class<?> parameterizedReturnType(Method method) {
+    if (isSynchronous(method) && !method.getReturnType().equals(Void.TYPE)) {
+      return MethodType.methodType(method.getReturnType()).wrap().returnType();
+    }
     Type type = method.getGenericReturnType();
     if (type instanceof ParameterizedType) {
+      Type typeArgument = ((ParameterizedType) type).getActualTypeArguments()[0];
+      if (typeArgument instanceof Class) {
+        return (Class<?>) typeArgument; // e.g. byte[], which Class.forName can't resolve by name
+      }
       try {
-        return Class.forName(
-            (((ParameterizedType) type).getActualTypeArguments()[0]).getTypeName());
+        return Class.forName(typeArgument.getTypeName());
       } catch (ClassNotFoundException e) {
         return Object.class;
       }
@@ -92,6 +100,10 @@ public final class Reflect {
         return method.getAnnotation(RequestType.class).value();
       } else {
         if (method.getGenericParameterTypes()[0] instanceof ParameterizedType) {
+          Type typeArgument = parameterizedRequestType(method);
+          if (typeArgument instanceof Class) {
+            return (Class<?>) typeArgument;
+          }
           try {
             return Class.forName(parameterizedRequestType(method).getTypeName());
           } catch (ClassNotFoundException e) {
@@ -147,7 +159,8 @@ public final class Reflect {
                             parameterizedReturnType(method1),
                             communicationMode(method1),
                             method1.getParameterCount(),
-                            requestType(method1)))));
+                            requestType(method1),
+                            isRawData(serviceInterface, method1)))));
   }
 
   /**
@@ -217,6 +230,57 @@ public final class Reflect {
     return methodAnnotation.value().length() > 0 ? methodAnnotation.value() : method.getName();
   }
 
+  /**
+   * Util function to get name of the scheduler which service method is invoked on. Scheduler of
+   * the method takes precedence over the given default one, which takes precedence over scheduler
+   * of the service. Synchronous methods which aren't assigned a scheduler are invoked on {@link
+   * MethodSchedulers#VIRTUAL} one, so that they never block the calling thread.
+   *
+   * @param serviceInterface with @Service annotation.
+   * @param method service method.
+   * @param defaultScheduler scheduler name set for the service instance, may be null.
+   * @return scheduler name or null if method is invoked on the calling thread.
+   */
+  public static String schedulerName(
+      Class<?> serviceInterface, Method method, String defaultScheduler) {
+    String methodScheduler = method.getAnnotation(ServiceMethod.class).scheduler();
+    if (methodScheduler.length() > 0) {
+      return methodScheduler;
+    }
+    if (defaultScheduler != null) {
+      return defaultScheduler;
+    }
+    String serviceScheduler = serviceInterface.getAnnotation(Service.class).scheduler();
+    if (serviceScheduler.length() > 0) {
+      return serviceScheduler;
+    }
+    return isSynchronous(method) ? MethodSchedulers.VIRTUAL : null;
+  }
+
+  /**
+   * Util function to check whether service method sends its raw data types by built-in raw codecs,
+   * i.e. either the method or its service opted in, see {@link ServiceMethod#rawData()}.
+   *
+   * @param serviceInterface service interface.
+   * @param method service method.
+   * @return true if raw data types of the method are sent by built-in raw codecs.
+   */
+  public static boolean isRawData(Class<?> serviceInterface, Method method) {
+    return method.getAnnotation(ServiceMethod.class).rawData()
+        || serviceInterface.getAnnotation(Service.class).rawData();
+  }
+
+  /**
+   * Util function to check whether service method is synchronous, i.e. returns a plain value or
+   * void rather than a publisher, so that it completes its work before returning.
+   *
+   * @param method service method.
+   * @return true if service method doesn't return a publisher.
+   */
+  public static boolean isSynchronous(Method method) {
+    return !Publisher.class.isAssignableFrom(method.getReturnType());
+  }
+
   public static String qualifier(Class<?> serviceInterface, Method method) {
     return Qualifier.asString(serviceName(serviceInterface), methodName(method));
   }
@@ -227,11 +291,8 @@ public final class Reflect {
    * @param method service method.
    */
   public static void validateMethodOrThrow(Method method) {
-    Class<?> returnType = method.getReturnType();
-    if (returnType.equals(Void.TYPE)) {
+    if (method.getReturnType().equals(Void.TYPE)) {
       return;
-    } else if (!Publisher.class.isAssignableFrom(returnType)) {
-      throw new UnsupportedOperationException("Service method return type can be Publisher only");
     }
     if (method.getParameterCount() > 1) {
       throw new UnsupportedOperationException("Service method can accept 0 or 1 parameters only");
@@ -248,7 +309,8 @@ public final class Reflect {
    *       first parameter is either of type return type {@link Flux} or {@link Publisher};
    *   <li>{@link CommunicationMode#REQUEST_STREAM} - service's return type is {@link Flux}, and
    *       parameter is not {@link Flux};
-   *   <li>{@link CommunicationMode#REQUEST_RESPONSE} - service's return type is Mono;
+   *   <li>{@link CommunicationMode#REQUEST_RESPONSE} - service's return type is Mono or a plain
+   *       value (see {@link #isSynchronous(Method)});
    *   <li>{@link CommunicationMode#FIRE_AND_FORGET} - service returns void;
    * </ul>
    *
@@ -260,12 +322,14 @@ public final class Reflect {
     Class<?> returnType = method.getReturnType();
     if (isRequestChannel(method)) {
       return REQUEST_CHANNEL;
+    } else if (returnType.isAssignableFrom(Void.TYPE)) {
+      return FIRE_AND_FORGET;
+    } else if (isSynchronous(method)) {
+      return REQUEST_RESPONSE; // checked ahead, as a plain Object is assignable from Flux too
     } else if (returnType.isAssignableFrom(Flux.class)) {
       return REQUEST_STREAM;
     } else if (returnType.isAssignableFrom(Mono.class)) {
       return REQUEST_RESPONSE;
-    } else if (returnType.isAssignableFrom(Void.TYPE)) {
-      return FIRE_AND_FORGET;
     } else {
       throw new IllegalArgumentException(
           "Service method is not supported (check return type or parameter type): " + method);
@@ -2,6 +2,7 @@ package io.scalecube.services;
 
 import static java.util.Objects.requireNonNull;
 
+import io.scalecube.services.api.Deadline;
 import io.scalecube.services.api.ServiceMessage;
 import io.scalecube.services.codec.ServiceMessageCodec;
 import io.scalecube.services.exceptions.ExceptionProcessor;
@@ -17,6 +18,7 @@ import io.scalecube.services.transport.api.ClientTransport;
 import io.scalecube.transport.Address;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -25,16 +27,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public class ServiceCall {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ServiceCall.class);
 
+  // timeout of synchronous proxy methods when the call has no timeout of its own
+  private static final Duration BLOCKING_TIMEOUT = Duration.ofSeconds(30);
+
   private final ClientTransport transport;
   private final ServiceMethodRegistry methodRegistry;
   private final ServiceRegistry serviceRegistry;
   private final Router router;
   private final Metrics metrics;
+  private final Duration timeout;
 
   private ServiceCall(Call call) {
     this.transport = call.transport;
@@ -42,6 +49,7 @@ public class ServiceCall {
     this.serviceRegistry = call.serviceRegistry;
     this.router = call.router;
     this.metrics = call.metrics;
+    this.timeout = call.timeout;
   }
 
   /**
@@ -52,6 +60,7 @@ public class ServiceCall {
 
     private Router router = Routers.getRouter(RoundRobinServiceRouter.class);
     private Metrics metrics;
+    private Duration timeout;
 
     private final ClientTransport transport;
     private final ServiceMethodRegistry methodRegistry;
@@ -91,13 +100,32 @@ public class ServiceCall {
       return this;
     }
 
+    /**
+     * Sets timeout of requests issued by {@link ServiceCall} and its proxies, which don't carry
+     * their own deadline (see {@link ServiceMessage#HEADER_TIMEOUT}). Request gets a deadline of
+     * the timeout from now, which is propagated to the serving side, so that it stops handling
+     * the request along with the caller giving up on it. Default is no timeout, except for
+     * synchronous methods of proxies, which wait for response for 30 seconds at most.
+     *
+     * @param timeout request timeout, {@code null} means no timeout
+     * @return this call
+     */
+    public Call timeout(Duration timeout) {
+      if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+        throw new IllegalArgumentException("Invalid request timeout: " + timeout);
+      }
+      this.timeout = timeout;
+      return this;
+    }
+
     public ServiceCall create() {
       return new ServiceCall(this);
     }
   }
 
   /**
-   * Issues fire-and-forget request.
+   * Issues request to service which returns no data and waits for the service to complete, see
+   * {@link #fireAndForget(ServiceMessage)} for request which gets no reply.
    *
    * @param request request message to send.
    * @return mono publisher completing normally or with error.
@@ -107,7 +135,8 @@ public class ServiceCall {
   }
 
   /**
-   * Issues fire-and-forget request.
+   * Given an address issues request to service which returns no data and waits for the service to
+   * complete.
    *
    * @param request request message to send.
    * @param address of remote target service to invoke.
@@ -117,6 +146,42 @@ public class ServiceCall {
     return requestOne(request, Void.class, address).then();
   }
 
+  /**
+   * Issues fire-and-forget request which, unlike {@link #oneWay(ServiceMessage)}, gets no reply
+   * from remote service. Errors raised by remote service are not propagated back to caller.
+   *
+   * @param request request message to send.
+   * @return mono publisher completing once request is sent, or invoked if service is local.
+   */
+  public Mono<Void> fireAndForget(ServiceMessage request) {
+    Deadline deadline = deadline(request);
+    ServiceMessage message = withDeadline(request, deadline);
+    String qualifier = message.qualifier();
+    if (methodRegistry.containsInvoker(qualifier)) { // local service.
+      return methodRegistry
+          .getInvoker(qualifier)
+          .invokeOne(message, ServiceMessageCodec::decodeData)
+          .transform(response -> withinDeadline(response, deadline, qualifier))
+          .onErrorMap(ExceptionProcessor::mapException)
+          .then();
+    } else { // remote service.
+      return addressLookup(message)
+          .flatMap(address -> transport.create(address).fireAndForget(message));
+    }
+  }
+
+  /**
+   * Given an address issues fire-and-forget request to a remote address.
+   *
+   * @param request request message to send.
+   * @param address of remote target service to invoke.
+   * @return mono publisher completing once request is sent.
+   */
+  public Mono<Void> fireAndForget(ServiceMessage request, Address address) {
+    requireNonNull(address, "fireAndForget address paramter is required and must not be null");
+    return transport.create(address).fireAndForget(withDeadline(request, deadline(request)));
+  }
+
   /**
    * Issues request-and-reply request.
    *
@@ -135,14 +200,18 @@ public class ServiceCall {
    * @return mono publisher completing with single response message or with error.
    */
   public Mono<ServiceMessage> requestOne(ServiceMessage request, Class<?> responseType) {
-    String qualifier = request.qualifier();
+    Deadline deadline = deadline(request);
+    ServiceMessage message = withDeadline(request, deadline);
+    String qualifier = message.qualifier();
     if (methodRegistry.containsInvoker(qualifier)) { // local service.
       return methodRegistry
-          .getInvoker(request.qualifier())
-          .invokeOne(request, ServiceMessageCodec::decodeData)
+          .getInvoker(qualifier)
+          .invokeOne(message, ServiceMessageCodec::decodeData)
+          .transform(response -> withinDeadline(response, deadline, qualifier))
           .onErrorMap(ExceptionProcessor::mapException);
     } else { // remote service.
-      return addressLookup(request).flatMap(address -> requestOne(request, responseType, address));
+      return addressLookup(message)
+          .flatMap(address -> requestOne(message, responseType, address, deadline));
     }
   }
 
@@ -157,10 +226,17 @@ public class ServiceCall {
   public Mono<ServiceMessage> requestOne(
       ServiceMessage request, Class<?> responseType, Address address) {
     requireNonNull(address, "requestOne address paramter is required and must not be null");
+    Deadline deadline = deadline(request);
+    return requestOne(withDeadline(request, deadline), responseType, address, deadline);
+  }
+
+  private Mono<ServiceMessage> requestOne(
+      ServiceMessage request, Class<?> responseType, Address address, Deadline deadline) {
     return transport
         .create(address)
         .requestResponse(request)
-        .map(message -> ServiceMessageCodec.decodeData(message, responseType));
+        .transform(response -> withinDeadline(response, deadline, request.qualifier()))
+        .map(response -> ServiceMessageCodec.decodeData(response, responseType));
   }
 
   /**
@@ -181,15 +257,18 @@ public class ServiceCall {
    * @return flux publisher of service responses.
    */
   public Flux<ServiceMessage> requestMany(ServiceMessage request, Class<?> responseType) {
-    String qualifier = request.qualifier();
+    Deadline deadline = deadline(request);
+    ServiceMessage message = withDeadline(request, deadline);
+    String qualifier = message.qualifier();
     if (methodRegistry.containsInvoker(qualifier)) { // local service.
       return methodRegistry
-          .getInvoker(request.qualifier())
-          .invokeMany(request, ServiceMessageCodec::decodeData)
+          .getInvoker(qualifier)
+          .invokeMany(message, ServiceMessageCodec::decodeData)
+          .transform(responses -> withinDeadline(responses, deadline, qualifier))
           .onErrorMap(ExceptionProcessor::mapException);
     } else { // remote service.
-      return addressLookup(request)
-          .flatMapMany(address -> requestMany(request, responseType, address));
+      return addressLookup(message)
+          .flatMapMany(address -> requestMany(message, responseType, address, deadline));
     }
   }
 
@@ -205,10 +284,17 @@ public class ServiceCall {
   public Flux<ServiceMessage> requestMany(
       ServiceMessage request, Class<?> responseType, Address address) {
     requireNonNull(address, "requestMany address paramter is required and must not be null");
+    Deadline deadline = deadline(request);
+    return requestMany(withDeadline(request, deadline), responseType, address, deadline);
+  }
+
+  private Flux<ServiceMessage> requestMany(
+      ServiceMessage request, Class<?> responseType, Address address, Deadline deadline) {
     return transport
         .create(address)
         .requestStream(request)
-        .map(message -> ServiceMessageCodec.decodeData(message, responseType));
+        .transform(responses -> withinDeadline(responses, deadline, request.qualifier()))
+        .map(response -> ServiceMessageCodec.decodeData(response, responseType));
   }
 
   /**
@@ -233,7 +319,8 @@ public class ServiceCall {
     return Flux.from(HeadAndTail.createFrom(publisher))
         .flatMap(
             pair -> {
-              ServiceMessage request = pair.head();
+              Deadline deadline = deadline(pair.head());
+              ServiceMessage request = withDeadline(pair.head(), deadline);
               String qualifier = request.qualifier();
               Flux<ServiceMessage> messages = Flux.from(pair.tail()).startWith(request);
 
@@ -241,6 +328,7 @@ public class ServiceCall {
                 return methodRegistry
                     .getInvoker(qualifier)
                     .invokeBidirectional(messages, ServiceMessageCodec::decodeData)
+                    .transform(responses -> withinDeadline(responses, deadline, qualifier))
                     .onErrorMap(ExceptionProcessor::mapException);
               } else { // remote service.
                 return addressLookup(request)
@@ -262,14 +350,27 @@ public class ServiceCall {
       Publisher<ServiceMessage> publisher, Class<?> responseType, Address address) {
     requireNonNull(
         address, "requestBidirectional address paramter is required and must not be null");
-    return transport
-        .create(address)
-        .requestChannel(publisher)
+    return Flux.from(HeadAndTail.createFrom(publisher))
+        .flatMap(
+            pair -> {
+              // deadline of the channel is carried by its first message
+              Deadline deadline = deadline(pair.head());
+              ServiceMessage request = withDeadline(pair.head(), deadline);
+              return transport
+                  .create(address)
+                  .requestChannel(Flux.from(pair.tail()).startWith(request))
+                  .transform(
+                      responses -> withinDeadline(responses, deadline, request.qualifier()));
+            })
         .map(message -> ServiceMessageCodec.decodeData(message, responseType));
   }
 
   /**
-   * Create proxy creates a java generic proxy instance by a given service interface.
+   * Create proxy creates a java generic proxy instance by a given service interface. Synchronous
+   * methods of the interface (see {@link Reflect#isSynchronous(Method)}) are blocking: a call
+   * waits for the response and returns its data, or throws its error. Waiting is bounded by the
+   * call timeout, and synchronous methods can't be called on non-blocking threads, e.g. event
+   * loops.
    *
    * @param serviceInterface Service Interface type.
    * @return newly created service proxy object.
@@ -300,9 +401,23 @@ public class ServiceCall {
 
               switch (methodInfo.communicationMode()) {
                 case FIRE_AND_FORGET:
-                  return serviceCall.oneWay(toServiceMessage(methodInfo, params));
+                  ServiceMessage request = toServiceMessage(methodInfo, params);
+                  serviceCall
+                      .fireAndForget(request)
+                      .subscribe(
+                          null,
+                          ex ->
+                              LOGGER.warn(
+                                  "Failed to send fire-and-forget request {}, cause: {}",
+                                  request,
+                                  ex.toString()));
+                  return null;
 
                 case REQUEST_RESPONSE:
+                  if (Reflect.isSynchronous(method)) {
+                    return serviceCall.requestBlocking(
+                        toServiceMessage(methodInfo, params), returnType, isServiceMessage, method);
+                  }
                   return serviceCall
                       .requestOne(toServiceMessage(methodInfo, params), returnType)
                       .transform(asMono(isServiceMessage));
@@ -329,6 +444,75 @@ public class ServiceCall {
             });
   }
 
+  /**
+   * Issues request-response call of synchronous proxy method and waits for the response. Waiting
+   * is bounded by deadline of the request, which is given the call timeout (or {@link
+   * #BLOCKING_TIMEOUT}) if it has none, as the response fails with {@link
+   * io.scalecube.services.exceptions.DeadlineExceededException} once the deadline passes.
+   *
+   * @param request request message
+   * @param responseType type of response data
+   * @param isServiceMessage whether the method returns response message rather than its data
+   * @param method proxy method
+   * @return response data or message, {@code null} if there is no response
+   * @throws IllegalStateException if called on a non-blocking thread (e.g. event loop), or if
+   *     response is empty while the method returns a primitive
+   */
+  private Object requestBlocking(
+      ServiceMessage request, Class<?> responseType, boolean isServiceMessage, Method method) {
+    if (Schedulers.isInNonBlockingThread()) {
+      throw new IllegalStateException(
+          "Synchronous method "
+              + method.getName()
+              + " would block non-blocking thread "
+              + Thread.currentThread().getName()
+              + ", call its service asynchronously instead");
+    }
+    ServiceMessage message =
+        withDeadline(request, deadline(request, timeout != null ? timeout : BLOCKING_TIMEOUT));
+    Object response =
+        requestOne(message, responseType).transform(asMono(isServiceMessage)).block();
+    if (response == null && method.getReturnType().isPrimitive()) {
+      throw new IllegalStateException(
+          "Synchronous method "
+              + method.getName()
+              + " returns "
+              + method.getReturnType()
+              + ", but service responded without data: "
+              + request.qualifier());
+    }
+    return response;
+  }
+
+  private Deadline deadline(ServiceMessage request) {
+    return deadline(request, timeout);
+  }
+
+  private static Deadline deadline(ServiceMessage request, Duration timeout) {
+    Deadline deadline = Deadline.of(request);
+    return deadline != null || timeout == null ? deadline : Deadline.after(timeout);
+  }
+
+  private static ServiceMessage withDeadline(ServiceMessage request, Deadline deadline) {
+    return deadline != null ? deadline.applyTo(request) : request;
+  }
+
+  private static Mono<ServiceMessage> withinDeadline(
+      Mono<ServiceMessage> responses, Deadline deadline, String qualifier) {
+    if (deadline == null) {
+      return responses;
+    }
+    return deadline.bound(responses, Mono.defer(() -> Mono.error(Deadline.exceeded(qualifier))));
+  }
+
+  private static Flux<ServiceMessage> withinDeadline(
+      Flux<ServiceMessage> responses, Deadline deadline, String qualifier) {
+    if (deadline == null) {
+      return responses;
+    }
+    return deadline.bound(responses, Mono.defer(() -> Mono.error(Deadline.exceeded(qualifier))));
+  }
+
   private Mono<Address> addressLookup(ServiceMessage request) {
     return router
         .route(serviceRegistry, request)
@@ -337,10 +521,15 @@ public class ServiceCall {
   }
 
   private static ServiceMessage toServiceMessage(MethodInfo methodInfo, Object... params) {
-    return ServiceMessage.builder()
-        .qualifier(methodInfo.serviceName(), methodInfo.methodName())
-        .data(methodInfo.parameterCount() != 0 ? params[0] : null)
-        .build();
+    Object data = methodInfo.parameterCount() != 0 ? params[0] : null;
+    ServiceMessage.Builder builder =
+        ServiceMessage.builder()
+            .qualifier(methodInfo.serviceName(), methodInfo.methodName())
+            .data(data);
+    if (methodInfo.requestDataFormat() != null && !(data instanceof ServiceMessage)) {
+      builder.dataFormat(methodInfo.requestDataFormat());
+    }
+    return builder.build();
   }
 
   private static Function<? super Flux<ServiceMessage>, ? extends Publisher<ServiceMessage>> asFlux(
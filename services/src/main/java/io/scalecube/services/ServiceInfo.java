@@ -1,5 +1,6 @@
 package io.scalecube.services;
 
+import io.scalecube.services.annotations.ServiceMethod;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -7,10 +8,17 @@ import java.util.Map;
 public class ServiceInfo {
   private final Object serviceInstance;
   private final Map<String, String> tags;
+  private final String scheduler;
 
+  /**
+   * Creates service info of the builder's settings.
+   *
+   * @param builder builder
+   */
   public ServiceInfo(Builder builder) {
     this.serviceInstance = builder.serviceInstance;
     this.tags = Collections.unmodifiableMap(new HashMap<>(builder.tags));
+    this.scheduler = builder.scheduler;
   }
 
   public static Builder fromServiceInstance(Object serviceInstance) {
@@ -25,9 +33,14 @@ public class ServiceInfo {
     return tags;
   }
 
+  public String scheduler() {
+    return scheduler;
+  }
+
   public static class Builder {
     private final Object serviceInstance;
     private final Map<String, String> tags = new HashMap<>();
+    private String scheduler;
 
     public Builder(Object serviceInstance) {
       this.serviceInstance = serviceInstance;
@@ -38,6 +51,19 @@ public class ServiceInfo {
       return this;
     }
 
+    /**
+     * Sets name of the scheduler which methods of the service instance are invoked on, unless a
+     * method declares its own one, see {@link ServiceMethod#scheduler()}. Overrides scheduler
+     * declared by the service interface.
+     *
+     * @param scheduler scheduler name, see {@link io.scalecube.services.methods.MethodSchedulers}
+     * @return this builder
+     */
+    public Builder scheduler(String scheduler) {
+      this.scheduler = scheduler;
+      return this;
+    }
+
     public ServiceInfo build() {
       return new ServiceInfo(this);
     }
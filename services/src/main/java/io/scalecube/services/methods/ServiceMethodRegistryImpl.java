@@ -3,14 +3,30 @@ package io.scalecube.services.methods;
 import io.scalecube.services.Reflect;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import reactor.core.scheduler.Scheduler;
 
 public final class ServiceMethodRegistryImpl implements ServiceMethodRegistry {
 
   private final ConcurrentMap<String, ServiceMethodInvoker> methodInvokers =
       new ConcurrentHashMap<>();
 
+  private final MethodSchedulers schedulers;
+
+  public ServiceMethodRegistryImpl() {
+    this(new MethodSchedulers());
+  }
+
+  public ServiceMethodRegistryImpl(MethodSchedulers schedulers) {
+    this.schedulers = schedulers;
+  }
+
   @Override
   public void registerService(Object serviceInstance) {
+    registerService(serviceInstance, null);
+  }
+
+  @Override
+  public void registerService(Object serviceInstance, String defaultScheduler) {
     Reflect.serviceInterfaces(serviceInstance)
         .forEach(
             serviceInterface -> {
@@ -28,12 +44,19 @@ public final class ServiceMethodRegistryImpl implements ServiceMethodRegistry {
                                 Reflect.parameterizedReturnType(method),
                                 Reflect.communicationMode(method),
                                 method.getParameterCount(),
-                                Reflect.requestType(method));
+                                Reflect.requestType(method),
+                                Reflect.isRawData(serviceInterface, method));
+
+                        String schedulerName =
+                            Reflect.schedulerName(serviceInterface, method, defaultScheduler);
+                        Scheduler scheduler =
+                            schedulerName != null ? schedulers.get(schedulerName) : null;
 
                         // register new service method invoker
                         methodInvokers.put(
                             methodInfo.qualifier(),
-                            new ServiceMethodInvoker(method, serviceInstance, methodInfo));
+                            new ServiceMethodInvoker(
+                                method, serviceInstance, methodInfo, scheduler));
                       });
             });
   }
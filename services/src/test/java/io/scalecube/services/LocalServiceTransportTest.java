@@ -0,0 +1,180 @@
+package io.scalecube.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.scalecube.services.annotations.Service;
+import io.scalecube.services.annotations.ServiceMethod;
+import io.scalecube.services.exceptions.ServiceException;
+import io.scalecube.services.sut.GreetingRequest;
+import io.scalecube.services.sut.GreetingResponse;
+import io.scalecube.services.sut.GreetingService;
+import io.scalecube.services.sut.GreetingServiceImpl;
+import io.scalecube.services.sut.QuoteService;
+import io.scalecube.services.sut.SimpleQuoteService;
+import io.scalecube.services.transport.local.LocalServiceTransport;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+public class LocalServiceTransportTest extends BaseTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private static Microservices gateway;
+  private static Microservices provider;
+  private static GreetingServiceImpl greetingService;
+
+  @BeforeAll
+  public static void setup() {
+    gateway = Microservices.builder().transport(new LocalServiceTransport()).startAwait();
+    greetingService = new GreetingServiceImpl();
+    provider =
+        Microservices.builder()
+            .seeds(gateway.discovery().address())
+            .transport(new LocalServiceTransport())
+            .services(greetingService, new SimpleQuoteService(), new EchoServiceImpl())
+            .startAwait();
+  }
+
+  @AfterAll
+  public static void tearDown() {
+    try {
+      gateway.shutdown().block();
+    } catch (Exception ex) {
+    }
+
+    try {
+      provider.shutdown().block();
+    } catch (Exception ex) {
+    }
+  }
+
+  @Test
+  public void test_local_transport_request_response() {
+    GreetingService service = gateway.call().create().api(GreetingService.class);
+
+    StepVerifier.create(service.greetingRequest(new GreetingRequest("joe")))
+        .expectNextMatches(response -> " hello to: joe".equals(response.getResult()))
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void test_local_transport_request_stream_with_backpressure() {
+    QuoteService service = gateway.call().create().api(QuoteService.class);
+
+    StepVerifier.create(service.snapshot(1000), 10)
+        .expectNextCount(10)
+        .thenRequest(990)
+        .expectNextCount(990)
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void test_local_transport_request_channel() {
+    GreetingService service = gateway.call().create().api(GreetingService.class);
+
+    Flux<GreetingResponse> responses =
+        service.bidiGreeting(Flux.just(new GreetingRequest("joe"), new GreetingRequest("dan")));
+
+    StepVerifier.create(responses.map(GreetingResponse::getResult))
+        .expectNext(" hello to: joe", " hello to: dan")
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void test_local_transport_request_channel_on_worker_thread() {
+    EchoService service = gateway.call().create().api(EchoService.class);
+
+    StepVerifier.create(service.threads(Flux.just("a", "b")))
+        .expectNextMatches(thread -> thread.startsWith("local-worker-"))
+        .expectNextMatches(thread -> thread.startsWith("local-worker-"))
+        .expectComplete()
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void test_local_transport_error() {
+    GreetingService service = gateway.call().create().api(GreetingService.class);
+
+    StepVerifier.create(service.failingRequest(new GreetingRequest("joe")))
+        .expectErrorMatches(
+            ex ->
+                ex instanceof ServiceException
+                    && "GreetingRequest{name='joe'}".equals(ex.getMessage()))
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void test_local_transport_fire_and_forget() throws Exception {
+    GreetingService service = gateway.call().create().api(GreetingService.class);
+    int notifications = greetingService.notifications();
+
+    service.notifyGreeting();
+
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (greetingService.notifications() == notifications && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(notifications + 1, greetingService.notifications());
+  }
+
+  @Test
+  public void test_local_transport_passes_objects_as_is() {
+    EchoService service = gateway.call().create().api(EchoService.class);
+    GreetingRequest request = new GreetingRequest("joe");
+
+    assertSame(request, service.echo(request).block(TIMEOUT));
+  }
+
+  @Test
+  public void test_local_transport_with_serialization() {
+    Microservices consumer =
+        Microservices.builder()
+            .seeds(gateway.discovery().address())
+            .transport(new LocalServiceTransport().serialization(true))
+            .startAwait();
+
+    try {
+      EchoService service = consumer.call().create().api(EchoService.class);
+      GreetingRequest request = new GreetingRequest("joe");
+
+      GreetingRequest response = service.echo(request).block(TIMEOUT);
+      assertNotSame(request, response);
+      assertEquals("joe", response.getName());
+    } finally {
+      consumer.shutdown().block(TIMEOUT);
+    }
+  }
+
+  @Service("echo")
+  public interface EchoService {
+
+    @ServiceMethod
+    Mono<GreetingRequest> echo(GreetingRequest request);
+
+    @ServiceMethod
+    Flux<String> threads(Flux<String> requests);
+  }
+
+  public static class EchoServiceImpl implements EchoService {
+
+    @Override
+    public Mono<GreetingRequest> echo(GreetingRequest request) {
+      return Mono.just(request);
+    }
+
+    @Override
+    public Flux<String> threads(Flux<String> requests) {
+      return Flux.defer(() -> requests.map(request -> Thread.currentThread().getName()));
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 
 import io.scalecube.services.discovery.api.ServiceDiscovery;
+import io.scalecube.services.methods.ServiceMethodRegistryImpl;
 import io.scalecube.services.transport.api.ClientTransport;
 import io.scalecube.services.transport.api.ServerTransport;
 import io.scalecube.services.transport.api.ServiceTransport;
@@ -16,6 +17,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
@@ -61,4 +63,16 @@ public class MicroservicesTest {
     Mockito.verify(serviceDiscovery, Mockito.atLeastOnce()).shutdown();
     Mockito.verify(serviceTransport, Mockito.atLeastOnce()).shutdown(Mockito.eq(workerExecutor));
   }
+
+  @Test
+  public void testSchedulersWithCustomMethodRegistryRejected() {
+    StepVerifier.create(
+            Microservices.builder()
+                .transport(serviceTransport)
+                .methodRegistry(new ServiceMethodRegistryImpl())
+                .scheduler("single", Schedulers.single())
+                .start())
+        .expectError(IllegalArgumentException.class)
+        .verify();
+  }
 }
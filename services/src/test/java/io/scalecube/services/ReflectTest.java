@@ -5,10 +5,16 @@ import static io.scalecube.services.CommunicationMode.REQUEST_CHANNEL;
 import static io.scalecube.services.CommunicationMode.REQUEST_RESPONSE;
 import static io.scalecube.services.CommunicationMode.REQUEST_STREAM;
 
+import io.scalecube.services.annotations.Service;
+import io.scalecube.services.annotations.ServiceMethod;
+import io.scalecube.services.codec.PrimitiveDataCodec;
+import io.scalecube.services.codec.TextPlainDataCodec;
+import io.scalecube.services.methods.MethodInfo;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -36,10 +42,51 @@ public class ReflectTest {
     return Stream.of(
         Arguments.of("fireAndForget", FIRE_AND_FORGET),
         Arguments.of("requestResponse", REQUEST_RESPONSE),
+        Arguments.of("requestResponseBlocking", REQUEST_RESPONSE),
         Arguments.of("requestStream", REQUEST_STREAM),
         Arguments.of("requestChannel", REQUEST_CHANNEL));
   }
 
+  @Test
+  public void testRawDataIsOptIn() {
+    MethodInfo defaultInfo = methodInfo(DefaultDataService.class, "echo");
+    Assertions.assertNull(defaultInfo.requestDataFormat());
+    Assertions.assertNull(defaultInfo.responseDataFormat());
+
+    MethodInfo methodInfo = methodInfo(DefaultDataService.class, "rawEcho");
+    Assertions.assertEquals(TextPlainDataCodec.CONTENT_TYPE, methodInfo.requestDataFormat());
+    Assertions.assertEquals(PrimitiveDataCodec.CONTENT_TYPE, methodInfo.responseDataFormat());
+
+    MethodInfo serviceInfo = methodInfo(RawDataService.class, "echo");
+    Assertions.assertEquals(TextPlainDataCodec.CONTENT_TYPE, serviceInfo.requestDataFormat());
+    Assertions.assertEquals(TextPlainDataCodec.CONTENT_TYPE, serviceInfo.responseDataFormat());
+  }
+
+  private static MethodInfo methodInfo(Class<?> serviceInterface, String methodName) {
+    return Reflect.methodsInfo(serviceInterface)
+        .entrySet()
+        .stream()
+        .filter(entry -> entry.getKey().getName().equals(methodName))
+        .findFirst()
+        .get()
+        .getValue();
+  }
+
+  @Service
+  private interface DefaultDataService {
+    @ServiceMethod
+    Mono<String> echo(String s);
+
+    @ServiceMethod(rawData = true)
+    Mono<Integer> rawEcho(String s);
+  }
+
+  @Service(rawData = true)
+  private interface RawDataService {
+    @ServiceMethod
+    Mono<String> echo(String s);
+  }
+
   private interface TestService {
     void fireAndForget(Integer i);
 
@@ -47,6 +94,8 @@ public class ReflectTest {
 
     Mono<Integer> requestResponse(Integer i);
 
+    int requestResponseBlocking(Integer i);
+
     Flux<Integer> requestStream(Integer i);
 
     Flux<Integer> requestChannel(Flux<Integer> i);
@@ -147,6 +147,22 @@ public class ServiceCallRemoteTest extends BaseTest {
     assertEquals(" hello to: joe", result.data());
   }
 
+  @Test
+  public void test_remote_async_greeting_repeated_on_same_connection() {
+    // first call defines qualifier id on the connection, next ones are sent with the id only
+    for (int i = 0; i < 3; i++) {
+      ServiceMessage result =
+          Mono.from(gateway.call().create().requestOne(GREETING_REQ, String.class))
+              .block(Duration.ofSeconds(TIMEOUT));
+
+      assertNotNull(result);
+      assertEquals(GREETING_REQ.qualifier(), result.qualifier());
+      assertEquals(GREETING_REQ.qualifier(), result.headers().get("q"));
+      assertEquals(1, result.headers().size());
+      assertEquals(" hello to: joe", result.data());
+    }
+  }
+
   @Test
   public void test_remote_async_greeting_return_GreetingResponse() {
 
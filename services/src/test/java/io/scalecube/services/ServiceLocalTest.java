@@ -1,9 +1,12 @@
 package io.scalecube.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.scalecube.services.annotations.Service;
+import io.scalecube.services.annotations.ServiceMethod;
 import io.scalecube.services.sut.GreetingRequest;
 import io.scalecube.services.sut.GreetingResponse;
 import io.scalecube.services.sut.GreetingService;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import reactor.core.publisher.EmitterProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 public class ServiceLocalTest extends BaseTest {
@@ -75,6 +79,40 @@ public class ServiceLocalTest extends BaseTest {
         .block(Duration.ofSeconds(1000));
   }
 
+  @Test
+  public void test_local_blocking_greeting() {
+    GreetingService service = createProxy(microservices);
+
+    // call the service, which blocks until the response.
+    GreetingResponse response = service.greetingBlocking(new GreetingRequest("joe"));
+
+    assertEquals(" hello to: joe", response.getResult());
+    // service method is invoked off the calling thread
+    assertNotEquals(Thread.currentThread().getName(), response.sender());
+  }
+
+  @Test
+  public void test_local_blocking_greeting_on_non_blocking_thread() {
+    GreetingService service = createProxy(microservices);
+
+    // blocking call on a non-blocking thread fails rather than stalls the thread
+    StepVerifier.create(
+            Mono.fromCallable(() -> service.greetingBlocking(new GreetingRequest("joe")))
+                .subscribeOn(Schedulers.parallel()))
+        .expectError(IllegalStateException.class)
+        .verify(timeout);
+  }
+
+  @Test
+  public void test_local_blocking_primitive_greeting_without_data() {
+    PrimitiveGreetingService service =
+        microservices.call().create().api(PrimitiveGreetingService.class);
+
+    // service responds without data, which can't be returned as a primitive
+    assertThrows(
+        IllegalStateException.class, () -> service.greetingVoid(new GreetingRequest("joe")));
+  }
+
   @Test
   public void test_local_no_params() {
     // get a proxy to the service api.
@@ -244,6 +282,13 @@ public class ServiceLocalTest extends BaseTest {
         .verify(Duration.ofSeconds(3));
   }
 
+  @Service(GreetingService.SERVICE_NAME)
+  public interface PrimitiveGreetingService {
+
+    @ServiceMethod
+    int greetingVoid(GreetingRequest request);
+  }
+
   private GreetingService createProxy(Microservices gateway) {
     return gateway
         .call()
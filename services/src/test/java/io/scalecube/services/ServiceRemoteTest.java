@@ -1,20 +1,43 @@
 package io.scalecube.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.codahale.metrics.MetricRegistry;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.BinaryHeadersCodec;
+import io.scalecube.services.codec.ServiceMessageCodec;
+import io.scalecube.services.exceptions.DeadlineExceededException;
 import io.scalecube.services.exceptions.InternalServiceException;
+import io.scalecube.services.methods.MethodSchedulers;
 import io.scalecube.services.sut.CoarseGrainedService;
 import io.scalecube.services.sut.CoarseGrainedServiceImpl;
 import io.scalecube.services.sut.GreetingRequest;
 import io.scalecube.services.sut.GreetingResponse;
 import io.scalecube.services.sut.GreetingService;
 import io.scalecube.services.sut.GreetingServiceImpl;
+import io.scalecube.services.transport.api.ClientChannel;
+import io.scalecube.services.transport.api.ClientTransport;
+import io.scalecube.services.transport.api.ServerTransport;
+import io.scalecube.services.transport.rsocket.RSocketServiceTransport;
+import io.scalecube.services.transport.rsocket.RSocketTransportConfig;
+import io.scalecube.transport.Address;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -22,6 +45,7 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.EmitterProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 public class ServiceRemoteTest extends BaseTest {
@@ -30,6 +54,7 @@ public class ServiceRemoteTest extends BaseTest {
 
   private static Microservices gateway;
   private static Microservices provider;
+  private static GreetingServiceImpl greetingService;
 
   @BeforeAll
   public static void setup() {
@@ -55,9 +80,10 @@ public class ServiceRemoteTest extends BaseTest {
   }
 
   private static Microservices serviceProvider() {
+    greetingService = new GreetingServiceImpl();
     return Microservices.builder()
         .seeds(gateway.discovery().address())
-        .services(new GreetingServiceImpl())
+        .services(greetingService)
         .startAwait();
   }
 
@@ -86,6 +112,16 @@ public class ServiceRemoteTest extends BaseTest {
     Thread.sleep(1000);
   }
 
+  @Test
+  public void test_remote_blocking_greeting() {
+    GreetingService service = createProxy();
+
+    // call the service, which blocks until the response.
+    GreetingResponse response = service.greetingBlocking(new GreetingRequest("joe"));
+
+    assertEquals(" hello to: joe", response.getResult());
+  }
+
   @Test
   public void test_remote_failing_void_greeting() throws Exception {
 
@@ -131,12 +167,21 @@ public class ServiceRemoteTest extends BaseTest {
   }
 
   @Test
-  public void test_remote_greeting_no_params_fire_and_forget() {
+  public void test_remote_greeting_no_params_fire_and_forget() throws Exception {
     // get a proxy to the service api.
     GreetingService service = createProxy();
 
+    int notifications = greetingService.notifications();
+
     // call the service.
     service.notifyGreeting();
+
+    // no reply is sent back, so wait for the service to get notified.
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (greetingService.notifications() == notifications && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(notifications + 1, greetingService.notifications());
   }
 
   @Test
@@ -355,10 +400,397 @@ public class ServiceRemoteTest extends BaseTest {
         .verify(TIMEOUT);
   }
 
+  @Test
+  public void test_remote_greeting_with_binary_headers() {
+    Microservices consumer =
+        Microservices.builder()
+            .seeds(gateway.discovery().address())
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder()
+                        .headersFormat(BinaryHeadersCodec.CONTENT_TYPE)
+                        .build()))
+            .startAwait();
+
+    try {
+      GreetingService service = consumer.call().create().api(GreetingService.class);
+
+      StepVerifier.create(service.greetingRequest(new GreetingRequest("joe")))
+          .expectNextMatches(response -> " hello to: joe".equals(response.getResult()))
+          .expectComplete()
+          .verify(TIMEOUT);
+    } finally {
+      consumer.shutdown().block(TIMEOUT);
+    }
+  }
+
+  @Test
+  public void test_remote_greeting_with_compression() {
+    Microservices consumer =
+        Microservices.builder()
+            .seeds(gateway.discovery().address())
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder().compressionThreshold(0).build()))
+            .startAwait();
+
+    try {
+      GreetingService service = consumer.call().create().api(GreetingService.class);
+      String name = String.join("", Collections.nCopies(1000, "joe"));
+
+      StepVerifier.create(service.greetingRequest(new GreetingRequest(name)))
+          .expectNextMatches(response -> (" hello to: " + name).equals(response.getResult()))
+          .expectComplete()
+          .verify(TIMEOUT);
+    } finally {
+      consumer.shutdown().block(TIMEOUT);
+    }
+  }
+
+  @Test
+  public void test_remote_greeting_with_fragmentation() {
+    Microservices fragmentingProvider =
+        Microservices.builder()
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder().fragmentSize(1024).build()))
+            .services(new GreetingServiceImpl())
+            .startAwait();
+    Microservices consumer =
+        Microservices.builder()
+            .seeds(fragmentingProvider.discovery().address())
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder().fragmentSize(1024).build()))
+            .startAwait();
+    // doesn't reassemble fragments, so it sees only first fragment of the response
+    Microservices nonFragmentingConsumer =
+        Microservices.builder().seeds(fragmentingProvider.discovery().address()).startAwait();
+
+    try {
+      String name = String.join("", Collections.nCopies(100_000, "joe"));
+      GreetingRequest request = new GreetingRequest(name);
+
+      GreetingService service = consumer.call().create().api(GreetingService.class);
+      StepVerifier.create(service.greetingRequest(request))
+          .expectNextMatches(response -> (" hello to: " + name).equals(response.getResult()))
+          .expectComplete()
+          .verify(TIMEOUT);
+
+      GreetingService nonFragmentingService =
+          nonFragmentingConsumer.call().create().api(GreetingService.class);
+      StepVerifier.create(
+              nonFragmentingService
+                  .greetingRequest(request)
+                  .map(response -> (" hello to: " + name).equals(response.getResult()))
+                  .onErrorReturn(false))
+          .expectNext(false)
+          .expectComplete()
+          .verify(TIMEOUT);
+    } finally {
+      Mono.when(
+              consumer.shutdown(),
+              nonFragmentingConsumer.shutdown(),
+              fragmentingProvider.shutdown())
+          .block(TIMEOUT);
+    }
+  }
+
+  @Test
+  public void test_remote_greetings_over_shared_memory() {
+    Microservices sharedMemoryProvider =
+        Microservices.builder()
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder().sharedMemory(1 << 16).build()))
+            .services(new GreetingServiceImpl())
+            .startAwait();
+    Microservices consumer =
+        Microservices.builder()
+            .seeds(sharedMemoryProvider.discovery().address())
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder().sharedMemory(1 << 16).build()))
+            .startAwait();
+
+    try {
+      GreetingService service = consumer.call().create().api(GreetingService.class);
+
+      // response is received by I/O thread of shared memory connection, not by TCP event loop
+      StepVerifier.create(
+              service
+                  .greetingRequest(new GreetingRequest("joe"))
+                  .map(response -> Thread.currentThread().getName()))
+          .expectNextMatches(threadName -> threadName.startsWith("rsocket-shm-"))
+          .expectComplete()
+          .verify(TIMEOUT);
+
+      // names of different lengths make records wrap around the end of rings
+      StepVerifier.create(
+              Flux.range(0, 500)
+                  .concatMap(
+                      i -> {
+                        String name = String.join("", Collections.nCopies(i * 7, "joe"));
+                        return service
+                            .greetingRequest(new GreetingRequest(name))
+                            .map(response -> (" hello to: " + name).equals(response.getResult()));
+                      })
+                  .filter(Boolean::booleanValue))
+          .expectNextCount(500)
+          .expectComplete()
+          .verify(TIMEOUT);
+
+      Flux<GreetingResponse> responses =
+          service.bidiGreeting(Flux.range(0, 100).map(i -> new GreetingRequest("joe" + i)));
+      StepVerifier.create(responses).expectNextCount(100).expectComplete().verify(TIMEOUT);
+    } finally {
+      Mono.when(consumer.shutdown(), sharedMemoryProvider.shutdown()).block(TIMEOUT);
+    }
+  }
+
+  @Test
+  public void test_remote_greeting_falls_back_from_shared_memory_to_tcp() {
+    // provider of this test doesn't accept shared memory connections
+    Microservices consumer =
+        Microservices.builder()
+            .seeds(gateway.discovery().address())
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder().sharedMemory(1 << 16).build()))
+            .startAwait();
+
+    try {
+      GreetingService service = consumer.call().create().api(GreetingService.class);
+
+      StepVerifier.create(service.greetingRequest(new GreetingRequest("joe")))
+          .expectNextMatches(response -> " hello to: joe".equals(response.getResult()))
+          .expectComplete()
+          .verify(TIMEOUT);
+    } finally {
+      consumer.shutdown().block(TIMEOUT);
+    }
+  }
+
+  @Test
+  public void test_remote_greeting_handled_on_calling_worker_thread() throws Exception {
+    RSocketServiceTransport transport =
+        new RSocketServiceTransport(RSocketTransportConfig.builder().threadPerCore(true).build());
+    EventLoopGroup workerThreadPool = (EventLoopGroup) transport.getWorkerThreadPool(2, null);
+    ClientTransport clientTransport = transport.getClientTransport(workerThreadPool);
+    ServiceMessage request =
+        ServiceMessage.builder()
+            .qualifier(GreetingService.SERVICE_NAME, "greeting")
+            .data("joe")
+            .build();
+    InetSocketAddress serviceAddress = provider.serviceAddress();
+    Address address = Address.create(serviceAddress.getHostString(), serviceAddress.getPort());
+
+    try {
+      for (EventExecutor workerThread : workerThreadPool) {
+        Thread callingThread = workerThread.submit(Thread::currentThread).get();
+        Mono<Thread> respondingThread =
+            Mono.defer(() -> clientTransport.create(address).requestResponse(request))
+                .map(response -> Thread.currentThread())
+                .subscribeOn(Schedulers.fromExecutor(workerThread));
+
+        // first call opens connection of the worker thread, next one reuses it
+        StepVerifier.create(Flux.range(0, 2).concatMap(i -> respondingThread))
+            .expectNext(callingThread, callingThread)
+            .expectComplete()
+            .verify(TIMEOUT);
+      }
+    } finally {
+      transport.shutdown(workerThreadPool).block(TIMEOUT);
+    }
+  }
+
+  @Test
+  public void test_remote_greetings_over_domain_socket() throws Exception {
+    assumeTrue(new RSocketServiceTransport().isNativeSupported(), "Epoll is not available");
+
+    Microservices domainSocketProvider =
+        Microservices.builder()
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder().domainSocket(true).build()))
+            .services(new GreetingServiceImpl())
+            .startAwait();
+    Microservices consumer =
+        Microservices.builder()
+            .seeds(domainSocketProvider.discovery().address())
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder().domainSocket(true).build()))
+            .startAwait();
+
+    File socketFile;
+    try {
+      ServiceEndpoint endpoint = consumer.serviceRegistry().listServiceEndpoints().get(0);
+      socketFile = new File(endpoint.tags().get(RSocketServiceTransport.DOMAIN_SOCKET_TAG));
+      assertTrue(socketFile.exists(), "Domain socket file " + socketFile + " doesn't exist");
+
+      GreetingService service = consumer.call().create().api(GreetingService.class);
+
+      StepVerifier.create(service.greetingRequest(new GreetingRequest("joe")))
+          .expectNextMatches(response -> " hello to: joe".equals(response.getResult()))
+          .expectComplete()
+          .verify(TIMEOUT);
+      assertTrue(connectedUnixSockets(socketFile) > 0, "Connection is not over domain socket");
+
+      Flux<GreetingResponse> responses =
+          service.bidiGreeting(Flux.range(0, 100).map(i -> new GreetingRequest("joe" + i)));
+      StepVerifier.create(responses).expectNextCount(100).expectComplete().verify(TIMEOUT);
+    } finally {
+      Mono.when(consumer.shutdown(), domainSocketProvider.shutdown()).block(TIMEOUT);
+    }
+    assertFalse(socketFile.exists(), "Domain socket file " + socketFile + " is not deleted");
+  }
+
+  @Test
+  public void test_remote_greeting_falls_back_from_domain_socket_to_tcp() {
+    assumeTrue(new RSocketServiceTransport().isNativeSupported(), "Epoll is not available");
+
+    // provider of this test doesn't listen on domain socket
+    Microservices consumer =
+        Microservices.builder()
+            .seeds(gateway.discovery().address())
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder().domainSocket(true).build()))
+            .startAwait();
+
+    try {
+      GreetingService service = consumer.call().create().api(GreetingService.class);
+
+      StepVerifier.create(service.greetingRequest(new GreetingRequest("joe")))
+          .expectNextMatches(response -> " hello to: joe".equals(response.getResult()))
+          .expectComplete()
+          .verify(TIMEOUT);
+    } finally {
+      consumer.shutdown().block(TIMEOUT);
+    }
+  }
+
+  @Test
+  public void test_remote_greeting_invoked_on_blocking_scheduler() {
+    Microservices blockingProvider =
+        Microservices.builder()
+            .transport(
+                new RSocketServiceTransport(
+                    RSocketTransportConfig.builder()
+                        .blockedEventLoopThreshold(Duration.ofMillis(100))
+                        .build()))
+            .services(
+                ServiceInfo.fromServiceInstance(new GreetingServiceImpl())
+                    .scheduler(MethodSchedulers.BLOCKING)
+                    .build())
+            .startAwait();
+    Microservices consumer =
+        Microservices.builder().seeds(blockingProvider.discovery().address()).startAwait();
+
+    try {
+      GreetingService service = consumer.call().create().api(GreetingService.class);
+
+      StepVerifier.create(service.currentThreadName())
+          .expectNextMatches(threadName -> threadName.startsWith("sc-blocking-"))
+          .expectComplete()
+          .verify(TIMEOUT);
+    } finally {
+      Mono.when(consumer.shutdown(), blockingProvider.shutdown()).block(TIMEOUT);
+    }
+  }
+
+  @Test
+  public void test_remote_greeting_request_exceeds_proxy_timeout() {
+    GreetingService service =
+        gateway.call().timeout(Duration.ofMillis(500)).create().api(GreetingService.class);
+
+    StepVerifier.create(
+            service.greetingRequestTimeout(new GreetingRequest("joe", Duration.ofSeconds(3))))
+        .expectError(DeadlineExceededException.class)
+        .verify(TIMEOUT);
+  }
+
+  @Test
+  public void test_remote_requests_dropped_by_deadline() {
+    MetricRegistry metricRegistry = new MetricRegistry();
+    Microservices deadlineProvider =
+        Microservices.builder()
+            .metrics(metricRegistry)
+            .services(new GreetingServiceImpl())
+            .startAwait();
+    RSocketServiceTransport transport = new RSocketServiceTransport();
+    EventLoopGroup workerThreadPool = (EventLoopGroup) transport.getWorkerThreadPool(1, null);
+    InetSocketAddress serviceAddress = deadlineProvider.serviceAddress();
+    ClientChannel channel =
+        transport
+            .getClientTransport(workerThreadPool)
+            .create(Address.create(serviceAddress.getHostString(), serviceAddress.getPort()));
+
+    try {
+      // request which has already expired isn't handled at all
+      ServiceMessage expiredRequest =
+          ServiceMessage.builder()
+              .qualifier(GreetingService.SERVICE_NAME, "greeting")
+              .data("joe")
+              .timeout(Duration.ZERO)
+              .build();
+      StepVerifier.create(
+              channel
+                  .requestResponse(expiredRequest)
+                  .map(response -> ServiceMessageCodec.decodeData(response, String.class)))
+          .expectErrorSatisfies(
+              error -> {
+                assertEquals(DeadlineExceededException.class, error.getClass());
+                assertEquals(
+                    "Deadline of request has passed: " + expiredRequest.qualifier(),
+                    error.getMessage());
+              })
+          .verify(TIMEOUT);
+
+      // request which expires while handled is cancelled at the deadline
+      ServiceMessage expiringRequest =
+          ServiceMessage.builder()
+              .qualifier(GreetingService.SERVICE_NAME, "greetingRequestTimeout")
+              .data(new GreetingRequest("joe", Duration.ofSeconds(3)))
+              .timeout(Duration.ofMillis(500))
+              .build();
+      StepVerifier.create(
+              channel
+                  .requestResponse(expiringRequest)
+                  .map(response -> ServiceMessageCodec.decodeData(response, String.class)))
+          .expectError(DeadlineExceededException.class)
+          .verify(Duration.ofSeconds(2));
+
+      String metricPrefix = ServerTransport.class.getName() + ".deadline.";
+      assertEquals(1L, metricRegistry.getGauges().get(metricPrefix + "rejected").getValue());
+      assertEquals(1L, metricRegistry.getGauges().get(metricPrefix + "cancelled").getValue());
+    } finally {
+      transport.shutdown(workerThreadPool).block(TIMEOUT);
+      deadlineProvider.shutdown().block(TIMEOUT);
+    }
+  }
+
   private GreetingService createProxy() {
     return gateway
         .call()
         .create()
         .api(GreetingService.class); // create proxy for GreetingService API
   }
+
+  /**
+   * Counts connected unix domain sockets bound to the given file, i.e. connections accepted by
+   * server listening on it. Epoll, which domain sockets require, implies Linux and its procfs.
+   */
+  private static long connectedUnixSockets(File socketFile) throws IOException {
+    String path = socketFile.getAbsolutePath();
+    try (Stream<String> lines = Files.lines(Paths.get("/proc/net/unix"))) {
+      // columns: Num RefCount Protocol Flags Type St Inode Path, St 03 stands for connected
+      return lines
+          .map(line -> line.trim().split("\\s+"))
+          .filter(columns -> columns.length == 8 && path.equals(columns[7]))
+          .filter(columns -> "03".equals(columns[5]))
+          .count();
+    }
+  }
 }
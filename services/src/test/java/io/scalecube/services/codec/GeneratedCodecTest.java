@@ -0,0 +1,246 @@
+package io.scalecube.services.codec;
+
+import static io.netty.buffer.Unpooled.wrappedBuffer;
+import static io.scalecube.services.codec.generated.SerializerSupport.STRING;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.rsocket.Payload;
+import io.rsocket.util.ByteBufPayload;
+import io.scalecube.services.BaseTest;
+import io.scalecube.services.annotations.ResponseType;
+import io.scalecube.services.annotations.Service;
+import io.scalecube.services.annotations.ServiceMethod;
+import io.scalecube.services.api.ErrorData;
+import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.generated.GeneratedCodec;
+import io.scalecube.services.codec.generated.SerializerSupport;
+import io.scalecube.services.sut.GreetingRequest;
+import io.scalecube.services.sut.GreetingResponse;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class GeneratedCodecTest extends BaseTest {
+
+  private final GeneratedCodec codec = new GeneratedCodec();
+
+  @Test
+  void encodeAndDecodeMutableType() throws IOException {
+    Order order = new Order();
+    order.id = "order-1";
+    order.side = Side.SELL;
+    order.quantity = -42;
+    order.price = new BigDecimal("12345.6789");
+    order.createdAt = Instant.ofEpochSecond(1_500_000_000L, 123);
+    order.clientId = UUID.randomUUID();
+    order.items = Arrays.asList(new Item("sku-1", 1), null, new Item("sku-2", Integer.MAX_VALUE));
+    order.attributes = new LinkedHashMap<>();
+    order.attributes.put("a", 1L);
+    order.attributes.put("b", null);
+    order.tags = Collections.singleton("tag");
+    order.signature = new byte[] {1, 2, 3};
+    order.setRatio(0.5);
+
+    Order actual = (Order) decode(encode(order), Order.class);
+
+    assertEquals(order.id, actual.id);
+    assertEquals(order.side, actual.side);
+    assertEquals(order.quantity, actual.quantity);
+    assertEquals(order.price, actual.price);
+    assertEquals(order.createdAt, actual.createdAt);
+    assertEquals(order.clientId, actual.clientId);
+    assertNull(actual.urgent);
+    assertEquals(order.items, actual.items);
+    assertEquals(order.attributes, actual.attributes);
+    assertEquals(order.tags, actual.tags);
+    assertArrayEquals(order.signature, actual.signature);
+    assertNull(actual.primaryItem);
+    assertEquals(order.getRatio(), actual.getRatio());
+  }
+
+  @Test
+  void encodeAndDecodeImmutableType() throws IOException {
+    GreetingRequest request = new GreetingRequest("joe", Duration.ofMillis(1500));
+    GreetingResponse response = new GreetingResponse("hello", "joe");
+
+    GreetingRequest actualRequest =
+        (GreetingRequest) decode(encode(request), GreetingRequest.class);
+    GreetingResponse actualResponse =
+        (GreetingResponse) decode(encode(response), GreetingResponse.class);
+
+    assertEquals(request.getName(), actualRequest.getName());
+    assertEquals(request.getDuration(), actualRequest.getDuration());
+    assertEquals(response.getResult(), actualResponse.getResult());
+    assertEquals(response.sender(), actualResponse.sender());
+  }
+
+  @Test
+  void encodeAndDecodeResponseTypeAndBuiltInTypes() throws IOException {
+    Receipt receipt = new Receipt();
+    receipt.orderId = "order-1";
+    ErrorData errorData = new ErrorData(500, "error");
+
+    Receipt actualReceipt = (Receipt) decode(encode(receipt), Receipt.class);
+    ErrorData actualErrorData = (ErrorData) decode(encode(errorData), ErrorData.class);
+
+    assertEquals(receipt.orderId, actualReceipt.orderId);
+    assertEquals("text", decode(encode("text"), String.class));
+    assertEquals(1.5f, decode(encode(1.5f), Float.class));
+    assertEquals((short) -7, decode(encode((short) -7), Short.class));
+    assertEquals((byte) 7, decode(encode((byte) 7), Byte.class));
+    assertEquals('x', decode(encode('x'), Character.class));
+    assertEquals(errorData.getErrorCode(), actualErrorData.getErrorCode());
+    assertEquals(errorData.getErrorMessage(), actualErrorData.getErrorMessage());
+  }
+
+  @Test
+  void encodeAndDecodeServiceMessage() {
+    ServiceMessageCodec messageCodec =
+        new ServiceMessageCodec(HeadersCodec.getInstance(BinaryHeadersCodec.CONTENT_TYPE));
+    ServiceMessage message =
+        ServiceMessage.builder()
+            .qualifier("orders/place")
+            .dataFormat(GeneratedCodec.CONTENT_TYPE)
+            .data(new Item("sku", 3))
+            .build();
+
+    Payload payload = messageCodec.encodeAndTransform(message, ByteBufPayload::create);
+    ServiceMessage actual =
+        ServiceMessageCodec.decodeData(
+            messageCodec.decode(payload.sliceData(), payload.sliceMetadata()), Item.class);
+
+    assertEquals(message.headers(), actual.headers());
+    assertEquals(message.data(), actual.data());
+  }
+
+  @Test
+  void failsOnTypeWithoutSerializer() {
+    assertThrows(IOException.class, () -> encode(new Object()));
+    assertThrows(IOException.class, () -> decode(Unpooled.EMPTY_BUFFER, Object.class));
+  }
+
+  @Test
+  void rejectsLengthBeyondReadableBytesBeforeAllocating() {
+    // varint of max int length followed by a single byte
+    byte[] malformed = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0x01};
+
+    assertThrows(IOException.class, () -> codec.decode(wrappedBuffer(malformed), String.class));
+    assertThrows(IOException.class, () -> codec.decode(wrappedBuffer(malformed), byte[].class));
+    assertThrows(
+        IllegalStateException.class,
+        () -> SerializerSupport.list(STRING).read(wrappedBuffer(malformed)));
+    assertThrows(
+        IllegalStateException.class,
+        () -> SerializerSupport.map(STRING, STRING).read(wrappedBuffer(malformed)));
+  }
+
+  private ByteBuf encode(Object value) throws IOException {
+    ByteBuf buffer = Unpooled.buffer();
+    codec.encode(buffer, value);
+    return buffer;
+  }
+
+  private Object decode(ByteBuf buffer, Class<?> type) throws IOException {
+    Object value = codec.decode(buffer, type);
+    assertEquals(0, buffer.readableBytes());
+    return value;
+  }
+
+  @Service
+  interface OrderService {
+
+    @ServiceMethod
+    Mono<Receipt> place(Order order);
+
+    @ServiceMethod
+    Flux<Item> items(Mono<String> orderId);
+
+    @ServiceMethod
+    @ResponseType(Receipt.class)
+    Mono<ServiceMessage> receipt(ServiceMessage request);
+  }
+
+  enum Side {
+    BUY,
+    SELL
+  }
+
+  static class Order {
+    String id;
+    Side side;
+    int quantity;
+    BigDecimal price;
+    Instant createdAt;
+    UUID clientId;
+    Boolean urgent;
+    List<Item> items;
+    Map<String, Long> attributes;
+    Set<String> tags;
+    byte[] signature;
+    Item primaryItem;
+    private double ratio;
+
+    double getRatio() {
+      return ratio;
+    }
+
+    void setRatio(double ratio) {
+      this.ratio = ratio;
+    }
+  }
+
+  static final class Item {
+    private final String sku;
+    private final int count;
+
+    Item(String sku, int count) {
+      this.sku = sku;
+      this.count = count;
+    }
+
+    String getSku() {
+      return sku;
+    }
+
+    int getCount() {
+      return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Item that = (Item) o;
+      return count == that.count && sku.equals(that.sku);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * sku.hashCode() + count;
+    }
+  }
+
+  static class Receipt {
+    String orderId;
+  }
+}
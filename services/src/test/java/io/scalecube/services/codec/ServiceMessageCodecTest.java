@@ -2,20 +2,34 @@ package io.scalecube.services.codec;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.rsocket.Payload;
 import io.rsocket.util.ByteBufPayload;
 import io.scalecube.services.BaseTest;
+import io.scalecube.services.api.Deadline;
 import io.scalecube.services.api.ServiceMessage;
+import io.scalecube.services.codec.jackson.CborCodec;
 import io.scalecube.services.codec.jackson.JacksonCodec;
+import io.scalecube.services.codec.jackson.SmileCodec;
 import io.scalecube.services.codec.protostuff.ProtostuffCodec;
+import io.scalecube.services.exceptions.BadRequestException;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -24,7 +38,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 
 class ServiceMessageCodecTest extends BaseTest {
 
-  @ParameterizedTest(name = "{0}")
+  @ParameterizedTest(name = "{0}, headers: {1}")
   @ArgumentsSource(MessageCodecProvider.class)
   void encodeAndDecode(String contentType, ServiceMessageCodec codec) {
     ServiceMessage message =
@@ -55,6 +69,154 @@ class ServiceMessageCodecTest extends BaseTest {
         () -> assertEquals(message.data(), actual.data()));
   }
 
+  @ParameterizedTest(name = "{0}, headers: {1}")
+  @ArgumentsSource(MessageCodecProvider.class)
+  void encodeAndDecodeCompressed(String contentType, ServiceMessageCodec codec) {
+    ServiceMessageCodec compressingCodec =
+        new ServiceMessageCodec(
+            HeadersCodec.getInstance(codec.headersFormat()), codec.isSingleBuffer(), 0);
+    PlaceOrderRequest data = data();
+    data.token = String.join(".", Collections.nCopies(100, data.token));
+    ServiceMessage message =
+        ServiceMessage.builder()
+            .qualifier(qualifier())
+            .dataFormat(contentType)
+            .data(data)
+            .headers(headers())
+            .build();
+
+    Payload payload = compressingCodec.encodeAndTransform(message, ByteBufPayload::create);
+    int dataLength = payload.sliceData().readableBytes();
+
+    // decoded by codec without compression
+    ServiceMessage encoded = codec.decode(payload.sliceData(), payload.sliceMetadata());
+    String dataEncoding = encoded.header(ServiceMessage.HEADER_DATA_ENCODING);
+    ServiceMessage actual = ServiceMessageCodec.decodeData(encoded, PlaceOrderRequest.class);
+
+    assertAll(
+        () -> assertEquals("deflate", dataEncoding),
+        () -> assertTrue(dataLength < data.token.length() / 10, "data length: " + dataLength),
+        () -> assertEquals(message.headers(), actual.headers()),
+        () -> assertEquals(message.data(), actual.data()));
+  }
+
+  @ParameterizedTest(name = "{0}, headers: {1}")
+  @ArgumentsSource(MessageCodecProvider.class)
+  void encodeOnceWithDataCache(String contentType, ServiceMessageCodec codec) {
+    PlaceOrderRequest data = data();
+    for (int compressionThreshold : new int[] {-1, 0}) {
+      ServiceMessageCodec cachingCodec =
+          new ServiceMessageCodec(
+              HeadersCodec.getInstance(codec.headersFormat()),
+              codec.isSingleBuffer(),
+              compressionThreshold,
+              16);
+
+      for (int i = 0; i < 3; i++) {
+        ServiceMessage message =
+            ServiceMessage.builder()
+                .qualifier(qualifier())
+                .streamId(String.valueOf(i))
+                .dataFormat(contentType)
+                .data(data)
+                .build();
+
+        Payload payload = cachingCodec.encodeAndTransform(message, ByteBufPayload::create);
+        ServiceMessage actual =
+            ServiceMessageCodec.decodeData(
+                codec.decode(payload.sliceData().retain(), payload.sliceMetadata().retain()),
+                PlaceOrderRequest.class);
+        payload.release();
+
+        assertAll(
+            () -> assertEquals(message.headers(), actual.headers()),
+            () -> assertEquals(message.data(), actual.data()));
+      }
+    }
+  }
+
+  @Test
+  void encodeCompressedDataLargerThanSpareSpaceOfSingleBuffer() {
+    ServiceMessageCodec codec =
+        new ServiceMessageCodec(HeadersCodec.getInstance(JacksonCodec.CONTENT_TYPE), true, 0);
+    // hex digits deflate to about a half, which is more than encode buffer has left after them
+    byte[] bytes = new byte[64 * 1024];
+    new Random(42).nextBytes(bytes);
+    PlaceOrderRequest data = data();
+    data.token = ByteBufUtil.hexDump(bytes);
+    ServiceMessage message =
+        ServiceMessage.builder()
+            .qualifier(qualifier())
+            .dataFormat(JacksonCodec.CONTENT_TYPE)
+            .data(data)
+            .build();
+
+    Payload payload = codec.encodeAndTransform(message, ByteBufPayload::create);
+    int dataLength = payload.sliceData().readableBytes();
+    ServiceMessage encoded = codec.decode(payload.sliceData(), payload.sliceMetadata());
+    ServiceMessage actual = ServiceMessageCodec.decodeData(encoded, PlaceOrderRequest.class);
+
+    assertAll(
+        () -> assertEquals("deflate", encoded.header(ServiceMessage.HEADER_DATA_ENCODING)),
+        () -> assertTrue(dataLength > data.token.length() / 3, "data length: " + dataLength),
+        () -> assertTrue(dataLength < data.token.length(), "data length: " + dataLength),
+        () -> assertEquals(message.data(), actual.data()));
+  }
+
+  @Test
+  void encodeTimeRemainingToDeadlineAtEncodeTime() throws Exception {
+    ServiceMessageCodec codec =
+        new ServiceMessageCodec(HeadersCodec.getInstance(JacksonCodec.CONTENT_TYPE));
+    ServiceMessage message =
+        Deadline.after(Duration.ofSeconds(3))
+            .applyTo(ServiceMessage.builder().qualifier(qualifier()).build());
+    Thread.sleep(500); // e.g. waiting for connection
+
+    Payload payload = codec.encodeAndTransform(message, ByteBufPayload::create);
+    Duration timeout = codec.decode(payload.sliceData(), payload.sliceMetadata()).timeout();
+
+    assertTrue(timeout.compareTo(Duration.ofMillis(2500)) <= 0, timeout.toString());
+    assertTrue(timeout.compareTo(Duration.ofSeconds(2)) > 0, timeout.toString());
+  }
+
+  @Test
+  void rejectCompressionIntoSourceBuffer() {
+    ByteBuf buffer = Unpooled.buffer().writeBytes(new byte[1024]);
+    try {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> DataCompression.compress(buffer, 0, buffer.readableBytes(), buffer));
+    } finally {
+      buffer.release();
+    }
+  }
+
+  @Test
+  void rejectDataInflatedBeyondMaxLength() {
+    // 32 MB of zeros deflate to a few dozen KB
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    deflater.setInput(new byte[32 * 1024 * 1024]);
+    deflater.finish();
+    ByteBuf compressed = Unpooled.buffer();
+    byte[] chunk = new byte[8 * 1024];
+    while (!deflater.finished()) {
+      compressed.writeBytes(chunk, 0, deflater.deflate(chunk));
+    }
+    deflater.end();
+
+    ServiceMessage message =
+        ServiceMessage.builder()
+            .qualifier(qualifier())
+            .header(ServiceMessage.HEADER_DATA_ENCODING, "deflate")
+            .data(compressed)
+            .build();
+
+    assertThrows(
+        BadRequestException.class,
+        () -> ServiceMessageCodec.decodeData(message, PlaceOrderRequest.class));
+    assertEquals(0, compressed.refCnt());
+  }
+
   private String qualifier() {
     return "io.scalecube.services.tests/SomeService/test";
   }
@@ -86,11 +248,34 @@ class ServiceMessageCodecTest extends BaseTest {
 
     @Override
     public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
-      return Stream.of(JacksonCodec.CONTENT_TYPE, ProtostuffCodec.CONTENT_TYPE)
-          .map(
-              contentType ->
-                  Arguments.of(
-                      contentType, new ServiceMessageCodec(HeadersCodec.getInstance(contentType))));
+      Stream<Arguments> sameHeadersFormat =
+          Stream.of(
+                  JacksonCodec.CONTENT_TYPE,
+                  ProtostuffCodec.CONTENT_TYPE,
+                  SmileCodec.CONTENT_TYPE,
+                  CborCodec.CONTENT_TYPE)
+              .map(
+                  contentType ->
+                      Arguments.of(
+                          contentType,
+                          new ServiceMessageCodec(HeadersCodec.getInstance(contentType))));
+      Stream<Arguments> binaryHeadersFormat =
+          Stream.of(JacksonCodec.CONTENT_TYPE, ProtostuffCodec.CONTENT_TYPE)
+              .map(
+                  contentType ->
+                      Arguments.of(
+                          contentType,
+                          new ServiceMessageCodec(
+                              HeadersCodec.getInstance(BinaryHeadersCodec.CONTENT_TYPE))));
+      Stream<Arguments> singleBuffer =
+          Stream.of(JacksonCodec.CONTENT_TYPE, ProtostuffCodec.CONTENT_TYPE)
+              .map(
+                  contentType ->
+                      Arguments.of(
+                          contentType,
+                          new ServiceMessageCodec(HeadersCodec.getInstance(contentType), true)));
+      return Stream.of(sameHeadersFormat, binaryHeadersFormat, singleBuffer)
+          .flatMap(arguments -> arguments);
     }
   }
 
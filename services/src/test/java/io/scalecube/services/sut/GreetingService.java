@@ -65,4 +65,10 @@ public interface GreetingService {
 
   @ServiceMethod
   Flux<GreetingResponse> greetingFluxEmpty(GreetingRequest request);
+
+  @ServiceMethod
+  Mono<String> currentThreadName();
+
+  @ServiceMethod
+  GreetingResponse greetingBlocking(GreetingRequest request);
 }
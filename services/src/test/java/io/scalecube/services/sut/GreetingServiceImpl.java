@@ -4,6 +4,7 @@ import io.scalecube.services.Microservices;
 import io.scalecube.services.annotations.Inject;
 import io.scalecube.services.api.ServiceMessage;
 import io.scalecube.services.exceptions.UnauthorizedException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -16,6 +17,8 @@ public final class GreetingServiceImpl implements GreetingService {
 
   private boolean ci = System.getenv("TRAVIS") != null;
 
+  private final AtomicInteger notifications = new AtomicInteger();
+
   public GreetingServiceImpl() {}
 
   public GreetingServiceImpl(int id) {
@@ -32,6 +35,17 @@ public final class GreetingServiceImpl implements GreetingService {
     return Mono.just(" hello to: " + name);
   }
 
+  @Override
+  public Mono<String> currentThreadName() {
+    return Mono.just(Thread.currentThread().getName());
+  }
+
+  @Override
+  public GreetingResponse greetingBlocking(GreetingRequest request) {
+    String threadName = Thread.currentThread().getName();
+    return new GreetingResponse(" hello to: " + request.getName(), threadName);
+  }
+
   @Override
   public Mono<GreetingResponse> greetingPojo(GreetingRequest name) {
     return Mono.just(new GreetingResponse(" hello to: " + name));
@@ -137,6 +151,11 @@ public final class GreetingServiceImpl implements GreetingService {
   @Override
   public void notifyGreeting() {
     print("[notifyGreeting] Hello... i am a service and i just notefied");
+    notifications.incrementAndGet();
+  }
+
+  public int notifications() {
+    return notifications.get();
   }
 
   private void print(String message) {